@@ -2,8 +2,15 @@ package com.amberlight.test.web.apps.book.book.core.api.client;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.AcceptedCommandDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookAuthorDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.RepriceBooksDocument;
+import feign.Headers;
+import feign.Param;
 import feign.RequestLine;
 import org.springframework.validation.annotation.Validated;
 
@@ -12,10 +19,46 @@ import javax.validation.constraints.NotNull;
 @Validated
 public interface BookCoreCommandClient {
 
+    /**
+     * Header of the idempotency key of a command, a command repeated with the same key
+     * is not executed again and gets the document of the first execution. A key reused with
+     * another command is answered with 422.
+     */
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @RequestLine("POST /book/create")
     CreateBookDocument process(@NotNull CreateBookCommand command);
 
+    @RequestLine("POST /book/create")
+    @Headers(IDEMPOTENCY_KEY_HEADER + ": {idempotencyKey}")
+    CreateBookDocument process(@NotNull CreateBookCommand command, @Param("idempotencyKey") String idempotencyKey);
+
+    @RequestLine("POST /book/create-many")
+    CreateBooksDocument process(@NotNull CreateBooksCommand command);
+
+    @RequestLine("POST /book/create-many")
+    @Headers(IDEMPOTENCY_KEY_HEADER + ": {idempotencyKey}")
+    CreateBooksDocument process(@NotNull CreateBooksCommand command, @Param("idempotencyKey") String idempotencyKey);
+
+    @RequestLine("POST /book/reprice")
+    RepriceBooksDocument process(@NotNull RepriceBooksCommand command);
+
+    @RequestLine("POST /book/reprice")
+    @Headers(IDEMPOTENCY_KEY_HEADER + ": {idempotencyKey}")
+    RepriceBooksDocument process(@NotNull RepriceBooksCommand command, @Param("idempotencyKey") String idempotencyKey);
+
     @RequestLine("POST /book/author/create")
     CreateBookAuthorDocument process(@NotNull CreateBookAuthorCommand command);
 
+    @RequestLine("POST /book/author/create")
+    @Headers(IDEMPOTENCY_KEY_HEADER + ": {idempotencyKey}")
+    CreateBookAuthorDocument process(@NotNull CreateBookAuthorCommand command,
+                                     @Param("idempotencyKey") String idempotencyKey);
+
+    @RequestLine("POST /book/create-async")
+    AcceptedCommandDocument processAsync(@NotNull CreateBookCommand command);
+
+    @RequestLine("POST /book/author/create-async")
+    AcceptedCommandDocument processAsync(@NotNull CreateBookAuthorCommand command);
+
 }
@@ -1,10 +1,22 @@
 package com.amberlight.test.web.apps.book.book.core.api.client;
 
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CommandStatusDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.SearchBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindCommandStatusQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindImportJobQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.SearchBooksQuery;
 import feign.RequestLine;
+import feign.Response;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.NotNull;
@@ -12,10 +24,38 @@ import javax.validation.constraints.NotNull;
 @Validated
 public interface BookCoreQueryClient {
 
+    /**
+     * Header of the commit time of the last write of a client, in epoch milliseconds. It is answered to
+     * the commands which write, a client sending it back with its queries reads its own writes.
+     */
+    String LAST_WRITE_HEADER = "Book-Core-Last-Write";
+
     @RequestLine("POST /book/find-one")
     FindBookDocument process(@NotNull FindBookQuery query);
 
+    @RequestLine("POST /book/find-many")
+    FindBooksDocument process(@NotNull FindBooksQuery query);
+
+    @RequestLine("POST /book/search")
+    SearchBooksDocument process(@NotNull SearchBooksQuery query);
+
+    /**
+     * Streams all books as gzip-compressed newline-delimited JSON, one {@code BookExportDto} per line. The
+     * caller reads {@code response.body()} and must close the response.
+     */
+    @RequestLine("POST /book/export")
+    Response process(@NotNull ExportBooksQuery query);
+
+    @RequestLine("POST /book/import/find-one")
+    ImportJobDocument process(@NotNull FindImportJobQuery query);
+
+    @RequestLine("POST /book/command/find-one")
+    CommandStatusDocument process(@NotNull FindCommandStatusQuery query);
+
     @RequestLine("POST /book/author/find-one")
     FindBookAuthorDocument process(@NotNull FindBookAuthorQuery query);
 
+    @RequestLine("POST /book/author/find-many")
+    FindBookAuthorsDocument process(@NotNull FindBookAuthorsQuery query);
+
 }
@@ -0,0 +1,26 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Import of the books of an uploaded file, sent as the request body.
+ * <p>
+ * With the {@code ndjson} format every line is a book document with the genre given by id and the authors
+ * given by first and last name. With the {@code csv} format the file has a header line and the columns
+ * {@code name, description, genre_id, price, published, authors}, where the authors are separated by
+ * {@code ;} and the last word of an author is the last name.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportBooksCommand {
+
+    private String format;
+
+}
@@ -0,0 +1,73 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Changes the prices of the books matched by the {@link #selector} with the {@link #operation}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RepriceBooksCommand {
+
+    private Selector selector;
+
+    private Operation operation;
+
+    /**
+     * Books matching all the given criteria, at least one is required.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Selector {
+
+        private Long genreId;
+
+        private Long typeId;
+
+        /**
+         * Inclusive.
+         */
+        private LocalDateTime publishedFrom;
+
+        /**
+         * Exclusive.
+         */
+        private LocalDateTime publishedTo;
+
+    }
+
+    /**
+     * The price is multiplied by the {@link #factor}, then the {@link #addend} is added and the result is clamped
+     * to the {@link #minPrice} and {@link #maxPrice}, every given step is applied as a monetary amount operation.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Operation {
+
+        private BigDecimal factor;
+
+        private BigDecimal addend;
+
+        private BigDecimal minPrice;
+
+        private BigDecimal maxPrice;
+
+    }
+
+}
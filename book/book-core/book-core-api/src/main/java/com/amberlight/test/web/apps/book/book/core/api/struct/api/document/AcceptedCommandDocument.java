@@ -0,0 +1,21 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.document;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Acknowledges a command queued for asynchronous processing, its state is found by the tracking id.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AcceptedCommandDocument {
+
+    private String trackingId;
+
+}
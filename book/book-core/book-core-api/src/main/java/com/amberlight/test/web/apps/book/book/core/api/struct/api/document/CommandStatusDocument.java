@@ -0,0 +1,33 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.document;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of an asynchronous command.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CommandStatusDocument {
+
+    private String trackingId;
+
+    /**
+     * One of {@code PENDING}, {@code COMPLETED}, {@code FAILED}.
+     */
+    private String status;
+
+    /**
+     * Id of the created entity of a completed command.
+     */
+    private Long entityId;
+
+    private String error;
+
+}
@@ -0,0 +1,39 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.document;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ids of the created books in the order of the command books. A {@code null} element of {@link #bookIds}
+ * marks a book that was not created, the reason is listed in {@link #errors} under the same index.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CreateBooksDocument {
+
+    private List<Long> bookIds;
+
+    private List<ItemError> errors;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemError {
+
+        private Integer index;
+
+        private String message;
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.document;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Authors in the order of the requested ids. A {@code null} element of {@link #authors} marks an author that
+ * was not found, the ids of such authors are also listed in {@link #notFoundIds}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FindBookAuthorsDocument {
+
+    private List<AuthorDto> authors;
+
+    private List<Long> notFoundIds;
+
+}
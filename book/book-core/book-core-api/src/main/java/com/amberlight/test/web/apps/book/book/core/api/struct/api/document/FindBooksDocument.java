@@ -0,0 +1,27 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.document;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Books in the order of the requested ids. A {@code null} element of {@link #books} marks a book that was
+ * not found, the ids of such books are also listed in {@link #notFoundIds}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FindBooksDocument {
+
+    private List<BookDto> books;
+
+    private List<Long> notFoundIds;
+
+}
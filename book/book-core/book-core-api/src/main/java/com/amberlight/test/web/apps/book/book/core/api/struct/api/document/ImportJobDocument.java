@@ -0,0 +1,52 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.document;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * State of an import job. Only the first rejected rows are listed in {@link #rejects},
+ * {@link #rejectedRows} counts all of them.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobDocument {
+
+    private String id;
+
+    /**
+     * One of {@code QUEUED}, {@code RUNNING}, {@code COMPLETED}, {@code FAILED}.
+     */
+    private String status;
+
+    private Long processedRows;
+
+    private Long importedBooks;
+
+    private Long rejectedRows;
+
+    private List<RowReject> rejects;
+
+    private String error;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowReject {
+
+        private Long line;
+
+        private String message;
+
+    }
+
+}
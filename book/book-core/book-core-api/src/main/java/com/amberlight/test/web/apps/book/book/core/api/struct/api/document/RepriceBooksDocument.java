@@ -0,0 +1,27 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.document;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counts of the books matched by a reprice command. A matched book is repriced if its price changed, or rejected
+ * if an operation step produced an invalid monetary amount or the price would not be positive, then it keeps its
+ * price.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RepriceBooksDocument {
+
+    private Long matchedBooks;
+
+    private Long repricedBooks;
+
+    private Long rejectedBooks;
+
+}
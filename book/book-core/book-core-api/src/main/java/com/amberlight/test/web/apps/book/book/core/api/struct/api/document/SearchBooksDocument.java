@@ -0,0 +1,30 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.document;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A page of books ordered by {@code (published, id)}. The cursor of the next page is {@code null} when this
+ * is the last page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchBooksDocument {
+
+    private List<BookDto> books;
+
+    private LocalDateTime nextAfterPublished;
+
+    private Long nextAfterId;
+
+}
@@ -0,0 +1,22 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.query;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Export of all books ordered by id. An interrupted export is resumed by passing the id of the last book
+ * received as {@link #afterId}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExportBooksQuery {
+
+    private Long afterId;
+
+}
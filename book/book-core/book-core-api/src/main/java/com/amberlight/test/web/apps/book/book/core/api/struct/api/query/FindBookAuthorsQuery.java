@@ -0,0 +1,20 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.query;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FindBookAuthorsQuery {
+
+    private List<Long> ids;
+
+}
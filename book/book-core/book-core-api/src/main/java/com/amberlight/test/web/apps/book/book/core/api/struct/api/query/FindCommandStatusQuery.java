@@ -0,0 +1,18 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.query;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FindCommandStatusQuery {
+
+    private String trackingId;
+
+}
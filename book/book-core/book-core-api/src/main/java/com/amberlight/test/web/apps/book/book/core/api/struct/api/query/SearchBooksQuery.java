@@ -0,0 +1,47 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.api.query;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Filtered search over books ordered by {@code (published, id)}. The next page is requested by passing the
+ * {@code nextAfterPublished}/{@code nextAfterId} cursor of the previous {@code SearchBooksDocument} as
+ * {@link #afterPublished}/{@link #afterId}. All filters are optional and ranges are inclusive.
+ * <p>
+ * The books of an author document beyond its first page are read with {@link #authorId}, continuing from the
+ * last book of the document.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchBooksQuery {
+
+    private Long genreId;
+
+    private Long typeId;
+
+    private Long authorId;
+
+    private BigDecimal minPrice;
+
+    private BigDecimal maxPrice;
+
+    private LocalDateTime publishedFrom;
+
+    private LocalDateTime publishedTo;
+
+    private LocalDateTime afterPublished;
+
+    private Long afterId;
+
+    private Integer limit;
+
+}
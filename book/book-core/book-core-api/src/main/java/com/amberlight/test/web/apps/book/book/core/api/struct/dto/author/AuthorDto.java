@@ -20,4 +20,9 @@ public class AuthorDto implements Serializable {
     private String firstName;
     private String lastName;
     private Set<BookDto> books;
+    /**
+     * {@code true} when {@link #books} holds only the first page of the books by {@code (published, id)}, the
+     * rest is paged through {@code SearchBooksQuery.authorId}.
+     */
+    private Boolean hasMoreBooks;
 }
@@ -0,0 +1,30 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.dto.book;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A line of the book export, a book with the ids of its genre and authors.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookExportDto implements Serializable {
+    private Long id;
+    private String name;
+    private String description;
+    private Long genreId;
+    private BigDecimal price;
+    private LocalDateTime published;
+    private List<Long> authorIds;
+}
@@ -0,0 +1,41 @@
+package com.amberlight.test.web.apps.book.book.core.api.struct.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Change event of a book or an author. It is published to Kafka keyed by the aggregate id,
+ * the payload is the JSON document of the changed aggregate.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OutboxEventDto implements Serializable {
+
+    public static final String AGGREGATE_BOOK = "BOOK";
+
+    public static final String AGGREGATE_AUTHOR = "AUTHOR";
+
+    public static final String EVENT_CREATED = "CREATED";
+
+    private Long id;
+
+    private String aggregateType;
+
+    private Long aggregateId;
+
+    private String eventType;
+
+    private String payload;
+
+    private LocalDateTime created;
+
+}
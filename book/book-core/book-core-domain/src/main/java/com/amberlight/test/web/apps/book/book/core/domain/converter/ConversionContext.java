@@ -0,0 +1,104 @@
+package com.amberlight.test.web.apps.book.book.core.domain.converter;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * State of one entity-to-DTO conversion call: which associations may be followed, how deep, and which
+ * entities were already converted.
+ * <p>
+ * Every entity is converted at most once per context, a second visit gets the same DTO instance back. An
+ * entity that is reached again through its own association (a back-reference such as book, author, book) is
+ * left out instead, so the output never contains a cycle. A context is meant for a single call and is not
+ * thread-safe.
+ * <p>
+ * Sample usage, a book with its authors but without the books of the authors:
+ *
+ * <pre>
+ * bookToBookDto.convert(book, ConversionContext.of(1, Association.BOOK_AUTHORS));
+ * </pre>
+ */
+public final class ConversionContext {
+
+    /**
+     * Entity associations a conversion may follow.
+     */
+    public enum Association {
+        BOOK_AUTHORS,
+        AUTHOR_BOOKS,
+        GENRE_BOOKS,
+        TYPE_GENRES
+    }
+
+    private static final Object IN_PROGRESS = new Object();
+
+    private final int maxDepth;
+
+    private final Set<Association> associations;
+
+    private final Map<Object, Object> converted = new IdentityHashMap<>();
+
+    private int depth;
+
+    private ConversionContext(int maxDepth, Set<Association> associations) {
+        this.maxDepth = maxDepth;
+        this.associations = associations;
+    }
+
+    /**
+     * Creates a context for a single conversion call.
+     *
+     * @param maxDepth max number of associations followed from the root entity
+     * @param associations associations that may be followed
+     * @return a new context
+     */
+    public static ConversionContext of(int maxDepth, Association... associations) {
+        Set<Association> followed = EnumSet.noneOf(Association.class);
+        Collections.addAll(followed, associations);
+        return new ConversionContext(maxDepth, followed);
+    }
+
+    /**
+     * Tells whether the entity being converted may follow the association.
+     *
+     * @param association the association
+     * @return {@code true} if the association is part of the shape and the max depth is not reached
+     */
+    public boolean follows(Association association) {
+        return associations.contains(association) && depth <= maxDepth;
+    }
+
+    /**
+     * Converts an entity once.
+     *
+     * @param source the entity
+     * @param conversion builds the DTO, may convert associations through this context
+     * @param <T> DTO type
+     * @return the DTO, the one built before if the entity was already converted, or {@code null} if the entity
+     * is still being converted further up the current path
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object source, Supplier<T> conversion) {
+        Object existing = converted.get(source);
+        if (existing == IN_PROGRESS) {
+            return null;
+        }
+        if (existing != null) {
+            return (T) existing;
+        }
+        converted.put(source, IN_PROGRESS);
+        depth++;
+        try {
+            T target = conversion.get();
+            converted.put(source, target);
+            return target;
+        } finally {
+            depth--;
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.amberlight.test.web.apps.book.book.core.domain.converter.author;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext.Association;
 import com.amberlight.test.web.apps.book.book.core.domain.converter.book.BookToBookDto;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
 import org.hibernate.Hibernate;
@@ -9,6 +11,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
@@ -20,14 +23,26 @@ public class AuthorToAuthorDto implements Converter<Author, AuthorDto> {
         this.bookToBookDto = bookToBookDto;
     }
 
+    /**
+     * Converts an author with its books, without the authors of the books.
+     */
     @Override
     public AuthorDto convert(Author source) {
-        AuthorDto.AuthorDtoBuilder builder = AuthorDto.builder();
-        builder.id(source.getId()).firstName(source.getFirstName()).lastName(source.getLastName());
-        if (Hibernate.isInitialized(source.getBooks()) && source.getBooks() != null) {
-            builder.books(source.getBooks().stream().map(book -> bookToBookDto.convert(book)).collect(Collectors.toSet()));
-        }
-        return builder.build();
+        return convert(source, ConversionContext.of(1, Association.AUTHOR_BOOKS));
+    }
+
+    public AuthorDto convert(Author source, ConversionContext context) {
+        return context.convert(source, () -> {
+            AuthorDto.AuthorDtoBuilder builder = AuthorDto.builder();
+            builder.id(source.getId()).firstName(source.getFirstName()).lastName(source.getLastName());
+            if (context.follows(Association.AUTHOR_BOOKS)
+                    && Hibernate.isInitialized(source.getBooks()) && source.getBooks() != null) {
+                builder.books(source.getBooks().stream()
+                        .map(book -> bookToBookDto.convert(book, context))
+                        .filter(Objects::nonNull).collect(Collectors.toSet()));
+            }
+            return builder.build();
+        });
     }
 
 }
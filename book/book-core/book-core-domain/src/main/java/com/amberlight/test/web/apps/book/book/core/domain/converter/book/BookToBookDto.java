@@ -1,14 +1,19 @@
 package com.amberlight.test.web.apps.book.book.core.domain.converter.book;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext.Association;
 import com.amberlight.test.web.apps.book.book.core.domain.converter.author.AuthorToAuthorDto;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
@@ -16,27 +21,39 @@ public class BookToBookDto implements Converter<Book, BookDto> {
 
     private AuthorToAuthorDto authorToAuthorDto;
 
-    private GenreToGenreDto genreToGenreDto;
+    private GenreTypeRegistry genreTypeRegistry;
 
     public BookToBookDto(@Lazy AuthorToAuthorDto authorToAuthorDto,
-                         @Lazy GenreToGenreDto genreToGenreDto) {
+                         GenreTypeRegistry genreTypeRegistry) {
         this.authorToAuthorDto = authorToAuthorDto;
-        this.genreToGenreDto = genreToGenreDto;
+        this.genreTypeRegistry = genreTypeRegistry;
     }
 
+    /**
+     * Converts a book with its authors, without the books of the authors.
+     */
     @Override
     public BookDto convert(Book source) {
-        BookDto.BookDtoBuilder builder = BookDto.builder();
-        builder.id(source.getId()).name(source.getName()).description(source.getDescription())
-                .published(source.getPublished()).price(source.getPrice());
-        if (Hibernate.isInitialized(source.getGenre()) && source.getGenre() != null) {
-            builder.genre(genreToGenreDto.convert(source.getGenre()));
-        }
-        if (Hibernate.isInitialized(source.getAuthors()) && source.getAuthors() != null) {
-            builder.authors(source.getAuthors().stream()
-                    .map(author -> authorToAuthorDto.convert(author)).collect(Collectors.toSet()));
-        }
-        return builder.build();
+        return convert(source, ConversionContext.of(1, Association.BOOK_AUTHORS));
+    }
+
+    public BookDto convert(Book source, ConversionContext context) {
+        return context.convert(source, () -> {
+            BookDto.BookDtoBuilder builder = BookDto.builder();
+            builder.id(source.getId()).name(source.getName()).description(source.getDescription())
+                    .published(source.getPublished()).price(source.getPrice());
+            if (source.getGenreId() != null) {
+                GenreDto genre = genreTypeRegistry.getGenre(source.getGenreId());
+                builder.genre(genre != null ? genre : GenreDto.builder().id(source.getGenreId()).build());
+            }
+            if (context.follows(Association.BOOK_AUTHORS)
+                    && Hibernate.isInitialized(source.getAuthors()) && source.getAuthors() != null) {
+                builder.authors(source.getAuthors().stream()
+                        .map(author -> authorToAuthorDto.convert(author, context))
+                        .filter(Objects::nonNull).collect(Collectors.toSet()));
+            }
+            return builder.build();
+        });
     }
 
 }
@@ -1,39 +1,56 @@
 package com.amberlight.test.web.apps.book.book.core.domain.converter.book;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.TypeDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext.Association;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
 public class GenreToGenreDto implements Converter<Genre, GenreDto> {
 
-    private TypeToTypeDto typeToTypeDto;
+    private GenreTypeRegistry genreTypeRegistry;
 
     private BookToBookDto bookToBookDto;
 
-    public GenreToGenreDto(@Lazy TypeToTypeDto typeToTypeDto, @Lazy BookToBookDto bookToBookDto) {
-        this.typeToTypeDto = typeToTypeDto;
+    public GenreToGenreDto(GenreTypeRegistry genreTypeRegistry, @Lazy BookToBookDto bookToBookDto) {
+        this.genreTypeRegistry = genreTypeRegistry;
         this.bookToBookDto = bookToBookDto;
     }
 
+    /**
+     * Converts a genre with its type and books, without the authors of the books.
+     */
     @Override
     public GenreDto convert(Genre source) {
-        GenreDto.GenreDtoBuilder builder = GenreDto.builder();
-        builder.id(source.getId()).name(source.getName());
-        if (Hibernate.isInitialized(source.getType()) && source.getType() != null) {
-            builder.type(typeToTypeDto.convert(source.getType()));
-        }
-        if (Hibernate.isInitialized(source.getBooks()) && source.getBooks() != null) {
-            builder.books(source.getBooks().stream()
-                    .map(book -> bookToBookDto.convert(book)).collect(Collectors.toList()));
-        }
-        return builder.build();
+        return convert(source, ConversionContext.of(1, Association.GENRE_BOOKS));
+    }
+
+    public GenreDto convert(Genre source, ConversionContext context) {
+        return context.convert(source, () -> {
+            GenreDto.GenreDtoBuilder builder = GenreDto.builder();
+            builder.id(source.getId()).name(source.getName());
+            if (source.getTypeId() != null) {
+                TypeDto type = genreTypeRegistry.getType(source.getTypeId());
+                builder.type(type != null ? type : TypeDto.builder().id(source.getTypeId()).build());
+            }
+            if (context.follows(Association.GENRE_BOOKS)
+                    && Hibernate.isInitialized(source.getBooks()) && source.getBooks() != null) {
+                builder.books(source.getBooks().stream()
+                        .map(book -> bookToBookDto.convert(book, context))
+                        .filter(Objects::nonNull).collect(Collectors.toList()));
+            }
+            return builder.build();
+        });
     }
 
 }
@@ -1,5 +1,7 @@
 package com.amberlight.test.web.apps.book.book.core.domain.converter.book;
 
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext.Association;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Type;
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.TypeDto;
 import org.hibernate.Hibernate;
@@ -8,6 +10,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
@@ -19,15 +22,26 @@ public class TypeToTypeDto implements Converter<Type, TypeDto> {
         this.genreToGenreDto = genreToGenreDto;
     }
 
+    /**
+     * Converts a type with its genres, without the books of the genres.
+     */
     @Override
     public TypeDto convert(Type source) {
-        TypeDto.TypeDtoBuilder builder = TypeDto.builder();
-        builder.id(source.getId()).name(source.getName());
-        if (Hibernate.isInitialized(source.getGenres()) && source.getGenres() != null) {
-            builder.genres(source.getGenres().stream()
-                    .map(genre -> genreToGenreDto.convert(genre)).collect(Collectors.toSet()));
-        }
-        return builder.build();
+        return convert(source, ConversionContext.of(1, Association.TYPE_GENRES));
+    }
+
+    public TypeDto convert(Type source, ConversionContext context) {
+        return context.convert(source, () -> {
+            TypeDto.TypeDtoBuilder builder = TypeDto.builder();
+            builder.id(source.getId()).name(source.getName());
+            if (context.follows(Association.TYPE_GENRES)
+                    && Hibernate.isInitialized(source.getGenres()) && source.getGenres() != null) {
+                builder.genres(source.getGenres().stream()
+                        .map(genre -> genreToGenreDto.convert(genre, context))
+                        .filter(Objects::nonNull).collect(Collectors.toSet()));
+            }
+            return builder.build();
+        });
     }
 
 }
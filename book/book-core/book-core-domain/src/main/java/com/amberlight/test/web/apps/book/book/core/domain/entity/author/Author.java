@@ -3,6 +3,8 @@ package com.amberlight.test.web.apps.book.book.core.domain.entity.author;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -22,7 +24,8 @@ import java.util.Set;
 public class Author {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "author_id_seq")
+    @SequenceGenerator(name = "author_id_seq", sequenceName = "author_id_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -34,6 +37,11 @@ public class Author {
     @Column(name = "last_name", nullable = false)
     private String lastName;
 
+    /**
+     * Not initialized by the read paths, which load a bounded page of the books through
+     * {@code BookAuthorRepository#findBookPageIds}. When accessed, loaded by one extra query for all the
+     * authors of the query which loaded this author, instead of being joined into the author rows.
+     */
     @ManyToMany(fetch = FetchType.LAZY,
             cascade = {
                     CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.PERSIST
@@ -41,6 +49,7 @@ public class Author {
     @JoinTable(name = "author_book",
             joinColumns = @JoinColumn(name = "author_id"),
             inverseJoinColumns = @JoinColumn(name = "books_id"))
+    @Fetch(FetchMode.SUBSELECT)
     @ToString.Exclude
     private Set<Book> books = new LinkedHashSet<>();
 
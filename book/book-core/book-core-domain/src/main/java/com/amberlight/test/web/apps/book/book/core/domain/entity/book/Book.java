@@ -25,22 +25,14 @@ import java.util.Set;
 @Table(name = "book")
 @NamedEntityGraph(name = "BookBasicWithAuthors",
         attributeNodes = {
-                @NamedAttributeNode("authors"),
-                @NamedAttributeNode(value = "genre", subgraph = "genre-type")
-        },
-        subgraphs = {
-                @NamedSubgraph(
-                        name = "genre-type",
-                        attributeNodes = {
-                                @NamedAttributeNode("type")
-                        }
-                )
+                @NamedAttributeNode("authors")
         }
 )
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_id_seq")
+    @SequenceGenerator(name = "book_id_seq", sequenceName = "book_id_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -61,6 +53,13 @@ public class Book {
     @ToString.Exclude
     private Genre genre;
 
+    /**
+     * Read-only view of the {@code genre_id} column, resolved through the genre registry instead of the
+     * {@link #genre} association.
+     */
+    @Column(name = "genre_id", insertable = false, updatable = false)
+    private Long genreId;
+
     @NonNull
     @DecimalMin(value = "0", message = "The value can not be negative")
     @DecimalMax(value = MonetaryAmount.MAX_MONETARY_VALUE, message = "The value can not be greater than "
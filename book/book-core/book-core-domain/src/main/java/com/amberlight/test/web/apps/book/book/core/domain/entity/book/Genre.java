@@ -21,7 +21,8 @@ import java.util.Objects;
 public class Genre {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "genre_id_seq")
+    @SequenceGenerator(name = "genre_id_seq", sequenceName = "genre_id_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -38,6 +39,12 @@ public class Genre {
     @ToString.Exclude
     private Type type;
 
+    /**
+     * Read-only view of the {@code type_id} column.
+     */
+    @Column(name = "type_id", insertable = false, updatable = false)
+    private Long typeId;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -18,7 +18,8 @@ import java.util.*;
 public class Type {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "type_id_seq")
+    @SequenceGenerator(name = "type_id_seq", sequenceName = "type_id_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
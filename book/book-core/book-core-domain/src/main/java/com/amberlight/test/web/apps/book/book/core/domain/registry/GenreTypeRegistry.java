@@ -0,0 +1,160 @@
+package com.amberlight.test.web.apps.book.book.core.domain.registry;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.TypeDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Type;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.TypeRepository;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory registry of the book genres and types, so that reads do not have to join the {@code genre} and
+ * {@code type} tables.
+ * <p>
+ * Both tables are a small seeded dataset. They are loaded at startup into arrays indexed by id and reloaded
+ * periodically, each load replaces the whole snapshot at once. Callers get their own copy of a DTO, as the
+ * DTOs are mutable and end up in the responses. A load that changes the snapshot publishes a
+ * {@link ReloadedEvent}, so that the holders of documents built from the previous one can drop them.
+ */
+@Component("genreTypeRegistry")
+public class GenreTypeRegistry {
+
+    private GenreRepository genreRepository;
+
+    private TypeRepository typeRepository;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = new Snapshot(new GenreDto[0], new TypeDto[0]);
+
+    public GenreTypeRegistry(GenreRepository genreRepository, TypeRepository typeRepository,
+                             ApplicationEventPublisher eventPublisher) {
+        this.genreRepository = genreRepository;
+        this.typeRepository = typeRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Loads the genres and types and replaces the current snapshot if anything changed, a replaced snapshot is
+     * announced by a {@link ReloadedEvent}.
+     */
+    @PostConstruct
+    @Scheduled(initialDelayString = "${book-core.registry.reload-interval:PT5M}",
+            fixedDelayString = "${book-core.registry.reload-interval:PT5M}")
+    public void reload() {
+        List<Type> types = typeRepository.findAll();
+        List<Genre> genres = genreRepository.findAll();
+
+        TypeDto[] typesById = new TypeDto[types.stream().mapToInt(type -> type.getId().intValue()).max().orElse(-1) + 1];
+        for (Type type : types) {
+            typesById[type.getId().intValue()] = TypeDto.builder().id(type.getId()).name(type.getName()).build();
+        }
+        GenreDto[] genresById = new GenreDto[genres.stream().mapToInt(genre -> genre.getId().intValue()).max().orElse(-1) + 1];
+        for (Genre genre : genres) {
+            genresById[genre.getId().intValue()] = GenreDto.builder().id(genre.getId()).name(genre.getName())
+                    .type(get(typesById, genre.getTypeId())).build();
+        }
+
+        Snapshot reloaded = new Snapshot(genresById, typesById);
+        if (!reloaded.equals(snapshot)) {
+            snapshot = reloaded;
+            eventPublisher.publishEvent(new ReloadedEvent(this));
+        }
+    }
+
+    /**
+     * Gets a genre with its type.
+     *
+     * @param id genre id, may be {@code null}
+     * @return a copy of the genre or {@code null} if there is no such genre
+     */
+    public GenreDto getGenre(Long id) {
+        GenreDto genre = get(snapshot.genres, id);
+        return genre == null ? null : genre.toBuilder().type(copy(genre.getType())).build();
+    }
+
+    /**
+     * Gets a type, without its genres.
+     *
+     * @param id type id, may be {@code null}
+     * @return a copy of the type or {@code null} if there is no such type
+     */
+    public TypeDto getType(Long id) {
+        return copy(get(snapshot.types, id));
+    }
+
+    /**
+     * Gets the ids of the genres of a type.
+     *
+     * @param typeId type id
+     * @return ids of the genres of the type, empty if there is no such type
+     */
+    public Set<Long> getGenreIds(Long typeId) {
+        Set<Long> genreIds = new HashSet<>();
+        for (GenreDto genre : snapshot.genres) {
+            if (genre != null && genre.getType() != null && genre.getType().getId().equals(typeId)) {
+                genreIds.add(genre.getId());
+            }
+        }
+        return genreIds;
+    }
+
+    private static TypeDto copy(TypeDto type) {
+        return type == null ? null : type.toBuilder().build();
+    }
+
+    private static <T> T get(T[] byId, Long id) {
+        if (id == null || id < 0 || id >= byId.length) {
+            return null;
+        }
+        return byId[id.intValue()];
+    }
+
+    /**
+     * Published when a load replaced the genres and types.
+     */
+    public static final class ReloadedEvent extends ApplicationEvent {
+
+        private ReloadedEvent(GenreTypeRegistry source) {
+            super(source);
+        }
+
+    }
+
+    private static final class Snapshot {
+
+        private final GenreDto[] genres;
+
+        private final TypeDto[] types;
+
+        private Snapshot(GenreDto[] genres, TypeDto[] types) {
+            this.genres = genres;
+            this.types = types;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Snapshot)) return false;
+            Snapshot other = (Snapshot) o;
+            return Arrays.equals(genres, other.genres) && Arrays.equals(types, other.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(genres) + Arrays.hashCode(types);
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface BookAuthorLinkRepository {
+
+    /**
+     * Inserts {@code author_book} rows by JDBC batches, without loading the books collections of the authors.
+     * Already existing links are skipped. The books have to be flushed already.
+     *
+     * @param authorIdsByBookId ids of the authors to link to every book, by book id
+     */
+    void insertLinks(Map<Long, ? extends Collection<Long>> authorIdsByBookId);
+
+}
@@ -0,0 +1,36 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class BookAuthorLinkRepositoryImpl implements BookAuthorLinkRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private JdbcTemplate jdbcTemplate;
+
+    public BookAuthorLinkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insertLinks(Map<Long, ? extends Collection<Long>> authorIdsByBookId) {
+        List<Object[]> links = new ArrayList<>();
+        authorIdsByBookId.forEach((bookId, authorIds) ->
+                authorIds.forEach(authorId -> links.add(new Object[]{authorId, bookId})));
+        jdbcTemplate.batchUpdate("INSERT INTO author_book (author_id, books_id) VALUES (?, ?) " +
+                        "ON CONFLICT DO NOTHING", links, BATCH_SIZE,
+                (preparedStatement, link) -> {
+                    preparedStatement.setLong(1, (Long) link[0]);
+                    preparedStatement.setLong(2, (Long) link[1]);
+                });
+    }
+
+}
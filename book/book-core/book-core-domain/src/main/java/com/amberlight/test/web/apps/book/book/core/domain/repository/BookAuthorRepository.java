@@ -5,25 +5,28 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
-public interface BookAuthorRepository extends JpaRepository<Author, Long> {
+/**
+ * Author queries select author rows only. The books of an author are read a page at a time
+ * by {@link #findBookPageIds}, the books collection is never initialized on the read paths.
+ */
+public interface BookAuthorRepository extends JpaRepository<Author, Long>, BookAuthorLinkRepository {
 
-    @Override
-    @Query("SELECT author FROM Author author " +
-            "LEFT JOIN FETCH author.books books " +
-            "LEFT JOIN FETCH books.genre genre " +
-            "LEFT JOIN FETCH genre.type " +
-            "WHERE author.id = :id")
-    Optional<Author> findById(@Param("id") Long id);
+    @Query("SELECT author.id FROM Author author WHERE author.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 
-    @Override
-    @Query("SELECT DISTINCT author FROM Author author " +
-            "LEFT JOIN FETCH author.books books " +
-            "LEFT JOIN FETCH books.genre genre " +
-            "LEFT JOIN FETCH genre.type " +
-            "WHERE author.id in :ids")
-    List<Author> findAllById(@Param("ids") Iterable<Long> ids);
+    /**
+     * Ids of the first books of every author by (published, id), at most limit per author.
+     *
+     * @return author id and book id pairs, ordered by author id and the position of the book
+     */
+    @Query(value = "SELECT p.author_id, p.books_id FROM (SELECT ab.author_id, ab.books_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY ab.author_id ORDER BY b.published, b.id) AS position " +
+            "FROM author_book ab JOIN book b ON b.id = ab.books_id WHERE ab.author_id IN (:ids)) p " +
+            "WHERE p.position <= :limit ORDER BY p.author_id, p.position", nativeQuery = true)
+    List<Object[]> findBookPageIds(@Param("ids") Collection<Long> ids, @Param("limit") int limit);
 
 }
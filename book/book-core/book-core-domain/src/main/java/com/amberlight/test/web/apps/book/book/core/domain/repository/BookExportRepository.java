@@ -0,0 +1,154 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookExportDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the whole book catalog through a forward-only cursor.
+ * <p>
+ * The PostgreSQL driver only streams a result set inside a transaction and with a fetch size set, otherwise
+ * it materializes all rows on the first fetch. Both are set up here, so at most one fetch of rows is held in
+ * memory.
+ */
+@Repository("bookExportRepository")
+public class BookExportRepository {
+
+    private static final String BOOKS_SQL = "SELECT b.id, b.name, b.description, b.genre_id, b.price, b.published, " +
+            "(SELECT array_agg(ab.author_id ORDER BY ab.author_id) FROM author_book ab " +
+            "WHERE ab.books_id = b.id) AS author_ids " +
+            "FROM book b WHERE b.id > ? ORDER BY b.id";
+
+    private DataSource dataSource;
+
+    private int fetchSize;
+
+    private SQLExceptionTranslator exceptionTranslator;
+
+    public BookExportRepository(DataSource dataSource,
+                                @Value("${book-core.export.fetch-size:1000}") int fetchSize) {
+        this.dataSource = dataSource;
+        this.fetchSize = fetchSize;
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+
+    /**
+     * Opens a cursor over every book with an id greater than {@code afterId}, in id order.
+     * <p>
+     * The query is executed before this method returns, so the returned stream can be consumed on another
+     * thread. It holds a connection and a read-only transaction of its own, which outlive the caller's
+     * transaction, and has to be closed. The connection is obtained within the caller's transaction, so a
+     * caller in a read-only transaction gets it routed as the connections of such transactions are.
+     *
+     * @param afterId exclusive lower bound of the book ids
+     * @return the books, read one fetch at a time
+     */
+    public Stream<BookExportDto> openBooks(long afterId) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(BOOKS_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, afterId);
+            ResultSet resultSet = statement.executeQuery();
+            Cursor cursor = new Cursor(connection, statement, resultSet);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (SQLException e) {
+            JdbcUtils.closeStatement(statement);
+            release(connection);
+            throw exceptionTranslator.translate("openBooks", BOOKS_SQL, e);
+        }
+    }
+
+    private static BookExportDto mapBook(ResultSet resultSet) throws SQLException {
+        Array authorIds = resultSet.getArray("author_ids");
+        return BookExportDto.builder()
+                .id(resultSet.getLong("id"))
+                .name(resultSet.getString("name"))
+                .description(resultSet.getString("description"))
+                .genreId(resultSet.getLong("genre_id"))
+                .price(resultSet.getBigDecimal("price"))
+                .published(resultSet.getObject("published", LocalDateTime.class))
+                .authorIds(authorIds != null ? toIds((Object[]) authorIds.getArray()) : List.of())
+                .build();
+    }
+
+    private static List<Long> toIds(Object[] ids) {
+        // PostgreSQL returns a Long[], H2 an Object[] of its elements
+        return Arrays.stream(ids).map(id -> ((Number) id).longValue()).collect(Collectors.toList());
+    }
+
+    private static void release(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+            connection.setReadOnly(false);
+        } catch (SQLException ignored) {
+            // the connection is closed below either way
+        }
+        JdbcUtils.closeConnection(connection);
+    }
+
+    private class Cursor extends Spliterators.AbstractSpliterator<BookExportDto> {
+
+        private final Connection connection;
+
+        private final PreparedStatement statement;
+
+        private final ResultSet resultSet;
+
+        Cursor(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.connection = connection;
+            this.statement = statement;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super BookExportDto> action) {
+            try {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                action.accept(mapBook(resultSet));
+                return true;
+            } catch (SQLException e) {
+                throw exceptionTranslator.translate("openBooks", BOOKS_SQL, e);
+            }
+        }
+
+        void close() {
+            JdbcUtils.closeResultSet(resultSet);
+            JdbcUtils.closeStatement(statement);
+            release(connection);
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Imports books into PostgreSQL: a chunk is copied into temporary staging tables by {@code COPY}
+ * and merged into {@code book}, {@code author} and {@code author_book} by set-based statements.
+ * <p>
+ * Authors are matched to the existing ones by first and last name, unknown ones are created.
+ * Ids are taken from the id sequences by blocks, as the entities take them, see {@link #allocateIds}.
+ */
+@Repository("bookImportRepository")
+public class BookImportRepository {
+
+    /**
+     * Increment of the id sequences and allocation size of the entity ids.
+     */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private JdbcTemplate jdbcTemplate;
+
+    public BookImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Imports a chunk of books in one transaction. The books have to be valid and reference existing genres,
+     * their authors are given by first and last name.
+     *
+     * @param books books to import
+     * @return ids of the authors the books were linked to
+     */
+    @Transactional
+    public Set<Long> importBooks(List<BookDto> books) {
+        createStagingTables();
+        long[] bookIds = allocateIds("book_id_seq", books.size());
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            CopyIn bookCopy = pgConnection.getCopyAPI().copyIn("COPY import_book " +
+                    "(row_number, book_id, name, description, genre_id, price, published) FROM STDIN (FORMAT csv)");
+            try {
+                for (int i = 0; i < books.size(); i++) {
+                    BookDto book = books.get(i);
+                    writeRow(bookCopy, i, bookIds[i], csvField(book.getName()), csvField(book.getDescription()),
+                            book.getGenre().getId(), book.getPrice().toPlainString(), book.getPublished());
+                }
+                bookCopy.endCopy();
+            } finally {
+                cancelIfActive(bookCopy);
+            }
+            CopyIn authorCopy = pgConnection.getCopyAPI().copyIn("COPY import_author " +
+                    "(row_number, first_name, last_name) FROM STDIN (FORMAT csv)");
+            try {
+                for (int i = 0; i < books.size(); i++) {
+                    for (AuthorDto author : books.get(i).getAuthors()) {
+                        writeRow(authorCopy, i, csvField(author.getFirstName()), csvField(author.getLastName()));
+                    }
+                }
+                authorCopy.endCopy();
+            } finally {
+                cancelIfActive(authorCopy);
+            }
+            return null;
+        });
+        return mergeStagedBooks();
+    }
+
+    void createStagingTables() {
+        jdbcTemplate.execute("CREATE TEMP TABLE import_book (row_number INT, book_id BIGINT, " +
+                "name VARCHAR(255), description VARCHAR(255), genre_id BIGINT, price NUMERIC(19,8), " +
+                "published TIMESTAMP) ON COMMIT DROP");
+        jdbcTemplate.execute("CREATE TEMP TABLE import_author (row_number INT, " +
+                "first_name VARCHAR(255), last_name VARCHAR(255)) ON COMMIT DROP");
+        jdbcTemplate.execute("CREATE TEMP TABLE import_new_author (position INT, " +
+                "first_name VARCHAR(255), last_name VARCHAR(255)) ON COMMIT DROP");
+        jdbcTemplate.execute("CREATE TEMP TABLE import_link (author_id BIGINT, book_id BIGINT) ON COMMIT DROP");
+    }
+
+    /**
+     * Merges the staged books, which already have their ids, and their authors.
+     *
+     * @return ids of the authors the books were linked to
+     */
+    Set<Long> mergeStagedBooks() {
+        jdbcTemplate.update("INSERT INTO book (id, name, description, genre_id, price, published) " +
+                "SELECT book_id, name, description, genre_id, price, published FROM import_book");
+        int newAuthors = jdbcTemplate.update("INSERT INTO import_new_author (position, first_name, last_name) " +
+                "SELECT row_number() OVER (ORDER BY d.last_name, d.first_name), d.first_name, d.last_name " +
+                "FROM (SELECT DISTINCT s.first_name, s.last_name FROM import_author s " +
+                "WHERE NOT EXISTS (SELECT 1 FROM author a " +
+                "WHERE a.last_name = s.last_name AND a.first_name = s.first_name)) d");
+        if (newAuthors > 0) {
+            Long[] authorIds = Arrays.stream(allocateIds("author_id_seq", newAuthors)).boxed().toArray(Long[]::new);
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement("INSERT INTO author (id, first_name, " +
+                        "last_name) SELECT (?)[n.position], n.first_name, n.last_name FROM import_new_author n");
+                statement.setArray(1, connection.createArrayOf("bigint", authorIds));
+                return statement;
+            });
+        }
+        jdbcTemplate.update("INSERT INTO import_link (author_id, book_id) " +
+                "SELECT DISTINCT (SELECT min(a.id) FROM author a " +
+                "WHERE a.last_name = s.last_name AND a.first_name = s.first_name), b.book_id " +
+                "FROM import_author s JOIN import_book b ON b.row_number = s.row_number");
+        jdbcTemplate.update("INSERT INTO author_book (author_id, books_id) " +
+                "SELECT author_id, book_id FROM import_link ON CONFLICT DO NOTHING");
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT DISTINCT author_id FROM import_link", Long.class));
+    }
+
+    /**
+     * Takes ids from an id sequence the way the pooled id generation of the entities does: a value {@code v} of
+     * the sequence stands for the ids from {@code v - ID_BLOCK_SIZE + 1} to {@code v}. So a chunk takes one
+     * value per {@value #ID_BLOCK_SIZE} ids, and its ids never collide with the ones of the entities.
+     *
+     * @param sequence name of the sequence
+     * @param count number of ids
+     * @return the ids, in ascending order per block
+     */
+    long[] allocateIds(String sequence, int count) {
+        long[] ids = new long[count];
+        int allocated = 0;
+        while (allocated < count) {
+            int blocks = (count - allocated + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+            List<Long> values = jdbcTemplate.queryForList("SELECT nextval('" + sequence + "') " +
+                    "FROM generate_series(1, ?)", Long.class, blocks);
+            for (long value : values) {
+                // the start value of a sequence stands for itself only, there are no ids below it
+                for (long id = Math.max(value - ID_BLOCK_SIZE + 1, 1); id <= value && allocated < count; id++) {
+                    ids[allocated++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void writeRow(CopyIn copyIn, Object... fields) throws SQLException {
+        StringBuilder row = new StringBuilder();
+        for (Object field : fields) {
+            if (row.length() > 0) {
+                row.append(',');
+            }
+            row.append(field);
+        }
+        row.append('\n');
+        byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+    }
+
+    private static String csvField(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void cancelIfActive(CopyIn copyIn) throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+}
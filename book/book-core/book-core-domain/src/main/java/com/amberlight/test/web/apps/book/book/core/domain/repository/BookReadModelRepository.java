@@ -0,0 +1,130 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read model that builds {@link BookDto}/{@link AuthorDto} straight from flat JDBC rows, without managed
+ * entities, a persistence context or the conversion service. Genres come from the {@link GenreTypeRegistry}.
+ * <p>
+ * The documents have the same shape as the ones converted from entities: a book with its genre and authors
+ * (authors without books), an author with the first page of its books (books with genre, without authors).
+ */
+@Repository("bookReadModelRepository")
+@Transactional(readOnly = true)
+public class BookReadModelRepository {
+
+    private static final String BOOK_COLUMNS = "b.id, b.name, b.description, b.genre_id, b.price, b.published";
+
+    private static final String AUTHOR_COLUMNS = "a.id, a.first_name, a.last_name";
+
+    /**
+     * First books of every author by (published, id), at most :limit of them, so a prolific author costs
+     * the same rows as any other. The books are ranked by their ids and sort keys, only the page is read whole.
+     */
+    private static final String AUTHOR_BOOK_PAGES_SQL = "SELECT p.author_id, " + BOOK_COLUMNS +
+            " FROM (SELECT ab.author_id, ab.books_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY ab.author_id ORDER BY b.published, b.id) AS position " +
+            "FROM author_book ab JOIN book b ON b.id = ab.books_id WHERE ab.author_id IN (:ids)) p " +
+            "JOIN book b ON b.id = p.books_id WHERE p.position <= :limit ORDER BY p.author_id, p.position";
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private GenreTypeRegistry genreTypeRegistry;
+
+    public BookReadModelRepository(NamedParameterJdbcTemplate jdbcTemplate, GenreTypeRegistry genreTypeRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.genreTypeRegistry = genreTypeRegistry;
+    }
+
+    /**
+     * Finds books with their genre and authors.
+     *
+     * @param ids book ids, at most a few hundred
+     * @return found books in no particular order
+     */
+    public List<BookDto> findBooks(Collection<Long> ids) {
+        Map<Long, BookDto> books = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT " + BOOK_COLUMNS + " FROM book b WHERE b.id IN (:ids)",
+                Map.of("ids", ids), resultSet -> {
+                    BookDto book = mapBook(resultSet);
+                    book.setAuthors(new LinkedHashSet<>());
+                    books.put(book.getId(), book);
+                });
+        if (!books.isEmpty()) {
+            jdbcTemplate.query("SELECT ab.books_id, " + AUTHOR_COLUMNS + " FROM author_book ab " +
+                            "JOIN author a ON a.id = ab.author_id WHERE ab.books_id IN (:ids)",
+                    Map.of("ids", books.keySet()), resultSet -> {
+                        books.get(resultSet.getLong("books_id")).getAuthors().add(mapAuthor(resultSet));
+                    });
+        }
+        return new ArrayList<>(books.values());
+    }
+
+    /**
+     * Finds authors with the first page of their books by (published, id), {@link AuthorDto#getHasMoreBooks()}
+     * is set for the authors having more books than the page.
+     *
+     * @param ids author ids, at most a few hundred
+     * @param booksLimit max number of books per author
+     * @return found authors in no particular order
+     */
+    public List<AuthorDto> findAuthors(Collection<Long> ids, int booksLimit) {
+        Map<Long, AuthorDto> authors = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT " + AUTHOR_COLUMNS + " FROM author a WHERE a.id IN (:ids)",
+                Map.of("ids", ids), resultSet -> {
+                    AuthorDto author = mapAuthor(resultSet);
+                    author.setBooks(new LinkedHashSet<>());
+                    authors.put(author.getId(), author);
+                });
+        if (!authors.isEmpty()) {
+            jdbcTemplate.query(AUTHOR_BOOK_PAGES_SQL, Map.of("ids", authors.keySet(), "limit", booksLimit + 1),
+                    resultSet -> {
+                        AuthorDto author = authors.get(resultSet.getLong("author_id"));
+                        if (author.getBooks().size() < booksLimit) {
+                            author.getBooks().add(mapBook(resultSet));
+                        } else {
+                            author.setHasMoreBooks(true);
+                        }
+                    });
+        }
+        return new ArrayList<>(authors.values());
+    }
+
+    private BookDto mapBook(ResultSet resultSet) throws SQLException {
+        long genreId = resultSet.getLong("genre_id");
+        GenreDto genre = genreTypeRegistry.getGenre(genreId);
+        return BookDto.builder()
+                .id(resultSet.getLong("id"))
+                .name(resultSet.getString("name"))
+                .description(resultSet.getString("description"))
+                .genre(genre != null ? genre : GenreDto.builder().id(genreId).build())
+                .price(resultSet.getBigDecimal("price"))
+                .published(resultSet.getObject("published", LocalDateTime.class))
+                .build();
+    }
+
+    private static AuthorDto mapAuthor(ResultSet resultSet) throws SQLException {
+        return AuthorDto.builder()
+                .id(resultSet.getLong("id"))
+                .firstName(resultSet.getString("first_name"))
+                .lastName(resultSet.getString("last_name"))
+                .build();
+    }
+
+}
@@ -3,13 +3,28 @@ package com.amberlight.test.web.apps.book.book.core.domain.repository;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookSearchRepository {
 
     @EntityGraph(value = "BookBasicWithAuthors")
     @Override
     Optional<Book> findById(Long aLong);
 
+    @EntityGraph(value = "BookBasicWithAuthors")
+    @Override
+    @Query("SELECT DISTINCT book FROM Book book WHERE book.id in :ids")
+    List<Book> findAllById(@Param("ids") Iterable<Long> ids);
+
+    /**
+     * Finds books without fetching their authors.
+     */
+    @Query("SELECT book FROM Book book WHERE book.id in :ids")
+    List<Book> findWithoutAuthorsByIds(@Param("ids") Collection<Long> ids);
+
 }
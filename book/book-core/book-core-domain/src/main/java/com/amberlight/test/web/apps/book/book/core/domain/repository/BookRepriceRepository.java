@@ -0,0 +1,171 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmount;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reprices books by set-based statements, a chunk of the matched books per statement in id order.
+ * <p>
+ * The operation is evaluated in SQL the way {@link MonetaryAmount} evaluates it: the product is rounded to
+ * {@link MonetaryAmount#SCALE} with {@link MonetaryAmount#ROUNDING_MODE}, and a step whose result exceeds
+ * {@link MonetaryAmount#MAX_MONETARY_AMOUNT} rejects the book.
+ */
+@Repository("bookRepriceRepository")
+public class BookRepriceRepository {
+
+    /**
+     * Prices of the rows of a relation with {@code id} and {@code price} columns after each step of the operation.
+     */
+    static final String PRICED_SQL = "SELECT id, price, multiplied, added, " +
+            "GREATEST(CAST(:minPrice AS NUMERIC), LEAST(CAST(:maxPrice AS NUMERIC), added)) AS new_price " +
+            "FROM (SELECT id, price, multiplied, multiplied + CAST(:addend AS NUMERIC) AS added " +
+            "FROM (SELECT id, price, SIGN(price * CAST(:factor AS NUMERIC)) * " +
+            roundedToInteger("ABS(price * CAST(:factor AS NUMERIC)) * :scaleFactor") + " * :ulp AS multiplied " +
+            "FROM %s) m) a";
+
+    /**
+     * Condition of a row of {@link #PRICED_SQL} to be repriced.
+     */
+    static final String VALID_PRICE_CONDITION = "ABS(multiplied) <= :maxAmount AND ABS(added) <= :maxAmount " +
+            "AND new_price > 0";
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BookRepriceRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reprices the next chunk of the matched books, the books are locked for the statement, so a price changed
+     * concurrently is repriced from its new value. Books whose price does not change are not updated.
+     *
+     * @param selector books to reprice
+     * @param operation price change
+     * @param afterId id the chunk starts after, {@code 0} for the first chunk
+     * @param limit max number of books of the chunk
+     * @return the repriced chunk
+     */
+    public RepricedChunk repriceChunk(RepriceBooksCommand.Selector selector, RepriceBooksCommand.Operation operation,
+                                      long afterId, int limit) {
+        MapSqlParameterSource parameters = priceParameters(operation)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        StringBuilder selectorSql = new StringBuilder();
+        if (selector.getGenreId() != null) {
+            selectorSql.append(" AND genre_id = :genreId");
+            parameters.addValue("genreId", selector.getGenreId());
+        }
+        if (selector.getTypeId() != null) {
+            selectorSql.append(" AND genre_id IN (SELECT id FROM genre WHERE type_id = :typeId)");
+            parameters.addValue("typeId", selector.getTypeId());
+        }
+        if (selector.getPublishedFrom() != null) {
+            selectorSql.append(" AND published >= :publishedFrom");
+            parameters.addValue("publishedFrom", selector.getPublishedFrom());
+        }
+        if (selector.getPublishedTo() != null) {
+            selectorSql.append(" AND published < :publishedTo");
+            parameters.addValue("publishedTo", selector.getPublishedTo());
+        }
+        return jdbcTemplate.queryForObject("WITH chunk AS (" +
+                        "SELECT id, price FROM book WHERE id > :afterId" + selectorSql + " " +
+                        "ORDER BY id LIMIT :limit FOR UPDATE), " +
+                        "priced AS (" + String.format(PRICED_SQL, "chunk") + "), " +
+                        "valid AS (SELECT id, price, new_price FROM priced WHERE " + VALID_PRICE_CONDITION + "), " +
+                        "updated AS (UPDATE book b SET price = CAST(v.new_price AS NUMERIC(19,8)) FROM valid v " +
+                        "WHERE b.id = v.id AND v.new_price <> v.price RETURNING b.id) " +
+                        "SELECT (SELECT MAX(id) FROM chunk) AS last_id, " +
+                        "(SELECT COUNT(*) FROM chunk) AS matched, " +
+                        "(SELECT COUNT(*) FROM chunk) - (SELECT COUNT(*) FROM valid) AS rejected, " +
+                        "(SELECT ARRAY_AGG(id) FROM updated) AS repriced_ids, " +
+                        "(SELECT ARRAY_AGG(DISTINCT ab.author_id) FROM author_book ab " +
+                        "JOIN updated u ON u.id = ab.books_id) AS author_ids",
+                parameters, (resultSet, rowNum) -> new RepricedChunk(
+                        resultSet.getObject("last_id", Long.class),
+                        resultSet.getLong("matched"),
+                        resultSet.getLong("rejected"),
+                        ids(resultSet, "repriced_ids"),
+                        ids(resultSet, "author_ids")));
+    }
+
+    /**
+     * @param operation price change
+     * @return parameters of {@link #PRICED_SQL} and {@link #VALID_PRICE_CONDITION}
+     */
+    static MapSqlParameterSource priceParameters(RepriceBooksCommand.Operation operation) {
+        return new MapSqlParameterSource()
+                .addValue("factor", operation.getFactor() != null ? operation.getFactor() : BigDecimal.ONE,
+                        Types.NUMERIC)
+                .addValue("addend", operation.getAddend() != null ? operation.getAddend() : BigDecimal.ZERO,
+                        Types.NUMERIC)
+                .addValue("minPrice", operation.getMinPrice(), Types.NUMERIC)
+                .addValue("maxPrice", operation.getMaxPrice(), Types.NUMERIC)
+                .addValue("scaleFactor", BigDecimal.ONE.movePointRight(MonetaryAmount.SCALE), Types.NUMERIC)
+                .addValue("ulp", BigDecimal.ONE.movePointLeft(MonetaryAmount.SCALE), Types.NUMERIC)
+                .addValue("maxAmount", MonetaryAmount.MAX_MONETARY_AMOUNT, Types.NUMERIC);
+    }
+
+    /**
+     * Rounds a non-negative number to an integer with {@link MonetaryAmount#ROUNDING_MODE}, the rounding modes
+     * symmetric around zero are supported. The arithmetic is exact, so a tie is recognized as one.
+     */
+    private static String roundedToInteger(String value) {
+        switch (MonetaryAmount.ROUNDING_MODE) {
+            case UP:
+                return "CEIL(" + value + ")";
+            case DOWN:
+                return "FLOOR(" + value + ")";
+            case HALF_UP:
+                return "FLOOR(" + value + " + 0.5)";
+            case HALF_DOWN:
+                return "CEIL(" + value + " - 0.5)";
+            default:
+                throw new IllegalStateException(String.format("The rounding mode %s is not supported",
+                        MonetaryAmount.ROUNDING_MODE));
+        }
+    }
+
+    private static List<Long> ids(ResultSet resultSet, String column) throws SQLException {
+        Array array = resultSet.getArray(column);
+        return array != null ? Arrays.asList((Long[]) array.getArray()) : List.of();
+    }
+
+    /**
+     * A chunk of the matched books.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RepricedChunk {
+
+        /**
+         * Id of the last book of the chunk, {@code null} if no more books matched.
+         */
+        private final Long lastId;
+
+        private final long matched;
+
+        private final long rejected;
+
+        private final List<Long> repricedIds;
+
+        /**
+         * Ids of the authors of the repriced books.
+         */
+        private final List<Long> authorIds;
+
+    }
+
+}
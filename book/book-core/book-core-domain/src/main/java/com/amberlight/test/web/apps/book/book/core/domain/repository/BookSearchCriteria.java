@@ -0,0 +1,40 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmount;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Filters and keyset cursor of a book search, any of them may be {@code null}. Ranges are inclusive, the
+ * cursor is exclusive.
+ */
+@Value
+@Builder(toBuilder = true)
+public class BookSearchCriteria {
+
+    /**
+     * Genres to search in, {@code null} for all genres.
+     */
+    Set<Long> genreIds;
+
+    /**
+     * Author of the books, {@code null} for any author.
+     */
+    Long authorId;
+
+    MonetaryAmount minPrice;
+
+    MonetaryAmount maxPrice;
+
+    LocalDateTime publishedFrom;
+
+    LocalDateTime publishedTo;
+
+    LocalDateTime afterPublished;
+
+    Long afterId;
+
+}
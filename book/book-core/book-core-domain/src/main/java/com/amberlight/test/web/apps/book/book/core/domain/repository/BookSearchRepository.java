@@ -0,0 +1,19 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import java.util.List;
+
+public interface BookSearchRepository {
+
+    /**
+     * Finds ids of the books matching the criteria, ordered by {@code (published, id)}.
+     * <p>
+     * The page start is a seek on the {@code (published, id)} cursor rather than an offset, so every page
+     * costs the same regardless of its depth.
+     *
+     * @param criteria filters and cursor
+     * @param limit max number of ids to return
+     * @return ids of the books in {@code (published, id)} order
+     */
+    List<Long> findIds(BookSearchCriteria criteria, int limit);
+
+}
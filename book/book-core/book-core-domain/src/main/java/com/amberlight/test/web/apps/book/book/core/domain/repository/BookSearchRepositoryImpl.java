@@ -0,0 +1,73 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookSearchRepositoryImpl implements BookSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> findIds(BookSearchCriteria criteria, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Book> book = query.from(Book.class);
+        Path<LocalDateTime> published = book.get("published");
+        Path<Long> id = book.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getGenreIds() != null) {
+            if (criteria.getGenreIds().isEmpty()) {
+                return new ArrayList<>();
+            }
+            predicates.add(book.get("genreId").in(criteria.getGenreIds()));
+        }
+        if (criteria.getAuthorId() != null) {
+            Join<Book, Author> author = book.join("authors");
+            predicates.add(cb.equal(author.get("id"), criteria.getAuthorId()));
+        }
+        if (criteria.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(book.get("price"), criteria.getMinPrice().getValue()));
+        }
+        if (criteria.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(book.get("price"), criteria.getMaxPrice().getValue()));
+        }
+        if (criteria.getPublishedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(published, criteria.getPublishedFrom()));
+        }
+        if (criteria.getPublishedTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(published, criteria.getPublishedTo()));
+        }
+        if (criteria.getAfterPublished() != null) {
+            // "published >= :after" is the part an index range scan can seek on, the "or" only breaks ties
+            predicates.add(cb.greaterThanOrEqualTo(published, criteria.getAfterPublished()));
+            predicates.add(cb.or(
+                    cb.greaterThan(published, criteria.getAfterPublished()),
+                    cb.greaterThan(id, criteria.getAfterId())));
+        }
+
+        query.select(id)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(published), cb.asc(id));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+}
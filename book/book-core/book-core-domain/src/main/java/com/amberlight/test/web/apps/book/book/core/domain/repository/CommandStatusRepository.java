@@ -0,0 +1,91 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CommandStatusDocument;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Results of the commands processed asynchronously, by tracking id.
+ */
+@Repository("commandStatusRepository")
+public class CommandStatusRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * Status of a command claimed by a transaction in progress.
+     */
+    public static final String PENDING = "PENDING";
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CommandStatusRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param trackingIds tracking ids of the commands
+     * @return results of the processed commands by tracking id, pending ones are omitted
+     */
+    public Map<String, CommandStatusDocument> findStatuses(Collection<String> trackingIds) {
+        Map<String, CommandStatusDocument> statuses = new HashMap<>();
+        if (trackingIds.isEmpty()) {
+            return statuses;
+        }
+        jdbcTemplate.query("SELECT tracking_id, status, entity_id, error FROM command_status " +
+                        "WHERE tracking_id IN (:trackingIds)",
+                Map.of("trackingIds", trackingIds), resultSet -> {
+                    statuses.put(resultSet.getString("tracking_id"), CommandStatusDocument.builder()
+                            .trackingId(resultSet.getString("tracking_id"))
+                            .status(resultSet.getString("status"))
+                            .entityId(resultSet.getObject("entity_id", Long.class))
+                            .error(resultSet.getString("error"))
+                            .build());
+                });
+        return statuses;
+    }
+
+    /**
+     * Claims the commands for the current transaction by storing them as pending. A concurrent claim of the
+     * same tracking id waits for this transaction to end, so a command is processed by one transaction only.
+     * The final status must be stored in the same transaction, a committed status is never pending.
+     *
+     * @param trackingIds tracking ids of the commands
+     * @return tracking ids claimed, the ones processed before are omitted
+     */
+    public Set<String> claimStatuses(Collection<String> trackingIds) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate("INSERT INTO command_status (tracking_id, status) " +
+                        "VALUES (?, '" + PENDING + "') ON CONFLICT DO NOTHING",
+                trackingIds, BATCH_SIZE, (preparedStatement, trackingId) -> preparedStatement.setString(1, trackingId));
+        // the batched inserts may not report which rows were inserted, the pending ones are the claimed ones
+        return findStatuses(trackingIds).values().stream()
+                .filter(status -> PENDING.equals(status.getStatus()))
+                .map(CommandStatusDocument::getTrackingId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Stores the results of the commands claimed in the current transaction.
+     *
+     * @param statuses results of the processed commands
+     */
+    public void updateStatuses(List<CommandStatusDocument> statuses) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate("UPDATE command_status " +
+                        "SET status = ?, entity_id = ?, error = ?, processed = CURRENT_TIMESTAMP WHERE tracking_id = ?",
+                statuses, BATCH_SIZE, (preparedStatement, status) -> {
+                    preparedStatement.setString(1, status.getStatus());
+                    preparedStatement.setObject(2, status.getEntityId(), Types.BIGINT);
+                    preparedStatement.setString(3, status.getError());
+                    preparedStatement.setString(4, status.getTrackingId());
+                });
+    }
+
+}
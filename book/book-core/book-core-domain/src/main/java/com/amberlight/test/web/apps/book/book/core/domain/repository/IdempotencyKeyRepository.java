@@ -0,0 +1,99 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency keys of the commands by scope. A key is claimed with the hash of its request before its command
+ * is executed, it is pending until it is completed with the document the command returned or released when the
+ * command failed.
+ */
+@Repository("idempotencyKeyRepository")
+public class IdempotencyKeyRepository {
+
+    private JdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claims the key, a key pending for longer than the timeout, as left by a stopped instance, is claimed again.
+     *
+     * @return {@code true} if the key was claimed, {@code false} if it is pending or completed already
+     */
+    public boolean claim(String scope, String key, String requestHash, Duration pendingTimeout) {
+        if (jdbcTemplate.update("INSERT INTO idempotency_key (scope, idempotency_key, request_hash) " +
+                "VALUES (?, ?, ?) ON CONFLICT DO NOTHING", scope, key, requestHash) == 1) {
+            return true;
+        }
+        return jdbcTemplate.update("UPDATE idempotency_key SET request_hash = ?, created = LOCALTIMESTAMP " +
+                        "WHERE scope = ? AND idempotency_key = ? AND document IS NULL " +
+                        "AND created < LOCALTIMESTAMP - CAST(? AS BIGINT) * INTERVAL '1' SECOND",
+                requestHash, scope, key, pendingTimeout.toSeconds()) == 1;
+    }
+
+    /**
+     * @return the stored key or {@code null} if the key is unknown
+     */
+    public StoredKey findKey(String scope, String key) {
+        List<StoredKey> keys = jdbcTemplate.query("SELECT request_hash, document FROM idempotency_key " +
+                        "WHERE scope = ? AND idempotency_key = ?",
+                (resultSet, rowNum) -> new StoredKey(resultSet.getString("request_hash"),
+                        resultSet.getString("document")),
+                scope, key);
+        return keys.isEmpty() ? null : keys.get(0);
+    }
+
+    /**
+     * Stores the document of the pending key, the first document stored for a key is kept.
+     */
+    public void complete(String scope, String key, String document) {
+        jdbcTemplate.update("UPDATE idempotency_key SET document = ? " +
+                "WHERE scope = ? AND idempotency_key = ? AND document IS NULL", document, scope, key);
+    }
+
+    /**
+     * Removes the pending key claimed with the request, for the command to be retried.
+     */
+    public void release(String scope, String key, String requestHash) {
+        jdbcTemplate.update("DELETE FROM idempotency_key " +
+                "WHERE scope = ? AND idempotency_key = ? AND request_hash = ? AND document IS NULL",
+                scope, key, requestHash);
+    }
+
+    /**
+     * Removes the keys older than the ttl, measured by the database clock the keys were claimed with.
+     *
+     * @return number of keys removed
+     */
+    public int deleteOlderThan(Duration ttl) {
+        return jdbcTemplate.update("DELETE FROM idempotency_key " +
+                "WHERE created < LOCALTIMESTAMP - ? * INTERVAL '1 second'", ttl.toSeconds());
+    }
+
+    /**
+     * Key of a command, with the hash of the request it was claimed with.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StoredKey {
+
+        /**
+         * Hash of the canonical request, {@code null} for the keys stored before the hashes were.
+         */
+        private final String requestHash;
+
+        /**
+         * Document returned by the command, {@code null} while the key is pending.
+         */
+        private final String document;
+
+    }
+
+}
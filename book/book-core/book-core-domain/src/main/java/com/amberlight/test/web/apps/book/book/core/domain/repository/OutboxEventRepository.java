@@ -0,0 +1,78 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.event.OutboxEventDto;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox of the change events. Events are inserted in the transaction of the change and deleted once relayed.
+ */
+@Repository("outboxEventRepository")
+public class OutboxEventRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxEventRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the events by JDBC batches, in the current transaction.
+     *
+     * @param events events to insert, ids are generated
+     */
+    public void insertEvents(List<OutboxEventDto> events) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate("INSERT INTO outbox_event " +
+                        "(aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?)",
+                events, BATCH_SIZE, (preparedStatement, event) -> {
+                    preparedStatement.setString(1, event.getAggregateType());
+                    preparedStatement.setLong(2, event.getAggregateId());
+                    preparedStatement.setString(3, event.getEventType());
+                    preparedStatement.setString(4, event.getPayload());
+                });
+    }
+
+    /**
+     * Locks the oldest events that are not locked by another transaction, so concurrent relays
+     * take disjoint batches. Has to be called in a transaction, the locks are held until it ends.
+     *
+     * @param limit max number of events
+     * @return locked events in id order
+     */
+    public List<OutboxEventDto> lockOldestEvents(int limit) {
+        return jdbcTemplate.query("SELECT id, aggregate_type, aggregate_id, event_type, payload, created " +
+                        "FROM outbox_event ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+                Map.of("limit", limit), (resultSet, rowNum) -> OutboxEventDto.builder()
+                        .id(resultSet.getLong("id"))
+                        .aggregateType(resultSet.getString("aggregate_type"))
+                        .aggregateId(resultSet.getLong("aggregate_id"))
+                        .eventType(resultSet.getString("event_type"))
+                        .payload(resultSet.getString("payload"))
+                        .created(resultSet.getObject("created", LocalDateTime.class))
+                        .build());
+    }
+
+    public void deleteEvents(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM outbox_event WHERE id IN (:ids)", Map.of("ids", ids));
+        }
+    }
+
+    /**
+     * @return age of the oldest event by the database clock, zero if the outbox is empty
+     */
+    public Duration findOldestEventAge() {
+        List<Double> ages = jdbcTemplate.getJdbcTemplate().queryForList("SELECT " +
+                "EXTRACT(EPOCH FROM LOCALTIMESTAMP - created) FROM outbox_event ORDER BY id LIMIT 1", Double.class);
+        return ages.isEmpty() ? Duration.ZERO : Duration.ofMillis(Math.max(0, (long) (ages.get(0) * 1000)));
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link BookReadModelRepository}, running the same queries over R2DBC.
+ * <p>
+ * The connection factory is kept private to this repository: exposed as a bean it would switch off
+ * the auto-configured JDBC data source the JPA stack runs on.
+ */
+@Repository("reactiveBookReadModelRepository")
+public class ReactiveBookReadModelRepository implements DisposableBean {
+
+    private static final String BOOK_COLUMNS = "b.id, b.name, b.description, b.genre_id, b.price, b.published";
+
+    private static final String AUTHOR_COLUMNS = "a.id, a.first_name, a.last_name";
+
+    private static final String AUTHOR_BOOK_PAGES_SQL = "SELECT p.author_id, " + BOOK_COLUMNS +
+            " FROM (SELECT ab.author_id, ab.books_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY ab.author_id ORDER BY b.published, b.id) AS position " +
+            "FROM author_book ab JOIN book b ON b.id = ab.books_id WHERE ab.author_id IN (:ids)) p " +
+            "JOIN book b ON b.id = p.books_id WHERE p.position <= :limit ORDER BY p.author_id, p.position";
+
+    private ConnectionFactory connectionFactory;
+
+    private DatabaseClient databaseClient;
+
+    private GenreTypeRegistry genreTypeRegistry;
+
+    public ReactiveBookReadModelRepository(@Value("${book-core.r2dbc.url}") String url,
+                                           @Value("${book-core.r2dbc.username:${spring.datasource.username}}")
+                                                   String username,
+                                           @Value("${book-core.r2dbc.password:${spring.datasource.password}}")
+                                                   String password,
+                                           GenreTypeRegistry genreTypeRegistry) {
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.genreTypeRegistry = genreTypeRegistry;
+    }
+
+    /**
+     * Finds books with their genre and authors.
+     *
+     * @param ids book ids, at most a few hundred
+     * @return found books in no particular order
+     */
+    public Mono<List<BookDto>> findBooks(Collection<Long> ids) {
+        return databaseClient.sql("SELECT " + BOOK_COLUMNS + " FROM book b WHERE b.id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> {
+                    BookDto book = mapBook(row);
+                    book.setAuthors(new LinkedHashSet<>());
+                    return book;
+                })
+                .all()
+                .collectMap(BookDto::getId, book -> book, LinkedHashMap::new)
+                .flatMap(books -> books.isEmpty() ? Mono.just(new ArrayList<>()) : databaseClient
+                        .sql("SELECT ab.books_id, " + AUTHOR_COLUMNS + " FROM author_book ab " +
+                                "JOIN author a ON a.id = ab.author_id WHERE ab.books_id IN (:ids)")
+                        .bind("ids", books.keySet())
+                        .map(row -> books.get(row.get("books_id", Long.class)).getAuthors().add(mapAuthor(row)))
+                        .all()
+                        .then(Mono.fromSupplier(() -> new ArrayList<>(books.values()))));
+    }
+
+    /**
+     * Finds authors with the first page of their books, see {@link BookReadModelRepository#findAuthors}.
+     *
+     * @param ids author ids, at most a few hundred
+     * @param booksLimit max number of books per author
+     * @return found authors in no particular order
+     */
+    public Mono<List<AuthorDto>> findAuthors(Collection<Long> ids, int booksLimit) {
+        return databaseClient.sql("SELECT " + AUTHOR_COLUMNS + " FROM author a WHERE a.id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> {
+                    AuthorDto author = mapAuthor(row);
+                    author.setBooks(new LinkedHashSet<>());
+                    return author;
+                })
+                .all()
+                .collectMap(AuthorDto::getId, author -> author, LinkedHashMap::new)
+                .flatMap(authors -> authors.isEmpty() ? Mono.just(new ArrayList<>()) : databaseClient
+                        .sql(AUTHOR_BOOK_PAGES_SQL)
+                        .bind("ids", authors.keySet())
+                        .bind("limit", booksLimit + 1)
+                        .map(row -> {
+                            AuthorDto author = authors.get(row.get("author_id", Long.class));
+                            if (author.getBooks().size() < booksLimit) {
+                                return author.getBooks().add(mapBook(row));
+                            }
+                            author.setHasMoreBooks(true);
+                            return false;
+                        })
+                        .all()
+                        .then(Mono.fromSupplier(() -> new ArrayList<>(authors.values()))));
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Disposable) {
+            ((Disposable) connectionFactory).dispose();
+        }
+    }
+
+    private BookDto mapBook(Row row) {
+        Long genreId = row.get("genre_id", Long.class);
+        GenreDto genre = genreTypeRegistry.getGenre(genreId);
+        return BookDto.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .genre(genre != null ? genre : GenreDto.builder().id(genreId).build())
+                .price(row.get("price", BigDecimal.class))
+                .published(row.get("published", LocalDateTime.class))
+                .build();
+    }
+
+    private static AuthorDto mapAuthor(Row row) {
+        return AuthorDto.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .build();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.amberlight.test.web.apps.book.book.core.domain.converter;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.ConversionContext.Association;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.author.AuthorToAuthorDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.book.BookToBookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringJUnitConfig(classes = {BookToBookDto.class, AuthorToAuthorDto.class})
+class ConversionContextTests {
+
+    @MockBean
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookToBookDto bookToBookDto;
+
+    @Autowired
+    private AuthorToAuthorDto authorToAuthorDto;
+
+    @Test
+    void testConvert_defaultShape() {
+        Book book = book(1L);
+        Author author = author(1L);
+        link(author, book);
+
+        BookDto bookDto = bookToBookDto.convert(book);
+
+        assertEquals(1, bookDto.getAuthors().size());
+        assertNull(bookDto.getAuthors().iterator().next().getBooks());
+
+        AuthorDto authorDto = authorToAuthorDto.convert(author);
+
+        assertEquals(1, authorDto.getBooks().size());
+        assertNull(authorDto.getBooks().iterator().next().getAuthors());
+    }
+
+    @Test
+    void testConvert_backReferenceIsLeftOut() {
+        Book book = book(1L);
+        Author author = author(1L);
+        link(author, book);
+
+        BookDto bookDto = bookToBookDto.convert(book,
+                ConversionContext.of(10, Association.BOOK_AUTHORS, Association.AUTHOR_BOOKS));
+
+        AuthorDto authorDto = bookDto.getAuthors().iterator().next();
+        assertTrue(authorDto.getBooks().isEmpty());
+    }
+
+    @Test
+    void testConvert_sharedEntityIsConvertedOnce() {
+        Author author = author(1L);
+        List<Book> books = List.of(book(1L), book(2L));
+        books.forEach(book -> link(author, book));
+        ConversionContext context = ConversionContext.of(1, Association.BOOK_AUTHORS);
+
+        BookDto first = bookToBookDto.convert(books.get(0), context);
+        BookDto second = bookToBookDto.convert(books.get(1), context);
+
+        assertSame(first.getAuthors().iterator().next(), second.getAuthors().iterator().next());
+        assertSame(first, bookToBookDto.convert(books.get(0), context));
+    }
+
+    @Test
+    void testConvert_maxDepth() {
+        Author author = author(1L);
+        Book book = book(1L);
+        Author coAuthor = author(2L);
+        Book coAuthorBook = book(2L);
+        link(author, book);
+        link(coAuthor, book);
+        link(coAuthor, coAuthorBook);
+
+        AuthorDto authorDto = authorToAuthorDto.convert(author,
+                ConversionContext.of(2, Association.BOOK_AUTHORS, Association.AUTHOR_BOOKS));
+
+        BookDto bookDto = authorDto.getBooks().iterator().next();
+        AuthorDto coAuthorDto = bookDto.getAuthors().iterator().next();
+        assertEquals(2L, coAuthorDto.getId());
+        assertNull(coAuthorDto.getBooks());
+    }
+
+    private static Book book(Long id) {
+        return Book.builder().id(id).name("book " + id).description("description")
+                .published(LocalDateTime.now()).price(BigDecimal.ONE).authors(new LinkedHashSet<>()).build();
+    }
+
+    private static Author author(Long id) {
+        return Author.builder().id(id).firstName("first " + id).lastName("last " + id)
+                .books(new LinkedHashSet<>()).build();
+    }
+
+    private static void link(Author author, Book book) {
+        author.getBooks().add(book);
+        book.getAuthors().add(author);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.amberlight.test.web.apps.book.book.core.domain.registry;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Type;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.TypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GenreTypeRegistryTests {
+
+    private GenreRepository genreRepository;
+
+    private TypeRepository typeRepository;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private GenreTypeRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        genreRepository = mock(GenreRepository.class);
+        typeRepository = mock(TypeRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(typeRepository.findAll()).thenReturn(List.of(type(1L, "Fiction")));
+        when(genreRepository.findAll()).thenReturn(List.of(genre(2L, "Fantasy")));
+        registry = new GenreTypeRegistry(genreRepository, typeRepository, eventPublisher);
+        registry.reload();
+    }
+
+    @Test
+    void testGetGenre_copies() {
+        GenreDto genre = registry.getGenre(2L);
+        genre.setName("Changed");
+        genre.getType().setName("Changed");
+        registry.getType(1L).setName("Changed");
+
+        GenreDto other = registry.getGenre(2L);
+        assertNotSame(genre, other);
+        assertEquals("Fantasy", other.getName());
+        assertEquals("Fiction", other.getType().getName());
+        assertEquals("Fiction", registry.getType(1L).getName());
+    }
+
+    @Test
+    void testReload_publishesOnlyChanges() {
+        registry.reload();
+        verify(eventPublisher, times(1)).publishEvent(any(GenreTypeRegistry.ReloadedEvent.class));
+
+        when(genreRepository.findAll()).thenReturn(List.of(genre(2L, "High Fantasy")));
+        registry.reload();
+        verify(eventPublisher, times(2)).publishEvent(any(GenreTypeRegistry.ReloadedEvent.class));
+        assertEquals("High Fantasy", registry.getGenre(2L).getName());
+    }
+
+    private static Type type(Long id, String name) {
+        Type type = new Type();
+        type.setId(id);
+        type.setName(name);
+        return type;
+    }
+
+    private static Genre genre(Long id, String name) {
+        Genre genre = new Genre();
+        genre.setId(id);
+        genre.setName(name);
+        genre.setTypeId(1L);
+        return genre;
+    }
+
+}
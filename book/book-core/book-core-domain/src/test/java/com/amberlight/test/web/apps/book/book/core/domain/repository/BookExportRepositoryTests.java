@@ -0,0 +1,69 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookExportDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookExportRepositoryTests {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private BookExportRepository bookExportRepository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:book-export;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE book (id BIGINT PRIMARY KEY, name VARCHAR(255), " +
+                "description VARCHAR(255), genre_id BIGINT, price NUMERIC(19,8), published TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE author_book (author_id BIGINT, books_id BIGINT)");
+        bookExportRepository = new BookExportRepository(dataSource, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void testOpenBooks_readOnAnotherThread() throws Exception {
+        for (long id = 1; id <= 4; id++) {
+            jdbcTemplate.update("INSERT INTO book VALUES (?, ?, 'Description', 1, 10.5, TIMESTAMP '2022-02-01 00:00:00')",
+                    id, "Book " + id);
+        }
+        jdbcTemplate.update("INSERT INTO author_book VALUES (2, 2), (1, 2), (3, 4)");
+
+        Stream<BookExportDto> books = bookExportRepository.openBooks(1L);
+        List<BookExportDto> exported = CompletableFuture.supplyAsync(() -> {
+            try (books) {
+                return books.collect(Collectors.toList());
+            }
+        }).get();
+
+        assertEquals(List.of(2L, 3L, 4L), exported.stream().map(BookExportDto::getId).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 2L), exported.get(0).getAuthorIds());
+        assertEquals(List.of(), exported.get(1).getAuthorIds());
+        assertEquals(List.of(3L), exported.get(2).getAuthorIds());
+    }
+
+    @Test
+    void testOpenBooks_failsBeforeReturning() {
+        jdbcTemplate.execute("DROP TABLE author_book");
+
+        assertThrows(DataAccessException.class, () -> bookExportRepository.openBooks(0L));
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the id allocation and the merge statements of the import on H2 in PostgreSQL mode, the staging tables
+ * are filled by inserts instead of {@code COPY}.
+ */
+class BookImportRepositoryTests {
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    private BookImportRepository bookImportRepository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:book-import;MODE=PostgreSQL", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        bookImportRepository = new BookImportRepository(jdbcTemplate);
+        jdbcTemplate.execute("CREATE SEQUENCE book_id_seq INCREMENT BY 50");
+        jdbcTemplate.execute("CREATE SEQUENCE author_id_seq INCREMENT BY 50");
+        jdbcTemplate.execute("CREATE TABLE book (id BIGINT PRIMARY KEY, name VARCHAR(255), " +
+                "description VARCHAR(255), genre_id BIGINT, price NUMERIC(19,8), published TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE author (id BIGINT PRIMARY KEY, first_name VARCHAR(255), " +
+                "last_name VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE author_book (author_id BIGINT REFERENCES author (id), " +
+                "books_id BIGINT REFERENCES book (id), PRIMARY KEY (author_id, books_id))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void testAllocateIds_takesOneValuePerBlock() {
+        long[] first = bookImportRepository.allocateIds("book_id_seq", 120);
+        long[] second = bookImportRepository.allocateIds("book_id_seq", 10);
+
+        // 1 stands for itself, 51 for 2 to 51 and so on, the rest of the block of 151 is not reused
+        assertArrayEquals(range(1, 120), first);
+        assertArrayEquals(range(152, 161), second);
+        assertEquals(251L, jdbcTemplate.queryForObject("SELECT nextval('book_id_seq')", Long.class));
+    }
+
+    @Test
+    void testMergeStagedBooks() {
+        Long existingAuthorId = bookImportRepository.allocateIds("author_id_seq", 1)[0];
+        jdbcTemplate.update("INSERT INTO author VALUES (?, 'Jane', 'Austen')", existingAuthorId);
+
+        Set<Long> linkedAuthorIds = transactionTemplate.execute(status -> {
+            bookImportRepository.createStagingTables();
+            long[] bookIds = bookImportRepository.allocateIds("book_id_seq", 3);
+            for (int i = 0; i < bookIds.length; i++) {
+                jdbcTemplate.update("INSERT INTO import_book VALUES (?, ?, ?, 'Description', 1, 10.5, " +
+                        "TIMESTAMP '2022-02-01 00:00:00')", i, bookIds[i], "Book " + i);
+            }
+            jdbcTemplate.update("INSERT INTO import_author VALUES (0, 'Jane', 'Austen'), (1, 'Jane', 'Austen'), " +
+                    "(1, 'Charlotte', 'Bronte'), (2, 'Emily', 'Bronte'), (2, 'Emily', 'Bronte')");
+            return bookImportRepository.mergeStagedBooks();
+        });
+
+        Map<String, Long> authorIds = jdbcTemplate.queryForList("SELECT id, first_name FROM author").stream()
+                .collect(Collectors.toMap(row -> (String) row.get("FIRST_NAME"), row -> (Long) row.get("ID")));
+        assertEquals(Map.of("Jane", existingAuthorId, "Charlotte", 2L, "Emily", 3L), authorIds);
+        assertEquals(Set.copyOf(authorIds.values()), linkedAuthorIds);
+        assertEquals(List.of(1L, 2L, 3L), jdbcTemplate.queryForList("SELECT id FROM book ORDER BY id", Long.class));
+        assertEquals(List.of("1-1", "2-1", "2-2", "3-3"), jdbcTemplate.queryForList("SELECT books_id || '-' || " +
+                "author_id FROM author_book ORDER BY books_id, author_id", String.class));
+    }
+
+    private static long[] range(long from, long to) {
+        long[] ids = new long[(int) (to - from + 1)];
+        Arrays.setAll(ids, i -> from + i);
+        return ids;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs the reprice statement, a data-modifying CTE with {@code FOR UPDATE}, {@code UPDATE ... FROM ... RETURNING}
+ * and {@code ARRAY_AGG} that H2 does not support, on PostgreSQL. The tables are created in a scratch schema that
+ * is dropped afterwards: {@code BOOK_TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/book_test}, with
+ * {@code BOOK_TEST_POSTGRES_USERNAME}/{@code BOOK_TEST_POSTGRES_PASSWORD}.
+ */
+@EnabledIfEnvironmentVariable(named = "BOOK_TEST_POSTGRES_URL", matches = ".+")
+class BookRepriceRepositoryPostgresTests {
+
+    private static final String SCHEMA = "book_reprice_tests";
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private BookRepriceRepository bookRepriceRepository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getenv("BOOK_TEST_POSTGRES_URL"),
+                System.getenv().getOrDefault("BOOK_TEST_POSTGRES_USERNAME", "postgres"),
+                System.getenv().getOrDefault("BOOK_TEST_POSTGRES_PASSWORD", "postgres"), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        bookRepriceRepository = new BookRepriceRepository(new NamedParameterJdbcTemplate(dataSource));
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA);
+        jdbcTemplate.execute("CREATE TABLE genre (id BIGINT PRIMARY KEY, name VARCHAR(255), type_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE book (id BIGINT PRIMARY KEY, name VARCHAR(255), " +
+                "description VARCHAR(255), genre_id BIGINT REFERENCES genre (id), price NUMERIC(19,8), " +
+                "published TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE author (id BIGINT PRIMARY KEY, first_name VARCHAR(255), " +
+                "last_name VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE author_book (author_id BIGINT REFERENCES author (id), " +
+                "books_id BIGINT REFERENCES book (id), PRIMARY KEY (author_id, books_id))");
+        jdbcTemplate.update("INSERT INTO genre (id, name, type_id) VALUES (1, 'Genre 1', 1), (2, 'Genre 2', 2)");
+        jdbcTemplate.update("INSERT INTO author (id, first_name, last_name) " +
+                "VALUES (1, 'First', 'Author 1'), (2, 'First', 'Author 2'), (3, 'First', 'Author 3'), " +
+                "(4, 'First', 'Author 4')");
+        insertBook(1, 1, new BigDecimal("10.00"), 1, 2);
+        insertBook(2, 2, new BigDecimal("20.00"), 3);
+        insertBook(3, 1, new BigDecimal("30.00"), 2);
+        insertBook(4, 1, MonetaryAmount.MAX_MONETARY_AMOUNT, 1);
+        insertBook(5, 1, new BigDecimal("33.00"), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void testRepriceChunk_byChunks() {
+        RepriceBooksCommand.Selector selector = RepriceBooksCommand.Selector.builder().genreId(1L).build();
+        RepriceBooksCommand.Operation operation = RepriceBooksCommand.Operation.builder()
+                .factor(new BigDecimal("1.1"))
+                .maxPrice(new BigDecimal("33"))
+                .build();
+
+        BookRepriceRepository.RepricedChunk first = bookRepriceRepository.repriceChunk(selector, operation, 0, 3);
+        BookRepriceRepository.RepricedChunk second = bookRepriceRepository.repriceChunk(selector, operation,
+                first.getLastId(), 3);
+        BookRepriceRepository.RepricedChunk last = bookRepriceRepository.repriceChunk(selector, operation,
+                second.getLastId(), 3);
+
+        // book 4 would exceed the max amount, book 5 is capped at its current price
+        assertEquals(4L, first.getLastId());
+        assertEquals(3, first.getMatched());
+        assertEquals(1, first.getRejected());
+        assertEquals(Set.of(1L, 3L), Set.copyOf(first.getRepricedIds()));
+        assertEquals(Set.of(1L, 2L), Set.copyOf(first.getAuthorIds()));
+        assertEquals(5L, second.getLastId());
+        assertEquals(1, second.getMatched());
+        assertEquals(0, second.getRejected());
+        assertEquals(List.of(), second.getRepricedIds());
+        assertEquals(List.of(), second.getAuthorIds());
+        assertNull(last.getLastId());
+        assertEquals(0, last.getMatched());
+        assertEquals(Map.of(1L, new BigDecimal("11.00000000"), 2L, new BigDecimal("20.00000000"),
+                3L, new BigDecimal("33.00000000"), 4L, MonetaryAmount.MAX_MONETARY_AMOUNT.setScale(8),
+                5L, new BigDecimal("33.00000000")), prices());
+    }
+
+    @Test
+    void testRepriceChunk_byGenreType() {
+        RepriceBooksCommand.Selector selector = RepriceBooksCommand.Selector.builder().typeId(2L).build();
+        RepriceBooksCommand.Operation operation = RepriceBooksCommand.Operation.builder()
+                .addend(new BigDecimal("-0.005"))
+                .build();
+
+        BookRepriceRepository.RepricedChunk chunk = bookRepriceRepository.repriceChunk(selector, operation, 0, 10);
+
+        assertEquals(2L, chunk.getLastId());
+        assertEquals(List.of(2L), chunk.getRepricedIds());
+        assertEquals(List.of(3L), chunk.getAuthorIds());
+        assertEquals(new BigDecimal("19.99500000"), prices().get(2L));
+        assertEquals(new BigDecimal("10.00000000"), prices().get(1L));
+    }
+
+    private void insertBook(long id, long genreId, BigDecimal price, long... authorIds) {
+        jdbcTemplate.update("INSERT INTO book (id, name, description, genre_id, price, published) " +
+                        "VALUES (?, ?, 'Description', ?, ?, TIMESTAMP '2022-02-01 00:00:00')",
+                id, "Book " + id, genreId, price);
+        for (long authorId : authorIds) {
+            jdbcTemplate.update("INSERT INTO author_book (author_id, books_id) VALUES (?, ?)", authorId, id);
+        }
+    }
+
+    private Map<Long, BigDecimal> prices() {
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        jdbcTemplate.query("SELECT id, price FROM book", resultSet -> {
+            prices.put(resultSet.getLong("id"), resultSet.getBigDecimal("price"));
+        });
+        return prices;
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.validation.ConstraintViolationException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the price SQL against {@link MonetaryAmount} on random prices and operations.
+ */
+class BookRepriceRepositoryTests {
+
+    private static final BigDecimal MIN_AMOUNT = BigDecimal.ONE.movePointLeft(MonetaryAmount.SCALE);
+
+    private SingleConnectionDataSource dataSource;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final Random random = new Random(20220206);
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:reprice;MODE=PostgreSQL", true);
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE book_price (id BIGINT PRIMARY KEY, " +
+                "price NUMERIC(19,8) NOT NULL)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void testPricedSql_halfDownTies() {
+        List<BigDecimal> prices = List.of(MIN_AMOUNT, new BigDecimal("0.00000003"), new BigDecimal("0.00000005"),
+                new BigDecimal("12.34567891"), MonetaryAmount.MAX_MONETARY_AMOUNT);
+        insertPrices(prices);
+
+        for (String factor : List.of("0.5", "0.1", "1.5", "2.5", "0.99999999", "1.00000001")) {
+            assertPricedAsMonetaryAmount(prices,
+                    RepriceBooksCommand.Operation.builder().factor(new BigDecimal(factor)).build());
+        }
+    }
+
+    @Test
+    void testPricedSql_randomOperations() {
+        List<BigDecimal> prices = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            prices.add(randomAmount(1 + random.nextInt(19)));
+        }
+        insertPrices(prices);
+
+        for (int i = 0; i < 100; i++) {
+            RepriceBooksCommand.Operation.OperationBuilder operation = RepriceBooksCommand.Operation.builder();
+            if (random.nextInt(4) != 0) {
+                // up to 12 decimals, so most products are rounded
+                operation.factor(new BigDecimal(random.nextInt(3_000_000) + 1).movePointLeft(random.nextInt(13)));
+            }
+            if (random.nextInt(2) == 0) {
+                BigDecimal addend = randomAmount(1 + random.nextInt(19));
+                operation.addend(random.nextBoolean() ? addend : addend.negate());
+            }
+            if (random.nextInt(3) == 0) {
+                operation.minPrice(randomAmount(1 + random.nextInt(8)));
+            }
+            if (random.nextInt(3) == 0) {
+                operation.maxPrice(randomAmount(8 + random.nextInt(11)));
+            }
+            assertPricedAsMonetaryAmount(prices, operation.build());
+        }
+    }
+
+    private void assertPricedAsMonetaryAmount(List<BigDecimal> prices, RepriceBooksCommand.Operation operation) {
+        Map<Long, BigDecimal> expected = new HashMap<>();
+        for (int i = 0; i < prices.size(); i++) {
+            BigDecimal newPrice = reprice(prices.get(i), operation);
+            if (newPrice != null) {
+                expected.put((long) i, newPrice.setScale(MonetaryAmount.SCALE));
+            }
+        }
+
+        Map<Long, BigDecimal> actual = new HashMap<>();
+        jdbcTemplate.query("SELECT id, new_price FROM (" + String.format(BookRepriceRepository.PRICED_SQL,
+                        "book_price") + ") p WHERE " + BookRepriceRepository.VALID_PRICE_CONDITION,
+                BookRepriceRepository.priceParameters(operation), resultSet -> {
+                    actual.put(resultSet.getLong("id"),
+                            resultSet.getBigDecimal("new_price").setScale(MonetaryAmount.SCALE));
+                });
+
+        assertEquals(expected, actual, operation.toString());
+    }
+
+    /**
+     * @return the new price, {@code null} if the book is rejected
+     */
+    private static BigDecimal reprice(BigDecimal price, RepriceBooksCommand.Operation operation) {
+        try {
+            MonetaryAmount amount = new MonetaryAmount(price);
+            if (operation.getFactor() != null) {
+                amount = amount.multiply(operation.getFactor());
+            }
+            if (operation.getAddend() != null) {
+                amount = amount.add(new MonetaryAmount(operation.getAddend()));
+            }
+            if (operation.getMinPrice() != null && amount.isLessThan(new MonetaryAmount(operation.getMinPrice()))) {
+                amount = new MonetaryAmount(operation.getMinPrice());
+            }
+            if (operation.getMaxPrice() != null && amount.isGreaterThan(new MonetaryAmount(operation.getMaxPrice()))) {
+                amount = new MonetaryAmount(operation.getMaxPrice());
+            }
+            return amount.getValue().signum() > 0 ? amount.getValue() : null;
+        } catch (ConstraintViolationException e) {
+            return null;
+        }
+    }
+
+    private void insertPrices(List<BigDecimal> prices) {
+        for (int i = 0; i < prices.size(); i++) {
+            jdbcTemplate.update("INSERT INTO book_price (id, price) VALUES (:id, :price)",
+                    Map.of("id", i, "price", prices.get(i)));
+        }
+    }
+
+    /**
+     * @return a positive amount of up to the given number of digits, 8 of them decimal
+     */
+    private BigDecimal randomAmount(int digits) {
+        StringBuilder unscaled = new StringBuilder().append(1 + random.nextInt(9));
+        for (int i = 1; i < digits; i++) {
+            unscaled.append(random.nextInt(10));
+        }
+        return new BigDecimal(unscaled.toString()).movePointLeft(MonetaryAmount.SCALE);
+    }
+
+}
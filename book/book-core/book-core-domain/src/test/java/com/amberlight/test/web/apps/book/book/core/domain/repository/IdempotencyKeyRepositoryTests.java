@@ -0,0 +1,93 @@
+package com.amberlight.test.web.apps.book.book.core.domain.repository;
+
+import com.amberlight.test.web.apps.book.book.core.domain.repository.IdempotencyKeyRepository.StoredKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the claim, completion and release of the keys on H2 in PostgreSQL mode.
+ */
+class IdempotencyKeyRepositoryTests {
+
+    private static final Duration PENDING_TIMEOUT = Duration.ofMinutes(5);
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:idempotency-key;MODE=PostgreSQL", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        idempotencyKeyRepository = new IdempotencyKeyRepository(jdbcTemplate);
+        jdbcTemplate.execute("CREATE TABLE idempotency_key (scope VARCHAR(32) NOT NULL, " +
+                "idempotency_key VARCHAR(64) NOT NULL, document TEXT, " +
+                "created TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL, request_hash VARCHAR(64), " +
+                "PRIMARY KEY (scope, idempotency_key))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void testClaim_pendingKeyIsNotClaimedAgain() {
+        assertTrue(idempotencyKeyRepository.claim("scope", "key", "hash", PENDING_TIMEOUT));
+
+        assertFalse(idempotencyKeyRepository.claim("scope", "key", "hash", PENDING_TIMEOUT));
+        StoredKey storedKey = idempotencyKeyRepository.findKey("scope", "key");
+        assertEquals("hash", storedKey.getRequestHash());
+        assertNull(storedKey.getDocument());
+    }
+
+    @Test
+    void testClaim_stalePendingKeyIsClaimedAgain() {
+        idempotencyKeyRepository.claim("scope", "key", "hash", PENDING_TIMEOUT);
+        jdbcTemplate.update("UPDATE idempotency_key SET created = LOCALTIMESTAMP - INTERVAL '6' MINUTE");
+
+        assertTrue(idempotencyKeyRepository.claim("scope", "key", "another hash", PENDING_TIMEOUT));
+        assertEquals("another hash", idempotencyKeyRepository.findKey("scope", "key").getRequestHash());
+        assertFalse(idempotencyKeyRepository.claim("scope", "key", "hash", PENDING_TIMEOUT));
+    }
+
+    @Test
+    void testClaim_completedKeyIsNotClaimedAgain() {
+        idempotencyKeyRepository.claim("scope", "key", "hash", PENDING_TIMEOUT);
+        idempotencyKeyRepository.complete("scope", "key", "{}");
+        jdbcTemplate.update("UPDATE idempotency_key SET created = LOCALTIMESTAMP - INTERVAL '6' MINUTE");
+
+        assertFalse(idempotencyKeyRepository.claim("scope", "key", "hash", PENDING_TIMEOUT));
+        idempotencyKeyRepository.complete("scope", "key", "{\"second\":true}");
+        assertEquals("{}", idempotencyKeyRepository.findKey("scope", "key").getDocument());
+    }
+
+    @Test
+    void testRelease_onlyPendingKeyOfRequest() {
+        idempotencyKeyRepository.claim("scope", "pending", "hash", PENDING_TIMEOUT);
+        idempotencyKeyRepository.claim("scope", "completed", "hash", PENDING_TIMEOUT);
+        idempotencyKeyRepository.complete("scope", "completed", "{}");
+
+        idempotencyKeyRepository.release("scope", "pending", "another hash");
+        idempotencyKeyRepository.release("scope", "completed", "hash");
+        assertEquals("hash", idempotencyKeyRepository.findKey("scope", "pending").getRequestHash());
+        assertEquals("{}", idempotencyKeyRepository.findKey("scope", "completed").getDocument());
+
+        idempotencyKeyRepository.release("scope", "pending", "hash");
+        assertNull(idempotencyKeyRepository.findKey("scope", "pending"));
+        assertTrue(idempotencyKeyRepository.claim("scope", "pending", "hash", PENDING_TIMEOUT));
+    }
+
+}
@@ -3,6 +3,7 @@ package com.amberlight.test.web.apps.book.book.core.service;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
@@ -11,7 +12,9 @@ import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 @ComponentScan(basePackages = { "com.amberlight.test.web.apps.book.book.core" })
 @EntityScan(basePackages = { "com.amberlight.test.web.apps.book.book.core" })
 @EnableJpaRepositories(basePackages = { "com.amberlight.test.web.apps.book.book.core" })
-@SpringBootApplication
+// the reactive read model keeps its own R2DBC connection factory,
+// an auto-configured one would switch off the JDBC DataSource
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class BookCoreServiceApplication {
 
     public static void main(String[] args) {
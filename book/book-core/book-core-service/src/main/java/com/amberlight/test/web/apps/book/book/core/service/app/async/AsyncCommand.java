@@ -0,0 +1,27 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.async;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message of the async commands topic, holds exactly one of the commands.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AsyncCommand {
+
+    private String trackingId;
+
+    private CreateBookCommand createBookCommand;
+
+    private CreateBookAuthorCommand createBookAuthorCommand;
+
+}
@@ -0,0 +1,101 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.async;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import java.util.Map;
+
+/**
+ * Kafka clients of the async commands, the connection settings are taken from {@code spring.kafka}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "book-core.async-commands.enabled", havingValue = "true")
+public class AsyncCommandConfig {
+
+    @Bean
+    public NewTopic asyncCommandTopic(@Value("${book-core.async-commands.topic:book-core-commands}") String topic,
+                                      @Value("${book-core.async-commands.partitions:6}") int partitions) {
+        return new NewTopic(topic, partitions, (short) 1);
+    }
+
+    /**
+     * Topic of the records that could not be processed, with as many partitions as the commands topic,
+     * a record is sent to the partition it was read from.
+     */
+    @Bean
+    public NewTopic asyncCommandDeadLetterTopic(
+            @Value("${book-core.async-commands.topic:book-core-commands}") String topic,
+            @Value("${book-core.async-commands.partitions:6}") int partitions) {
+        return new NewTopic(topic + ".DLT", partitions, (short) 1);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> asyncCommandKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> properties = kafkaProperties.buildProducerProperties();
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        // an accepted command must not be lost or duplicated by a producer retry
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(properties));
+    }
+
+    /**
+     * Sends a record to the {@code .DLT} topic of its topic, the original topic, partition, offset and the
+     * exception are in the headers.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer asyncCommandDeadLetterRecoverer(
+            KafkaTemplate<String, String> asyncCommandKafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(asyncCommandKafkaTemplate);
+    }
+
+    /**
+     * Batch listener container, a batch that cannot be processed is retried with a growing delay, so commands
+     * are not skipped while the database is briefly unavailable. Once the retries are exhausted, the records
+     * of the batch are sent to the dead letter topic and the partitions move on.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> asyncCommandListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            DeadLetterPublishingRecoverer asyncCommandDeadLetterRecoverer,
+            @Value("${book-core.async-commands.group-id:book-core-service}") String groupId,
+            @Value("${book-core.async-commands.batch-size:500}") int batchSize,
+            @Value("${book-core.async-commands.concurrency:3}") int concurrency,
+            @Value("${book-core.async-commands.max-retries:12}") int maxRetries) {
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties();
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(100L);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(30_000L);
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(properties));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(asyncCommandDeadLetterRecoverer, backOff));
+        return factory;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.async;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the async commands topic by batches, the offsets of a batch are committed once it is processed.
+ */
+@Component("asyncCommandListener")
+@ConditionalOnProperty(name = "book-core.async-commands.enabled", havingValue = "true")
+public class AsyncCommandListener {
+
+    private AsyncCommandService asyncCommandService;
+
+    private ObjectMapper objectMapper;
+
+    private DeadLetterPublishingRecoverer deadLetterRecoverer;
+
+    public AsyncCommandListener(AsyncCommandService asyncCommandService, ObjectMapper objectMapper,
+                                DeadLetterPublishingRecoverer asyncCommandDeadLetterRecoverer) {
+        this.asyncCommandService = asyncCommandService;
+        this.objectMapper = objectMapper;
+        this.deadLetterRecoverer = asyncCommandDeadLetterRecoverer;
+    }
+
+    /**
+     * Processes a batch of records. A record that is not a command has no tracking id to report to, so it is
+     * sent to the dead letter topic with its topic, partition and offset, and the batch goes on without it.
+     */
+    @KafkaListener(topics = "${book-core.async-commands.topic:book-core-commands}",
+            containerFactory = "asyncCommandListenerContainerFactory")
+    public void onMessages(List<ConsumerRecord<String, String>> records) {
+        List<AsyncCommand> commands = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                commands.add(objectMapper.readValue(record.value(), AsyncCommand.class));
+            } catch (JsonProcessingException e) {
+                deadLetterRecoverer.accept(record, e);
+            }
+        }
+        asyncCommandService.process(commands);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.async;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Appends commands to the async commands topic, keyed by tracking id to spread them over the partitions.
+ */
+@Component("asyncCommandPublisher")
+@ConditionalOnProperty(name = "book-core.async-commands.enabled", havingValue = "true")
+public class AsyncCommandPublisher {
+
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private ObjectMapper objectMapper;
+
+    private String topic;
+
+    private Duration sendTimeout;
+
+    public AsyncCommandPublisher(KafkaTemplate<String, String> asyncCommandKafkaTemplate, ObjectMapper objectMapper,
+                                 @Value("${book-core.async-commands.topic:book-core-commands}") String topic,
+                                 @Value("${book-core.async-commands.send-timeout:5s}") Duration sendTimeout) {
+        this.kafkaTemplate = asyncCommandKafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * Appends the command and waits until the broker has stored it.
+     *
+     * @param command command to append
+     * @throws IllegalStateException if the command could not be stored within the send timeout
+     */
+    public void publish(AsyncCommand command) {
+        try {
+            kafkaTemplate.send(topic, command.getTrackingId(), objectMapper.writeValueAsString(command))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException | ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("The command could not be queued", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The command could not be queued", e);
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.async;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CommandStatusDocument;
+
+import java.util.List;
+
+public interface AsyncCommandService {
+
+    /**
+     * Processes a batch of commands and stores their results. Commands processed before are skipped,
+     * so a batch delivered again is processed once.
+     *
+     * @param commands commands in the order they were queued
+     */
+    void process(List<AsyncCommand> commands);
+
+    /**
+     * @param trackingId tracking id of the command
+     * @return result of the command, {@code PENDING} until it is processed
+     */
+    CommandStatusDocument findStatus(String trackingId);
+
+}
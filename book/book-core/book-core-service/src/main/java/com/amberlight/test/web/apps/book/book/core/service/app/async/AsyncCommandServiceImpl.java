@@ -0,0 +1,190 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.async;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CommandStatusDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.CommandStatusRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorService;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service("asyncCommandService")
+@ConditionalOnProperty(name = "book-core.async-commands.enabled", havingValue = "true")
+public class AsyncCommandServiceImpl implements AsyncCommandService {
+
+    /**
+     * Max length of a stored error message.
+     */
+    static final int MAX_ERROR_LENGTH = 1024;
+
+    /**
+     * Error stored for a command without exactly one payload.
+     */
+    static final String INVALID_PAYLOAD_ERROR =
+            "A command must have exactly one of createBookCommand and createBookAuthorCommand";
+
+    private BookService bookService;
+
+    private BookAuthorService bookAuthorService;
+
+    private CommandStatusRepository commandStatusRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    public AsyncCommandServiceImpl(BookService bookService, BookAuthorService bookAuthorService,
+                                   CommandStatusRepository commandStatusRepository,
+                                   TransactionTemplate transactionTemplate) {
+        this.bookService = bookService;
+        this.bookAuthorService = bookAuthorService;
+        this.commandStatusRepository = commandStatusRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The books of the batch are created in one transaction, the authors in another one, each with the statuses
+     * of its commands. If a group fails, its commands are processed one by one, and a command rejected by the
+     * validation or by a constraint is stored as failed. Any other error, such as a lost connection, is thrown
+     * for the batch to be delivered again. A command with no payload or with both of them is stored as failed
+     * without being run.
+     */
+    @Override
+    public void process(List<AsyncCommand> commands) {
+        Map<String, AsyncCommand> uniqueCommands = new LinkedHashMap<>();
+        commands.forEach(command -> uniqueCommands.putIfAbsent(command.getTrackingId(), command));
+        List<AsyncCommand> bookCommands = new ArrayList<>();
+        List<AsyncCommand> authorCommands = new ArrayList<>();
+        for (AsyncCommand command : uniqueCommands.values()) {
+            boolean book = command.getCreateBookCommand() != null;
+            if (book == (command.getCreateBookAuthorCommand() != null)) {
+                fail(command, INVALID_PAYLOAD_ERROR);
+            } else {
+                (book ? bookCommands : authorCommands).add(command);
+            }
+        }
+        process(bookCommands, this::createBooks);
+        process(authorCommands, this::createAuthors);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommandStatusDocument findStatus(String trackingId) {
+        CommandStatusDocument status = commandStatusRepository.findStatuses(List.of(trackingId)).get(trackingId);
+        return status != null
+                ? status
+                : CommandStatusDocument.builder().trackingId(trackingId).status(CommandStatusRepository.PENDING).build();
+    }
+
+    private void process(List<AsyncCommand> commands, Function<List<AsyncCommand>, List<Long>> create) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        try {
+            processInTransaction(commands, create);
+        } catch (RuntimeException e) {
+            if (!isRejected(e)) {
+                throw e;
+            }
+            // isolates the failing commands by processing them one by one
+            for (AsyncCommand command : commands) {
+                try {
+                    processInTransaction(List.of(command), create);
+                } catch (RuntimeException commandException) {
+                    if (!isRejected(commandException)) {
+                        throw commandException;
+                    }
+                    fail(command, commandException.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the command as failed in its own transaction, unless it was processed before.
+     */
+    private void fail(AsyncCommand command, String error) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!commandStatusRepository.claimStatuses(List.of(command.getTrackingId())).isEmpty()) {
+                commandStatusRepository.updateStatuses(List.of(failed(command, error)));
+            }
+        });
+    }
+
+    /**
+     * Claims the commands, runs the ones not processed before and stores their statuses, all in one transaction.
+     */
+    private void processInTransaction(List<AsyncCommand> commands, Function<List<AsyncCommand>, List<Long>> create) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> claimedIds = commandStatusRepository.claimStatuses(commands.stream()
+                    .map(AsyncCommand::getTrackingId)
+                    .collect(Collectors.toList()));
+            List<AsyncCommand> claimedCommands = commands.stream()
+                    .filter(command -> claimedIds.contains(command.getTrackingId()))
+                    .collect(Collectors.toList());
+            if (claimedCommands.isEmpty()) {
+                return;
+            }
+            List<Long> entityIds = create.apply(claimedCommands);
+            List<CommandStatusDocument> statuses = new ArrayList<>(claimedCommands.size());
+            for (int i = 0; i < claimedCommands.size(); i++) {
+                statuses.add(completed(claimedCommands.get(i), entityIds.get(i)));
+            }
+            commandStatusRepository.updateStatuses(statuses);
+        });
+    }
+
+    private List<Long> createBooks(List<AsyncCommand> commands) {
+        List<BookDto> books = commands.stream()
+                .map(command -> command.getCreateBookCommand().getBook())
+                .collect(Collectors.toList());
+        return bookService.createBooks(books).stream().map(Book::getId).collect(Collectors.toList());
+    }
+
+    private List<Long> createAuthors(List<AsyncCommand> commands) {
+        List<AuthorDto> authors = commands.stream()
+                .map(command -> command.getCreateBookAuthorCommand().getAuthor())
+                .collect(Collectors.toList());
+        return bookAuthorService.createAuthors(authors).stream().map(Author::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * @return whether the command itself is invalid, so processing it again would fail again
+     */
+    private static boolean isRejected(RuntimeException e) {
+        return e instanceof IllegalStateException
+                || e instanceof DataIntegrityViolationException
+                || e instanceof ConstraintViolationException;
+    }
+
+    private static CommandStatusDocument completed(AsyncCommand command, Long entityId) {
+        return CommandStatusDocument.builder()
+                .trackingId(command.getTrackingId()).status("COMPLETED").entityId(entityId).build();
+    }
+
+    private static CommandStatusDocument failed(AsyncCommand command, String error) {
+        String message = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        return CommandStatusDocument.builder()
+                .trackingId(command.getTrackingId()).status("FAILED").error(message).build();
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.cache;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.TypeDto;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.service.app.datasource.DataSourceRouting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded read-through cache of the finished find-one documents, keyed by book and author id.
+ * <p>
+ * Only found documents are cached, so a "not found" never outlives the creation of the entity. Writers evict
+ * the documents they change after their transaction commits: a single-key load that is in flight at that
+ * moment is either finished before the eviction removes it, or started after the commit and sees the new
+ * state. Bulk loads cannot be atomic per key, they drop what they wrote back when an eviction happened while
+ * they were loading. With read replicas, a load started within {@code max-lag} of the last eviction reads the
+ * primary, so the state a lagging replica still has is not cached again after the commit. The documents carry genre and type names, so a reload of the {@link GenreTypeRegistry} that
+ * changed them empties the whole cache.
+ * <p>
+ * The DTOs of the documents are mutable and end up in the responses, so callers get their own deep copy of a
+ * cached document.
+ */
+@Component("documentCache")
+public class DocumentCache {
+
+    private final Cache<Long, FindBookDocument> bookDocuments;
+
+    private final Cache<Long, FindBookAuthorDocument> authorDocuments;
+
+    private final AtomicLong bookEvictions = new AtomicLong();
+
+    private final AtomicLong authorEvictions = new AtomicLong();
+
+    private final long maxLagNanos;
+
+    private final AtomicLong lastEvictionNanos;
+
+    public DocumentCache(@Value("${book-core.cache.documents.max-size:10000}") long maxSize,
+                         @Value("${book-core.cache.documents.ttl:10m}") Duration ttl,
+                         @Value("${book-core.datasource.routing.max-lag:5s}") Duration maxLag,
+                         MeterRegistry meterRegistry) {
+        this.maxLagNanos = maxLag.toNanos();
+        this.lastEvictionNanos = new AtomicLong(System.nanoTime() - maxLagNanos);
+        this.bookDocuments = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.authorDocuments = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bookDocuments, "bookDocuments");
+        CaffeineCacheMetrics.monitor(meterRegistry, authorDocuments, "bookAuthorDocuments");
+    }
+
+    /**
+     * Gets the cached book document or loads it, concurrent loads of the same id are collapsed into one.
+     *
+     * @param id book id
+     * @param loader loads the document, returns {@code null} if the book does not exist
+     * @return a copy of the document or {@code null} if the book does not exist
+     */
+    public FindBookDocument getBookDocument(Long id, Function<Long, FindBookDocument> loader) {
+        return copy(bookDocuments.get(id, routed(loader)));
+    }
+
+    /**
+     * Gets the cached book documents and loads the missing ones in one call.
+     *
+     * @param ids book ids
+     * @param loader loads the documents of the ids given, omits the ids of books that do not exist
+     * @return copies of the found documents by book id
+     */
+    public Map<Long, FindBookDocument> getBookDocuments(Collection<Long> ids,
+                                                        Function<Set<Long>, Map<Long, FindBookDocument>> loader) {
+        Map<Long, FindBookDocument> documents = getAll(bookDocuments, bookEvictions, ids, routed(loader));
+        documents.replaceAll((id, document) -> copy(document));
+        return documents;
+    }
+
+    /**
+     * Gets the cached author document or loads it, concurrent loads of the same id are collapsed into one.
+     *
+     * @param id author id
+     * @param loader loads the document, returns {@code null} if the author does not exist
+     * @return a copy of the document or {@code null} if the author does not exist
+     */
+    public FindBookAuthorDocument getAuthorDocument(Long id, Function<Long, FindBookAuthorDocument> loader) {
+        return copy(authorDocuments.get(id, routed(loader)));
+    }
+
+    /**
+     * Gets the cached author documents and loads the missing ones in one call.
+     *
+     * @param ids author ids
+     * @param loader loads the documents of the ids given, omits the ids of authors that do not exist
+     * @return copies of the found documents by author id
+     */
+    public Map<Long, FindBookAuthorDocument> getAuthorDocuments(
+            Collection<Long> ids, Function<Set<Long>, Map<Long, FindBookAuthorDocument>> loader) {
+        Map<Long, FindBookAuthorDocument> documents = getAll(authorDocuments, authorEvictions, ids,
+                routed(loader));
+        documents.replaceAll((id, document) -> copy(document));
+        return documents;
+    }
+
+    /**
+     * Evicts the book documents once the current transaction commits, or right away without a transaction.
+     *
+     * @param ids book ids
+     */
+    public void evictBookDocuments(Collection<Long> ids) {
+        afterCommit(() -> evict(bookDocuments, bookEvictions, ids));
+    }
+
+    /**
+     * Evicts the author documents once the current transaction commits, or right away without a transaction.
+     *
+     * @param ids author ids
+     */
+    public void evictAuthorDocuments(Collection<Long> ids) {
+        afterCommit(() -> evict(authorDocuments, authorEvictions, ids));
+    }
+
+    /**
+     * Evicts all documents, they were built from the genres and types the registry replaced.
+     *
+     * @param event registry reload
+     */
+    @EventListener
+    public void onRegistryReloaded(GenreTypeRegistry.ReloadedEvent event) {
+        bookEvictions.incrementAndGet();
+        authorEvictions.incrementAndGet();
+        bookDocuments.invalidateAll();
+        authorDocuments.invalidateAll();
+    }
+
+    private static <D> Map<Long, D> getAll(Cache<Long, D> cache, AtomicLong evictions, Collection<Long> ids,
+                                           Function<Set<Long>, Map<Long, D>> loader) {
+        Map<Long, D> documents = new HashMap<>(cache.getAllPresent(ids));
+        Set<Long> missingIds = new HashSet<>(ids);
+        missingIds.removeAll(documents.keySet());
+        if (missingIds.isEmpty()) {
+            return documents;
+        }
+        long evictionsBeforeLoad = evictions.get();
+        Map<Long, D> loaded = loader.apply(missingIds);
+        documents.putAll(loaded);
+        loaded.forEach(cache.asMap()::putIfAbsent);
+        // an eviction counted after this check removes the entries itself
+        if (evictions.get() != evictionsBeforeLoad) {
+            cache.invalidateAll(loaded.keySet());
+        }
+        return documents;
+    }
+
+    /**
+     * Runs the loads started within {@code max-lag} of the last eviction on the primary, a replica may not
+     * have the committed change yet.
+     */
+    private <K, D> Function<K, D> routed(Function<K, D> loader) {
+        return key -> System.nanoTime() - lastEvictionNanos.get() < maxLagNanos
+                ? DataSourceRouting.onPrimary(() -> loader.apply(key))
+                : loader.apply(key);
+    }
+
+    private <D> void evict(Cache<Long, D> cache, AtomicLong evictions, Collection<Long> ids) {
+        lastEvictionNanos.set(System.nanoTime());
+        evictions.incrementAndGet();
+        cache.invalidateAll(ids);
+    }
+
+    private static FindBookDocument copy(FindBookDocument document) {
+        return document == null ? null : document.toBuilder().book(copy(document.getBook())).build();
+    }
+
+    private static FindBookAuthorDocument copy(FindBookAuthorDocument document) {
+        return document == null ? null : document.toBuilder().author(copy(document.getAuthor())).build();
+    }
+
+    private static BookDto copy(BookDto book) {
+        return book == null ? null : book.toBuilder()
+                .genre(copy(book.getGenre()))
+                .authors(copySet(book.getAuthors(), DocumentCache::copy))
+                .build();
+    }
+
+    private static AuthorDto copy(AuthorDto author) {
+        return author == null ? null : author.toBuilder()
+                .books(copySet(author.getBooks(), DocumentCache::copy))
+                .build();
+    }
+
+    private static GenreDto copy(GenreDto genre) {
+        return genre == null ? null : genre.toBuilder()
+                .books(copyList(genre.getBooks(), DocumentCache::copy))
+                .type(copy(genre.getType()))
+                .build();
+    }
+
+    private static TypeDto copy(TypeDto type) {
+        return type == null ? null : type.toBuilder()
+                .genres(copySet(type.getGenres(), DocumentCache::copy))
+                .books(copyList(type.getBooks(), DocumentCache::copy))
+                .build();
+    }
+
+    private static <T> Set<T> copySet(Set<T> elements, Function<T, T> copy) {
+        return elements == null ? null : elements.stream()
+                .map(copy)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static <T> List<T> copyList(List<T> elements, Function<T, T> copy) {
+        return elements == null ? null : elements.stream().map(copy).collect(Collectors.toList());
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+}
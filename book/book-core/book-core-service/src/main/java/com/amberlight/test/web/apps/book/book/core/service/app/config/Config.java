@@ -8,10 +8,12 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.ConfigurableConversionService;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.Set;
 
 @Configuration
+@EnableScheduling
 public class Config {
 
     @Bean
@@ -0,0 +1,89 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.datasource;
+
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Pins the current thread to the primary data source, for reads which must see the writes just made.
+ * <p>
+ * Within a request a thread is also pinned once the request has committed a write, or when its client
+ * has written recently, see {@link ReadYourWritesFilter}.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+    private static final ThreadLocal<Request> REQUEST = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean pinned = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(true);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_PINNED.set(pinned);
+        }
+    }
+
+    static boolean isPrimaryPinned() {
+        Request request = REQUEST.get();
+        return PRIMARY_PINNED.get() || request != null && request.primaryPinned;
+    }
+
+    /**
+     * Starts the request of the current thread, the commit times of its writes are passed to the listener.
+     */
+    static void startRequest(boolean primaryPinned, LongConsumer writeListener) {
+        REQUEST.set(new Request(primaryPinned, writeListener));
+    }
+
+    static void endRequest() {
+        REQUEST.remove();
+    }
+
+    /**
+     * Runs the action as a request of its own, the commit times of its writes are passed to the listener. A thread
+     * writing on behalf of a request of another thread hands them over to {@link #writeCommitted(long)} there.
+     */
+    public static <T> T recordWrites(Supplier<T> action, LongConsumer writeListener) {
+        Request request = REQUEST.get();
+        REQUEST.set(new Request(false, writeListener));
+        try {
+            return action.get();
+        } finally {
+            if (request != null) {
+                REQUEST.set(request);
+            } else {
+                REQUEST.remove();
+            }
+        }
+    }
+
+    /**
+     * Pins the rest of the current request to the primary, a thread outside of a request is left as it is.
+     */
+    public static void writeCommitted(long commitMillis) {
+        Request request = REQUEST.get();
+        if (request != null) {
+            request.primaryPinned = true;
+            request.writeListener.accept(commitMillis);
+        }
+    }
+
+    private static class Request {
+
+        private boolean primaryPinned;
+
+        private final LongConsumer writeListener;
+
+        Request(boolean primaryPinned, LongConsumer writeListener) {
+            this.primaryPinned = primaryPinned;
+            this.writeListener = writeListener;
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas which read-only transactions are routed to, the primary is configured by "spring.datasource".
+ */
+@Data
+@ConfigurationProperties(prefix = "book-core.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * A replica lagging behind the primary more than this is not read from, and the reads of a client are served
+     * by the primary for this long after its last write, so its writes are never missed by its following reads.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Returns the replication lag of a replica in seconds, "SELECT 0" suits an H2 stand-in.
+     */
+    private String lagQuery = "SELECT CASE WHEN pg_is_in_recovery() " +
+            "THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) ELSE 0 END";
+
+    @Data
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+import static com.amberlight.test.web.apps.book.book.core.api.client.BookCoreQueryClient.LAST_WRITE_HEADER;
+
+/**
+ * Scopes read-your-writes to the client: the commit time of a write is answered in the last write header,
+ * and the reads of a request which sends it back go to the primary for {@code maxLag} after that write.
+ * <p>
+ * The header is not trusted beyond routing, a time later than {@code maxLag} ahead is ignored, so a client
+ * cannot pin itself to the primary for longer than that.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final long maxLagMillis;
+
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration maxLag, Clock clock) {
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long nowMillis = clock.millis();
+        long lastWriteMillis = parseMillis(request.getHeader(LAST_WRITE_HEADER));
+        boolean primaryPinned = lastWriteMillis >= nowMillis - maxLagMillis
+                && lastWriteMillis <= nowMillis + maxLagMillis;
+        DataSourceRouting.startRequest(primaryPinned, commitMillis -> {
+            if (!response.isCommitted()) {
+                response.setHeader(LAST_WRITE_HEADER, String.valueOf(commitMillis));
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRouting.endRequest();
+        }
+    }
+
+    private static long parseMillis(String value) {
+        if (value == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections of read-only transactions to an up-to-date replica and everything else to the primary.
+ * <p>
+ * Reads go to the primary as well while the current thread is pinned by {@link DataSourceRouting},
+ * that is by {@link DataSourceRouting#onPrimary} or in a request following a write of its client,
+ * and whenever no replica is known to lag behind less than {@code maxLag}.
+ * The decision is made when a connection is obtained, so this data source has to be wrapped into
+ * a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} to see the transaction flags.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+
+    private final Map<String, DataSource> replicas;
+
+    private final long maxLagMillis;
+
+    private final String lagQuery;
+
+    private final Clock clock;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private volatile List<String> availableReplicas = new ArrayList<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    Duration maxLag, String lagQuery, Clock clock) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+        this.clock = clock;
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        DataSourceRouting.writeCommitted(clock.millis());
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (DataSourceRouting.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        List<String> available = availableReplicas;
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(nextReplica.getAndIncrement(), available.size()));
+    }
+
+    /**
+     * Measures the lag of every replica, the ones which are behind more than {@code maxLag}
+     * or cannot be queried are not read from until the next check.
+     */
+    @Scheduled(initialDelayString = "${book-core.datasource.routing.lag-check-interval:PT5S}",
+            fixedDelayString = "${book-core.datasource.routing.lag-check-interval:PT5S}")
+    public void checkReplicas() {
+        List<String> available = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            Double lagSeconds;
+            try {
+                lagSeconds = measureLagSeconds(replica.getValue());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to check the lag of replica " + replica.getKey(), e);
+                continue;
+            }
+            if (lagSeconds != null && lagSeconds * 1000 <= maxLagMillis) {
+                available.add(replica.getKey());
+            } else {
+                logger.warn("Replica " + replica.getKey() + " lags behind by " + lagSeconds + "s");
+            }
+        }
+        availableReplicas = available;
+    }
+
+    Double measureLagSeconds(DataSource replica) {
+        return new JdbcTemplate(replica).queryForObject(lagQuery, Double.class);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof Closeable) {
+                ((Closeable) replica).close();
+            }
+        }
+        if (primary instanceof Closeable) {
+            ((Closeable) primary).close();
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.handler;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.AcceptedCommandDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CommandStatusDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindCommandStatusQuery;
+
+public interface AsyncCommandHandler {
+
+    AcceptedCommandDocument process(CreateBookCommand command);
+
+    AcceptedCommandDocument process(CreateBookAuthorCommand command);
+
+    CommandStatusDocument process(FindCommandStatusQuery query);
+
+}
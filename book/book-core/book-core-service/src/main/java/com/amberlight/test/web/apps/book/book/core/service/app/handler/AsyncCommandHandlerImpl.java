@@ -0,0 +1,74 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.handler;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.AcceptedCommandDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CommandStatusDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindCommandStatusQuery;
+import com.amberlight.test.web.apps.book.book.core.service.app.async.AsyncCommand;
+import com.amberlight.test.web.apps.book.book.core.service.app.async.AsyncCommandPublisher;
+import com.amberlight.test.web.apps.book.book.core.service.app.async.AsyncCommandService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Validates the commands on the request thread and queues them, they are written by the async command listener.
+ */
+@Component("asyncCommandHandler")
+@ConditionalOnProperty(name = "book-core.async-commands.enabled", havingValue = "true")
+public class AsyncCommandHandlerImpl implements AsyncCommandHandler {
+
+    private AsyncCommandPublisher asyncCommandPublisher;
+
+    private AsyncCommandService asyncCommandService;
+
+    private CommandValidator commandValidator;
+
+    private QueryValidator queryValidator;
+
+    public AsyncCommandHandlerImpl(AsyncCommandPublisher asyncCommandPublisher,
+                                   AsyncCommandService asyncCommandService,
+                                   CommandValidator commandValidator,
+                                   QueryValidator queryValidator) {
+        this.asyncCommandPublisher = asyncCommandPublisher;
+        this.asyncCommandService = asyncCommandService;
+        this.commandValidator = commandValidator;
+        this.queryValidator = queryValidator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AcceptedCommandDocument process(CreateBookCommand command) {
+        commandValidator.validateCommand(command);
+        return publish(AsyncCommand.builder().createBookCommand(command));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AcceptedCommandDocument process(CreateBookAuthorCommand command) {
+        commandValidator.validateCommand(command);
+        return publish(AsyncCommand.builder().createBookAuthorCommand(command));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommandStatusDocument process(FindCommandStatusQuery query) {
+        queryValidator.validateQuery(query);
+        return asyncCommandService.findStatus(query.getTrackingId());
+    }
+
+    private AcceptedCommandDocument publish(AsyncCommand.AsyncCommandBuilder command) {
+        String trackingId = UUID.randomUUID().toString();
+        asyncCommandPublisher.publish(command.trackingId(trackingId).build());
+        return AcceptedCommandDocument.builder().trackingId(trackingId).build();
+    }
+
+}
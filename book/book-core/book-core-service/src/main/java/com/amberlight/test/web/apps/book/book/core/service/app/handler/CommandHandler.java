@@ -2,15 +2,44 @@ package com.amberlight.test.web.apps.book.book.core.service.app.handler;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.ImportBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.RepriceBooksDocument;
 
 import javax.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
 
 public interface CommandHandler {
 
     CreateBookDocument process(CreateBookCommand command);
 
+    /**
+     * Creates the book, once per idempotency key: a repeated key gets the document of the first execution.
+     */
+    CreateBookDocument process(CreateBookCommand command, String idempotencyKey);
+
+    CreateBooksDocument process(CreateBooksCommand command);
+
+    CreateBooksDocument process(CreateBooksCommand command, String idempotencyKey);
+
     CreateBookAuthorDocument process(CreateBookAuthorCommand command);
 
+    CreateBookAuthorDocument process(CreateBookAuthorCommand command, String idempotencyKey);
+
+    ImportJobDocument process(ImportBooksCommand command, InputStream inputStream) throws IOException;
+
+    RepriceBooksDocument process(RepriceBooksCommand command);
+
+    /**
+     * Reprices the books, once per idempotency key: a repeated key gets the document of the first execution
+     * and does not apply the operation again.
+     */
+    RepriceBooksDocument process(RepriceBooksCommand command, String idempotencyKey);
+
 }
@@ -2,13 +2,27 @@ package com.amberlight.test.web.apps.book.book.core.service.app.handler;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.ImportBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
 import com.amberlight.test.web.apps.book.book.core.service.app.service.command.BookAuthorCommandService;
 import com.amberlight.test.web.apps.book.book.core.service.app.service.command.BookCommandService;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookAuthorDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.RepriceBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.service.app.idempotency.IdempotencyService;
+import com.amberlight.test.web.apps.book.book.core.service.app.importer.BookImportService;
+import com.amberlight.test.web.apps.book.book.core.service.util.StreamUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
 @Component("commandHandler")
 public class CommandHandlerImpl implements CommandHandler {
 
@@ -16,13 +30,21 @@ public class CommandHandlerImpl implements CommandHandler {
 
     private BookAuthorCommandService bookAuthorCommandService;
 
+    private BookImportService bookImportService;
+
+    private IdempotencyService idempotencyService;
+
     private CommandValidator commandValidator;
 
     public CommandHandlerImpl(BookCommandService bookCommandService,
                               BookAuthorCommandService bookAuthorCommandService,
+                              BookImportService bookImportService,
+                              IdempotencyService idempotencyService,
                               CommandValidator commandValidator) {
         this.bookCommandService = bookCommandService;
         this.bookAuthorCommandService = bookAuthorCommandService;
+        this.bookImportService = bookImportService;
+        this.idempotencyService = idempotencyService;
         this.commandValidator = commandValidator;
     }
 
@@ -31,8 +53,47 @@ public class CommandHandlerImpl implements CommandHandler {
      */
     @Override
     public CreateBookDocument process(CreateBookCommand command) {
+        return process(command, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CreateBookDocument process(CreateBookCommand command, String idempotencyKey) {
+        commandValidator.validateCommand(command);
+        commandValidator.validateIdempotencyKey(idempotencyKey);
+        return idempotencyService.execute("create-book", idempotencyKey, command, CreateBookDocument.class,
+                () -> bookCommandService.process(command));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Invalid books do not fail the command, they are reported as item errors.
+     */
+    @Override
+    public CreateBooksDocument process(CreateBooksCommand command) {
+        return process(command, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CreateBooksDocument process(CreateBooksCommand command, String idempotencyKey) {
         commandValidator.validateCommand(command);
-        return bookCommandService.process(command);
+        commandValidator.validateIdempotencyKey(idempotencyKey);
+        Map<Integer, String> invalidBooks = new HashMap<>();
+        command.getBooks().forEach(StreamUtil.withCounter((i, book) -> {
+            try {
+                commandValidator.validateBook(String.format("createBooksCommand.books[%d]", i), book);
+            } catch (IllegalStateException e) {
+                invalidBooks.put(i, e.getMessage());
+            }
+        }));
+        return idempotencyService.execute("create-books", idempotencyKey, command, CreateBooksDocument.class,
+                () -> bookCommandService.process(command, invalidBooks));
     }
 
     /**
@@ -40,7 +101,47 @@ public class CommandHandlerImpl implements CommandHandler {
      */
     @Override
     public CreateBookAuthorDocument process(CreateBookAuthorCommand command) {
+        return process(command, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CreateBookAuthorDocument process(CreateBookAuthorCommand command, String idempotencyKey) {
+        commandValidator.validateCommand(command);
+        commandValidator.validateIdempotencyKey(idempotencyKey);
+        return idempotencyService.execute("create-book-author", idempotencyKey, command,
+                CreateBookAuthorDocument.class, () -> bookAuthorCommandService.process(command));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Invalid rows do not fail the import, they are reported as rejects of the job.
+     */
+    @Override
+    public ImportJobDocument process(ImportBooksCommand command, InputStream inputStream) throws IOException {
+        commandValidator.validateCommand(command);
+        return bookImportService.startImport(command, inputStream, commandValidator::validateImportedBook);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RepriceBooksDocument process(RepriceBooksCommand command) {
+        return process(command, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RepriceBooksDocument process(RepriceBooksCommand command, String idempotencyKey) {
         commandValidator.validateCommand(command);
-        return bookAuthorCommandService.process(command);
+        commandValidator.validateIdempotencyKey(idempotencyKey);
+        return idempotencyService.execute("reprice-books", idempotencyKey, command, RepriceBooksDocument.class,
+                () -> bookCommandService.process(command));
     }
 }
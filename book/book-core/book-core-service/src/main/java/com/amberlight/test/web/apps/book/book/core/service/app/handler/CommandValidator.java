@@ -2,11 +2,47 @@ package com.amberlight.test.web.apps.book.book.core.service.app.handler;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.ImportBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
 
 public interface CommandValidator {
 
     void validateCommand(CreateBookCommand command);
 
+    void validateCommand(CreateBooksCommand command);
+
     void validateCommand(CreateBookAuthorCommand command);
 
+    void validateCommand(ImportBooksCommand command);
+
+    void validateCommand(RepriceBooksCommand command);
+
+    /**
+     * Validates the idempotency key of a command if it is given.
+     *
+     * @param idempotencyKey idempotency key or {@code null}
+     * @throws IllegalStateException if the key is invalid
+     */
+    void validateIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Validates a book to be created.
+     *
+     * @param argumentName name of the book argument to report
+     * @param book book to validate
+     * @throws IllegalStateException if the book is invalid
+     */
+    void validateBook(String argumentName, BookDto book);
+
+    /**
+     * Validates a book of an import file, its authors are given by first and last name.
+     *
+     * @param argumentName name of the book argument to report
+     * @param book book to validate
+     * @throws IllegalStateException if the book is invalid
+     */
+    void validateImportedBook(String argumentName, BookDto book);
+
 }
@@ -5,39 +5,154 @@ import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
 import com.amberlight.test.web.apps.book.book.core.service.util.StreamUtil;
 import com.amberlight.test.web.apps.domain.validation.ArgumentValidations;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.ImportBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.service.app.payload.PayloadLimitProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 @Component("commandValidator")
 public class CommandValidatorImpl implements CommandValidator {
 
+    /**
+     * Formats of an import file.
+     */
+    static final Set<String> IMPORT_FORMATS = Set.of("ndjson", "csv");
+
+    /**
+     * Max length of an idempotency key, fits a UUID or a hash in hex.
+     */
+    static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
+    /**
+     * Max number of books of a create-many command.
+     */
+    private final int createManyMaxBooks;
+
+    /**
+     * Max number of authors of a book.
+     */
+    private final int bookMaxAuthors;
+
+    /**
+     * @param limits limits of the request bodies, the collection sizes of the books and the authors apply
+     * to the commands also when they do not come from a request body
+     */
+    public CommandValidatorImpl(PayloadLimitProperties limits) {
+        this.createManyMaxBooks = limits.getMaxCollectionSize("books");
+        this.bookMaxAuthors = limits.getMaxCollectionSize("authors");
+    }
+
     @Override
     public void validateCommand(CreateBookCommand command) {
         ArgumentValidations.notNull("createBookCommand", command);
-        ArgumentValidations.notNull("createBookCommand.book", command.getBook());
+        validateBook("createBookCommand.book", command.getBook());
+    }
 
-        BookDto book = command.getBook();
-        ArgumentValidations.validatorFor("createBookCommand.book.name",
-                book.getName()).notEmpty().length(1, 255).validate();
-        ArgumentValidations.validatorFor("createBookCommand.book.description",
-                book.getDescription()).notEmpty().length(1, 255).validate();
-        ArgumentValidations.notNull("createBookCommand.book.published", book.getPublished());
+    @Override
+    public void validateCommand(CreateBooksCommand command) {
+        ArgumentValidations.notNull("createBooksCommand", command);
+        ArgumentValidations.notEmptyCollection("createBooksCommand.books", command.getBooks());
+        ArgumentValidations.notLargerThan("createBooksCommand.books", command.getBooks(), createManyMaxBooks);
+    }
 
-        ArgumentValidations.notNull("createBookCommand.book.genre", book.getGenre());
-        ArgumentValidations.notNull("createBookCommand.book.genre.id", book.getGenre().getId());
+    @Override
+    public void validateCommand(ImportBooksCommand command) {
+        ArgumentValidations.notNull("importBooksCommand", command);
+        ArgumentValidations.notNull("importBooksCommand.format", command.getFormat());
+        ArgumentValidations.validateArgument(command.getFormat(), IMPORT_FORMATS::contains,
+                String.format("importBooksCommand.format has to be one of %s", IMPORT_FORMATS));
+    }
 
-        ArgumentValidations.positiveAmount("createBookCommand.book.price", book.getPrice());
+    @Override
+    public void validateCommand(RepriceBooksCommand command) {
+        ArgumentValidations.notNull("repriceBooksCommand", command);
 
-        ArgumentValidations.notEmptyCollection("createBookCommand.book.authors", book.getAuthors());
+        RepriceBooksCommand.Selector selector = command.getSelector();
+        ArgumentValidations.notNull("repriceBooksCommand.selector", selector);
+        ArgumentValidations.validateArgument(selector, s -> s.getGenreId() != null || s.getTypeId() != null
+                        || s.getPublishedFrom() != null || s.getPublishedTo() != null,
+                "repriceBooksCommand.selector has to have at least one criterion");
+        if (selector.getPublishedFrom() != null && selector.getPublishedTo() != null) {
+            ArgumentValidations.validateArgument(selector, s -> s.getPublishedFrom().isBefore(s.getPublishedTo()),
+                    "repriceBooksCommand.selector.publishedFrom has to be before publishedTo");
+        }
 
-        // todo add validation method for the max valid size of a collection and map
-        // todo think about fields that should not be sent (memory consumption breach, etc)
+        RepriceBooksCommand.Operation operation = command.getOperation();
+        ArgumentValidations.notNull("repriceBooksCommand.operation", operation);
+        ArgumentValidations.validateArgument(operation, o -> o.getFactor() != null || o.getAddend() != null
+                        || o.getMinPrice() != null || o.getMaxPrice() != null,
+                "repriceBooksCommand.operation has to have at least one step");
+        if (operation.getFactor() != null) {
+            ArgumentValidations.positiveNumber("repriceBooksCommand.operation.factor", operation.getFactor());
+        }
+        if (operation.getAddend() != null) {
+            ArgumentValidations.amount("repriceBooksCommand.operation.addend", operation.getAddend());
+        }
+        if (operation.getMinPrice() != null) {
+            ArgumentValidations.positiveAmount("repriceBooksCommand.operation.minPrice", operation.getMinPrice());
+        }
+        if (operation.getMaxPrice() != null) {
+            ArgumentValidations.positiveAmount("repriceBooksCommand.operation.maxPrice", operation.getMaxPrice());
+        }
+        if (operation.getMinPrice() != null && operation.getMaxPrice() != null) {
+            ArgumentValidations.validateArgument(operation, o -> o.getMinPrice().compareTo(o.getMaxPrice()) <= 0,
+                    "repriceBooksCommand.operation.minPrice must not exceed maxPrice");
+        }
+    }
 
+    @Override
+    public void validateIdempotencyKey(String idempotencyKey) {
+        ArgumentValidations.validatorFor("idempotencyKey", idempotencyKey)
+                .notEmpty().maxLength(IDEMPOTENCY_KEY_MAX_LENGTH).validateIfArgumentIsNotNull();
+    }
+
+    @Override
+    public void validateBook(String argumentName, BookDto book) {
+        validateBookFields(argumentName, book);
+
+        book.getAuthors().forEach(StreamUtil.withCounter((i, author) -> {
+            ArgumentValidations.notNull(String.format("%s.authors[%d]", argumentName, i), author);
+            ArgumentValidations.notNull(String.format("%s.authors[%d].id", argumentName, i), author.getId());
+            ArgumentValidations.isNull(String.format("%s.authors[%d].books", argumentName, i), author.getBooks());
+        }));
+    }
+
+    @Override
+    public void validateImportedBook(String argumentName, BookDto book) {
+        validateBookFields(argumentName, book);
         book.getAuthors().forEach(StreamUtil.withCounter((i, author) -> {
-            ArgumentValidations.notNull(String.format("createBookCommand.book.authors[%d]", i), author);
-            ArgumentValidations.notNull(String.format("createBookCommand.book.authors[%d].id", i), author.getId());
+            String authorName = String.format("%s.authors[%d]", argumentName, i);
+            ArgumentValidations.notNull(authorName, author);
+            ArgumentValidations.validatorFor(authorName + ".firstName",
+                    author.getFirstName()).notEmpty().length(1, 255).validate();
+            ArgumentValidations.validatorFor(authorName + ".lastName",
+                    author.getLastName()).notEmpty().length(1, 255).validate();
+            ArgumentValidations.isNull(authorName + ".books", author.getBooks());
         }));
+    }
+
+    private void validateBookFields(String argumentName, BookDto book) {
+        ArgumentValidations.notNull(argumentName, book);
+
+        ArgumentValidations.validatorFor(argumentName + ".name",
+                book.getName()).notEmpty().length(1, 255).validate();
+        ArgumentValidations.validatorFor(argumentName + ".description",
+                book.getDescription()).notEmpty().length(1, 255).validate();
+        ArgumentValidations.notNull(argumentName + ".published", book.getPublished());
+
+        ArgumentValidations.notNull(argumentName + ".genre", book.getGenre());
+        ArgumentValidations.notNull(argumentName + ".genre.id", book.getGenre().getId());
+        // the genre is referenced by id, its books are owned by the server
+        ArgumentValidations.isNull(argumentName + ".genre.books", book.getGenre().getBooks());
+
+        ArgumentValidations.positiveAmount(argumentName + ".price", book.getPrice());
 
+        ArgumentValidations.notEmptyCollection(argumentName + ".authors", book.getAuthors());
+        ArgumentValidations.notLargerThan(argumentName + ".authors", book.getAuthors(), bookMaxAuthors);
     }
 
     @Override
@@ -50,6 +165,7 @@ public class CommandValidatorImpl implements CommandValidator {
                 author.getFirstName()).notEmpty().length(1, 255).validate();
         ArgumentValidations.validatorFor("createBookAuthorCommand.author.lastName",
                 author.getLastName()).notEmpty().length(1, 255).validate();
+        ArgumentValidations.isNull("createBookAuthorCommand.author.books", author.getBooks());
     }
 
 
@@ -1,9 +1,19 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.handler;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.SearchBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindImportJobQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.SearchBooksQuery;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.constraints.NotNull;
 
@@ -11,6 +21,16 @@ public interface QueryHandler {
 
     FindBookDocument process(FindBookQuery query);
 
+    FindBooksDocument process(FindBooksQuery query);
+
+    SearchBooksDocument process(SearchBooksQuery query);
+
+    StreamingResponseBody process(ExportBooksQuery query);
+
+    ImportJobDocument process(FindImportJobQuery query);
+
     FindBookAuthorDocument process(FindBookAuthorQuery query);
 
+    FindBookAuthorsDocument process(FindBookAuthorsQuery query);
+
 }
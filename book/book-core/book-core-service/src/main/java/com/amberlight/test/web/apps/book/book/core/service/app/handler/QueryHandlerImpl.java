@@ -1,13 +1,27 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.handler;
 
 import com.amberlight.test.web.apps.book.book.core.service.app.service.query.BookAuthorQueryService;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.query.BookExportQueryService;
 import com.amberlight.test.web.apps.book.book.core.service.app.service.query.BookQueryService;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.query.BookSearchQueryService;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.SearchBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindImportJobQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.SearchBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.service.app.importer.BookImportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 
 @Component("queryHandler")
 public class QueryHandlerImpl implements QueryHandler {
@@ -16,13 +30,25 @@ public class QueryHandlerImpl implements QueryHandler {
 
     private BookAuthorQueryService bookAuthorQueryService;
 
+    private BookSearchQueryService bookSearchQueryService;
+
+    private BookExportQueryService bookExportQueryService;
+
+    private BookImportService bookImportService;
+
     private QueryValidator queryValidator;
 
     public QueryHandlerImpl(BookQueryService bookQueryService,
                             BookAuthorQueryService bookAuthorQueryService,
+                            BookSearchQueryService bookSearchQueryService,
+                            BookExportQueryService bookExportQueryService,
+                            BookImportService bookImportService,
                             QueryValidator queryValidator) {
         this.bookQueryService = bookQueryService;
         this.bookAuthorQueryService = bookAuthorQueryService;
+        this.bookSearchQueryService = bookSearchQueryService;
+        this.bookExportQueryService = bookExportQueryService;
+        this.bookImportService = bookImportService;
         this.queryValidator = queryValidator;
     }
 
@@ -35,6 +61,42 @@ public class QueryHandlerImpl implements QueryHandler {
         return bookQueryService.process(query);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FindBooksDocument process(FindBooksQuery query) {
+        queryValidator.validateQuery(query);
+        return bookQueryService.process(query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SearchBooksDocument process(SearchBooksQuery query) {
+        queryValidator.validateQuery(query);
+        return bookSearchQueryService.process(query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamingResponseBody process(ExportBooksQuery query) {
+        queryValidator.validateQuery(query);
+        return bookExportQueryService.process(query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImportJobDocument process(FindImportJobQuery query) {
+        queryValidator.validateQuery(query);
+        return bookImportService.findJob(query.getId());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -43,4 +105,13 @@ public class QueryHandlerImpl implements QueryHandler {
         queryValidator.validateQuery(query);
         return bookAuthorQueryService.process(query);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FindBookAuthorsDocument process(FindBookAuthorsQuery query) {
+        queryValidator.validateQuery(query);
+        return bookAuthorQueryService.process(query);
+    }
 }
@@ -1,12 +1,30 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.handler;
 
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindCommandStatusQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindImportJobQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.SearchBooksQuery;
 
 public interface QueryValidator {
 
     void validateQuery(FindBookQuery query);
 
+    void validateQuery(FindBooksQuery query);
+
+    void validateQuery(SearchBooksQuery query);
+
+    void validateQuery(ExportBooksQuery query);
+
+    void validateQuery(FindImportJobQuery query);
+
+    void validateQuery(FindCommandStatusQuery query);
+
     void validateQuery(FindBookAuthorQuery query);
 
+    void validateQuery(FindBookAuthorsQuery query);
+
 }
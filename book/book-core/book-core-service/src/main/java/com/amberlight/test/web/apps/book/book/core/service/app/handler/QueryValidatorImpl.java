@@ -1,5 +1,12 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.handler;
 
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindCommandStatusQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindImportJobQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.SearchBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.service.util.StreamUtil;
 import com.amberlight.test.web.apps.domain.validation.ArgumentValidations;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
@@ -8,16 +15,80 @@ import org.springframework.stereotype.Component;
 @Component("queryValidator")
 public class QueryValidatorImpl implements QueryValidator {
 
+    /**
+     * Max number of ids accepted by a single find-many query.
+     */
+    static final int FIND_MANY_MAX_IDS = 1000;
+
+    /**
+     * Max page size of a search query.
+     */
+    static final int SEARCH_MAX_LIMIT = 100;
+
     @Override
     public void validateQuery(FindBookQuery query) {
         ArgumentValidations.notNull("findBookQuery", query);
         ArgumentValidations.notNull("findBookQuery.id", query.getId());
     }
 
+    @Override
+    public void validateQuery(FindBooksQuery query) {
+        ArgumentValidations.notNull("findBooksQuery", query);
+        ArgumentValidations.notEmptyCollection("findBooksQuery.ids", query.getIds());
+        ArgumentValidations.maxValue("findBooksQuery.ids.size", query.getIds().size(), FIND_MANY_MAX_IDS);
+        query.getIds().forEach(StreamUtil.withCounter((i, id) ->
+                ArgumentValidations.notNull(String.format("findBooksQuery.ids[%d]", i), id)));
+    }
+
+    @Override
+    public void validateQuery(SearchBooksQuery query) {
+        ArgumentValidations.notNull("searchBooksQuery", query);
+        ArgumentValidations.validatorFor("searchBooksQuery.limit", query.getLimit())
+                .valueBetween(1, SEARCH_MAX_LIMIT).validateIfArgumentIsNotNull();
+        ArgumentValidations.validatorFor("searchBooksQuery.minPrice", query.getMinPrice())
+                .notNegativeAmount().validateIfArgumentIsNotNull();
+        ArgumentValidations.validatorFor("searchBooksQuery.maxPrice", query.getMaxPrice())
+                .notNegativeAmount().validateIfArgumentIsNotNull();
+        if (query.getAfterPublished() != null || query.getAfterId() != null) {
+            ArgumentValidations.notNull("searchBooksQuery.afterPublished", query.getAfterPublished());
+            ArgumentValidations.notNull("searchBooksQuery.afterId", query.getAfterId());
+        }
+    }
+
+    @Override
+    public void validateQuery(ExportBooksQuery query) {
+        ArgumentValidations.notNull("exportBooksQuery", query);
+        ArgumentValidations.validatorFor("exportBooksQuery.afterId", query.getAfterId())
+                .notNegativeNumber().validateIfArgumentIsNotNull();
+    }
+
+    @Override
+    public void validateQuery(FindImportJobQuery query) {
+        ArgumentValidations.notNull("findImportJobQuery", query);
+        ArgumentValidations.validatorFor("findImportJobQuery.id", query.getId())
+                .notEmpty().maxLength(36).validate();
+    }
+
+    @Override
+    public void validateQuery(FindCommandStatusQuery query) {
+        ArgumentValidations.notNull("findCommandStatusQuery", query);
+        ArgumentValidations.validatorFor("findCommandStatusQuery.trackingId", query.getTrackingId())
+                .notEmpty().maxLength(36).validate();
+    }
+
     @Override
     public void validateQuery(FindBookAuthorQuery query) {
         ArgumentValidations.notNull("findBookAuthorQuery", query);
         ArgumentValidations.notNull("findBookAuthorQuery.id", query.getId());
     }
 
+    @Override
+    public void validateQuery(FindBookAuthorsQuery query) {
+        ArgumentValidations.notNull("findBookAuthorsQuery", query);
+        ArgumentValidations.notEmptyCollection("findBookAuthorsQuery.ids", query.getIds());
+        ArgumentValidations.maxValue("findBookAuthorsQuery.ids.size", query.getIds().size(), FIND_MANY_MAX_IDS);
+        query.getIds().forEach(StreamUtil.withCounter((i, id) ->
+                ArgumentValidations.notNull(String.format("findBookAuthorsQuery.ids[%d]", i), id)));
+    }
+
 }
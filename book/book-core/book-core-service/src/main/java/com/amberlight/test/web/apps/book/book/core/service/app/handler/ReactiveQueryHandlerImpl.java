@@ -0,0 +1,72 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.handler;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.query.ReactiveBookQueryService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component("reactiveQueryHandler")
+public class ReactiveQueryHandlerImpl implements ReactiveQueryHandler {
+
+    private ReactiveBookQueryService reactiveBookQueryService;
+
+    private QueryValidator queryValidator;
+
+    public ReactiveQueryHandlerImpl(ReactiveBookQueryService reactiveBookQueryService,
+                                    QueryValidator queryValidator) {
+        this.reactiveBookQueryService = reactiveBookQueryService;
+        this.queryValidator = queryValidator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FindBookDocument> process(FindBookQuery query) {
+        return Mono.defer(() -> {
+            queryValidator.validateQuery(query);
+            return reactiveBookQueryService.process(query);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FindBooksDocument> process(FindBooksQuery query) {
+        return Mono.defer(() -> {
+            queryValidator.validateQuery(query);
+            return reactiveBookQueryService.process(query);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FindBookAuthorDocument> process(FindBookAuthorQuery query) {
+        return Mono.defer(() -> {
+            queryValidator.validateQuery(query);
+            return reactiveBookQueryService.process(query);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FindBookAuthorsDocument> process(FindBookAuthorsQuery query) {
+        return Mono.defer(() -> {
+            queryValidator.validateQuery(query);
+            return reactiveBookQueryService.process(query);
+        });
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.idempotency;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Executes the command once per key and scope, a repeated key gets the document of the first execution.
+     * Concurrent executions with the same key are collapsed into one. With a key, the command runs with its own
+     * transactions between the claim of the key and the storing of its document, a failed command can be retried.
+     *
+     * @param scope scope of the key, e.g. the command type
+     * @param key idempotency key given by the client, the command is always executed without it
+     * @param request request of the command, a key reused with another request is refused
+     * @param documentType type of the document returned by the command
+     * @param command executes the command
+     * @return the document of the command
+     * @throws org.springframework.web.server.ResponseStatusException with 422 if the key was used with
+     * another request, with 409 if the command of the key is in progress
+     */
+    <D> D execute(String scope, String key, Object request, Class<D> documentType, Supplier<D> command);
+
+}
@@ -0,0 +1,190 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.idempotency;
+
+import com.amberlight.test.web.apps.book.book.core.domain.repository.IdempotencyKeyRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.IdempotencyKeyRepository.StoredKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.io.BaseEncoding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the idempotency keys in the database, fronted by a cache of the recent ones.
+ * <p>
+ * A repeated key is answered from the cache without a database round trip while it is recent. Concurrent
+ * executions of a key are collapsed on this instance by an in-flight map, and across instances by the database
+ * claim of the key. The claim is committed as pending before the command runs with its own transactions, and the
+ * document is stored once it returns. A failed command releases the key for a retry, a key left pending by a
+ * stopped instance can be claimed again after {@code pending-timeout}. A key is bound to the SHA-256 of its
+ * request serialized with sorted map entries.
+ */
+@Service("idempotencyService")
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private ObjectMapper objectMapper;
+
+    private ObjectWriter canonicalWriter;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Duration ttl;
+
+    private Duration pendingTimeout;
+
+    private final Cache<String, StoredKey> recentKeys;
+
+    private final ConcurrentMap<String, CompletableFuture<StoredKey>> executions = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(IdempotencyKeyRepository idempotencyKeyRepository, ObjectMapper objectMapper,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${book-core.idempotency.ttl:24h}") Duration ttl,
+                                  @Value("${book-core.idempotency.pending-timeout:5m}") Duration pendingTimeout,
+                                  @Value("${book-core.idempotency.recent-keys.max-size:10000}") long recentMaxSize,
+                                  @Value("${book-core.idempotency.recent-keys.ttl:10m}") Duration recentTtl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.canonicalWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.pendingTimeout = pendingTimeout;
+        this.recentKeys = Caffeine.newBuilder().maximumSize(recentMaxSize).expireAfterWrite(recentTtl).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <D> D execute(String scope, String key, Object request, Class<D> documentType, Supplier<D> command) {
+        if (key == null) {
+            return command.get();
+        }
+        String scopedKey = scope + ':' + key;
+        String requestHash = hash(request);
+        StoredKey recentKey = recentKeys.getIfPresent(scopedKey);
+        if (recentKey != null) {
+            return read(checkRequest(recentKey, key, requestHash), documentType);
+        }
+        CompletableFuture<StoredKey> execution = new CompletableFuture<>();
+        CompletableFuture<StoredKey> runningExecution = executions.putIfAbsent(scopedKey, execution);
+        if (runningExecution != null) {
+            return read(checkRequest(await(runningExecution), key, requestHash), documentType);
+        }
+        try {
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                    idempotencyKeyRepository.claim(scope, key, requestHash, pendingTimeout)))) {
+                StoredKey storedKey = idempotencyKeyRepository.findKey(scope, key);
+                if (storedKey == null || checkRequest(storedKey, key, requestHash) == null) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            String.format("A command with the idempotency key %s is in progress", key));
+                }
+                recentKeys.put(scopedKey, storedKey);
+                execution.complete(storedKey);
+                return read(storedKey.getDocument(), documentType);
+            }
+            D document = run(scope, key, requestHash, command);
+            String storedDocument = write(document);
+            transactionTemplate.executeWithoutResult(status ->
+                    idempotencyKeyRepository.complete(scope, key, storedDocument));
+            StoredKey storedKey = new StoredKey(requestHash, storedDocument);
+            recentKeys.put(scopedKey, storedKey);
+            execution.complete(storedKey);
+            return document;
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            executions.remove(scopedKey, execution);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${book-core.idempotency.cleanup-interval:PT10M}",
+            fixedDelayString = "${book-core.idempotency.cleanup-interval:PT10M}")
+    public void deleteExpiredKeys() {
+        idempotencyKeyRepository.deleteOlderThan(ttl);
+    }
+
+    /**
+     * Runs the command of the claimed key, the key is released if the command fails.
+     */
+    private <D> D run(String scope, String key, String requestHash, Supplier<D> command) {
+        try {
+            return command.get();
+        } catch (RuntimeException e) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        idempotencyKeyRepository.release(scope, key, requestHash));
+            } catch (RuntimeException releaseException) {
+                // the key stays pending until the timeout
+                e.addSuppressed(releaseException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return document of the key if it was stored for the same request, {@code null} while the key is pending
+     */
+    private static String checkRequest(StoredKey storedKey, String key, String requestHash) {
+        if (storedKey.getRequestHash() != null && !storedKey.getRequestHash().equals(requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    String.format("The idempotency key %s was used with another request", key));
+        }
+        return storedKey.getDocument();
+    }
+
+    private static StoredKey await(CompletableFuture<StoredKey> execution) {
+        try {
+            return execution.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonicalWriter.writeValueAsBytes(request));
+            return BaseEncoding.base16().lowerCase().encode(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The request could not be hashed", e);
+        }
+    }
+
+    private String write(Object document) {
+        try {
+            return objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("The document could not be stored", e);
+        }
+    }
+
+    private <D> D read(String document, Class<D> documentType) {
+        try {
+            return objectMapper.readValue(document, documentType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("The stored document could not be read", e);
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.importer;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.ImportBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.BiConsumer;
+
+public interface BookImportService {
+
+    /**
+     * Stores the uploaded file and queues its import.
+     *
+     * @param command import command
+     * @param inputStream the uploaded file, read to the end
+     * @param rowValidator validates a book by the argument name to report,
+     *                     throws {@link IllegalStateException} if the book is invalid
+     * @return the queued job
+     * @throws org.springframework.web.server.ResponseStatusException with 503 if too many imports are queued
+     * @throws IOException if the upload cannot be read or stored, or is over its size limit
+     */
+    ImportJobDocument startImport(ImportBooksCommand command, InputStream inputStream,
+                                  BiConsumer<String, BookDto> rowValidator) throws IOException;
+
+    /**
+     * @param id job id
+     * @return the job state
+     * @throws org.springframework.web.server.ResponseStatusException with 404 if no job is known by the id
+     */
+    ImportJobDocument findJob(String id);
+
+}
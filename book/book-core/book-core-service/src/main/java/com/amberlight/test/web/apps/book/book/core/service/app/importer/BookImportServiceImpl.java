@@ -0,0 +1,202 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.importer;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.ImportBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookImportRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.cache.DocumentCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Imports uploaded files in the background.
+ * <p>
+ * The upload is stored in a temporary file first, so the request does not wait for the import. The file is then
+ * read a row at a time and the valid rows are imported in chunks, so memory use depends on the chunk size only.
+ * Jobs are kept in memory of the instance that runs them. At most {@code queueCapacity} imports wait for a thread,
+ * further ones are refused with 503 before their upload is read.
+ */
+@Service("bookImportService")
+public class BookImportServiceImpl implements BookImportService {
+
+    /**
+     * Max number of rejects kept with their message per job.
+     */
+    static final int MAX_REJECTS = 1000;
+
+    /**
+     * Max length of a row of an import file.
+     */
+    static final int MAX_ROW_LENGTH = 64 * 1024;
+
+    private BookImportRepository bookImportRepository;
+
+    private GenreTypeRegistry genreTypeRegistry;
+
+    private DocumentCache documentCache;
+
+    private ObjectMapper objectMapper;
+
+    private int chunkSize;
+
+    private Cache<String, ImportJob> jobs;
+
+    private ThreadPoolExecutor executor;
+
+    public BookImportServiceImpl(BookImportRepository bookImportRepository, GenreTypeRegistry genreTypeRegistry,
+                                 DocumentCache documentCache, ObjectMapper objectMapper,
+                                 @Value("${book-core.import.chunk-size:5000}") int chunkSize,
+                                 @Value("${book-core.import.parallelism:2}") int parallelism,
+                                 @Value("${book-core.import.queue-capacity:10}") int queueCapacity,
+                                 @Value("${book-core.import.job-ttl:24h}") Duration jobTtl) {
+        this.bookImportRepository = bookImportRepository;
+        this.genreTypeRegistry = genreTypeRegistry;
+        this.documentCache = documentCache;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.jobs = Caffeine.newBuilder().expireAfterWrite(jobTtl).build();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("book-import-%d").setDaemon(true).build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImportJobDocument startImport(ImportBooksCommand command, InputStream inputStream,
+                                         BiConsumer<String, BookDto> rowValidator) throws IOException {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw queueFull();
+        }
+        Path file = Files.createTempFile("book-import-", "." + command.getFormat());
+        try {
+            Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), MAX_REJECTS);
+        try {
+            executor.execute(() -> run(job, command.getFormat(), file, rowValidator));
+        } catch (RejectedExecutionException e) {
+            Files.deleteIfExists(file);
+            throw queueFull();
+        }
+        jobs.put(job.getId(), job);
+        return job.toDocument();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImportJobDocument findJob(String id) {
+        ImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    String.format("No import job was found by id %s", id));
+        }
+        return job.toDocument();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void run(ImportJob job, String format, Path file, BiConsumer<String, BookDto> rowValidator) {
+        job.start();
+        try (BookRowReader reader = openReader(format, file)) {
+            List<BookDto> chunk = new ArrayList<>(chunkSize);
+            List<Long> chunkLines = new ArrayList<>(chunkSize);
+            while (true) {
+                BookDto book;
+                try {
+                    book = reader.next();
+                    if (book == null) {
+                        break;
+                    }
+                    rowValidator.accept("book", book);
+                    if (genreTypeRegistry.getGenre(book.getGenre().getId()) == null) {
+                        throw new IllegalStateException(
+                                String.format("No genre was found by id %d", book.getGenre().getId()));
+                    }
+                } catch (RuntimeException e) {
+                    job.rejected(reader.getLine(), e.getMessage());
+                    continue;
+                }
+                chunk.add(book);
+                chunkLines.add(reader.getLine());
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, chunkLines);
+                }
+            }
+            importChunk(job, chunk, chunkLines);
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+        } finally {
+            jobs.put(job.getId(), job);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Imports and clears the chunk, a failed chunk rejects all of its rows.
+     */
+    private void importChunk(ImportJob job, List<BookDto> chunk, List<Long> chunkLines) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            documentCache.evictAuthorDocuments(bookImportRepository.importBooks(chunk));
+            job.imported(chunk.size());
+        } catch (RuntimeException e) {
+            chunkLines.forEach(line -> job.rejected(line, e.getMessage()));
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private static ResponseStatusException queueFull() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many imports are queued");
+    }
+
+    private BookRowReader openReader(String format, Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return "csv".equals(format)
+                ? new CsvBookRowReader(reader, MAX_ROW_LENGTH)
+                : new NdjsonBookRowReader(reader, objectMapper, MAX_ROW_LENGTH);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.importer;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads the books of an import file one row at a time, so only the current row is held in memory.
+ */
+interface BookRowReader extends Closeable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the book of the row or {@code null} at the end of the file
+     * @throws IllegalStateException if the row cannot be parsed, the next call reads the following row
+     * @throws IOException if the file cannot be read
+     */
+    BookDto next() throws IOException;
+
+    /**
+     * @return number of the line the last row read starts at, starting from 1
+     */
+    long getLine();
+
+    /**
+     * Reads a line of at most {@code maxLength} characters without the line terminator.
+     *
+     * @return the line or {@code null} at the end of the input
+     * @throws IllegalStateException if the line is longer, the rest of the line is skipped
+     */
+    static String readLine(Reader reader, int maxLength) throws IOException {
+        StringBuilder line = new StringBuilder();
+        boolean tooLong = false;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (line.length() < maxLength) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        if (c == -1 && line.length() == 0 && !tooLong) {
+            return null;
+        }
+        if (tooLong) {
+            throw new IllegalStateException(String.format("Line is longer than %d characters", maxLength));
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.importer;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.domain.monetary.validation.MonetaryValueValidator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads books from CSV with the header {@code name,description,genre_id,price,published,authors}.
+ * <p>
+ * Fields may be quoted with {@code "}, a quoted field may contain separators, line breaks and doubled quotes.
+ * Authors are separated by {@code ;}, the last word of an author is the last name.
+ */
+class CsvBookRowReader implements BookRowReader {
+
+    static final List<String> HEADER = List.of("name", "description", "genre_id", "price", "published", "authors");
+
+    private final BufferedReader reader;
+
+    private final int maxRowLength;
+
+    private long line;
+
+    private long nextLine = 1;
+
+    private boolean headerRead;
+
+    CsvBookRowReader(BufferedReader reader, int maxRowLength) {
+        this.reader = reader;
+        this.maxRowLength = maxRowLength;
+    }
+
+    @Override
+    public BookDto next() throws IOException {
+        if (!headerRead) {
+            headerRead = true;
+            List<String> header = readRecord();
+            if (header == null) {
+                return null;
+            }
+            if (!HEADER.equals(header)) {
+                throw new IllegalStateException("Header has to be " + String.join(",", HEADER));
+            }
+        }
+        List<String> fields;
+        do {
+            fields = readRecord();
+        } while (fields != null && fields.size() == 1 && fields.get(0).isBlank());
+        return fields != null ? toBook(fields) : null;
+    }
+
+    @Override
+    public long getLine() {
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private BookDto toBook(List<String> fields) {
+        if (fields.size() != HEADER.size()) {
+            throw new IllegalStateException(String.format("Row has %d fields instead of %d",
+                    fields.size(), HEADER.size()));
+        }
+        Long genreId;
+        try {
+            genreId = Long.valueOf(fields.get(2).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("genre_id is not a number");
+        }
+        LocalDateTime published;
+        try {
+            published = LocalDateTime.parse(fields.get(4).trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalStateException("published is not an ISO date-time");
+        }
+        return BookDto.builder()
+                .name(fields.get(0))
+                .description(fields.get(1))
+                .genre(GenreDto.builder().id(genreId).build())
+                .price(MonetaryValueValidator.positiveAmount("price", fields.get(3).trim()))
+                .published(published)
+                .authors(toAuthors(fields.get(5)))
+                .build();
+    }
+
+    private static Set<AuthorDto> toAuthors(String authors) {
+        Set<AuthorDto> result = new LinkedHashSet<>();
+        for (String author : authors.split(";")) {
+            String name = author.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            int lastSpace = name.lastIndexOf(' ');
+            result.add(AuthorDto.builder()
+                    .firstName(lastSpace > 0 ? name.substring(0, lastSpace).trim() : "")
+                    .lastName(name.substring(lastSpace + 1))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * Reads the fields of the next record, an overlong record is skipped up to the end of its line.
+     */
+    private List<String> readRecord() throws IOException {
+        line = nextLine;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = 0;
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (c == '\n') {
+                nextLine++;
+            }
+            if (++length > maxRowLength) {
+                if (c != '\n') {
+                    BookRowReader.readLine(reader, Integer.MAX_VALUE);
+                    nextLine++;
+                }
+                throw new IllegalStateException(String.format("Row is longer than %d characters", maxRowLength));
+            }
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        if (quoted) {
+            throw new IllegalStateException("Quoted field is not closed");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.importer;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * State of an import, updated by the importing thread and read by the status queries.
+ */
+class ImportJob {
+
+    enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+
+    private final int maxRejects;
+
+    private final List<ImportJobDocument.RowReject> rejects = new ArrayList<>();
+
+    private Status status = Status.QUEUED;
+
+    private long processedRows;
+
+    private long importedBooks;
+
+    private long rejectedRows;
+
+    private String error;
+
+    ImportJob(String id, int maxRejects) {
+        this.id = id;
+        this.maxRejects = maxRejects;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    synchronized void start() {
+        status = Status.RUNNING;
+    }
+
+    synchronized void complete() {
+        status = Status.COMPLETED;
+    }
+
+    synchronized void fail(String error) {
+        this.status = Status.FAILED;
+        this.error = error;
+    }
+
+    synchronized void imported(int rows) {
+        processedRows += rows;
+        importedBooks += rows;
+    }
+
+    /**
+     * Counts a rejected row, only the first rejects are kept with their message.
+     */
+    synchronized void rejected(long line, String message) {
+        processedRows++;
+        rejectedRows++;
+        if (rejects.size() < maxRejects) {
+            rejects.add(ImportJobDocument.RowReject.builder().line(line).message(message).build());
+        }
+    }
+
+    synchronized ImportJobDocument toDocument() {
+        return ImportJobDocument.builder()
+                .id(id)
+                .status(status.name())
+                .processedRows(processedRows)
+                .importedBooks(importedBooks)
+                .rejectedRows(rejectedRows)
+                .rejects(new ArrayList<>(rejects))
+                .error(error)
+                .build();
+    }
+
+}
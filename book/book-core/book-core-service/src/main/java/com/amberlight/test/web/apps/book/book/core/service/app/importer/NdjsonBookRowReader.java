@@ -0,0 +1,56 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.importer;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a book document per line, blank lines are skipped.
+ */
+class NdjsonBookRowReader implements BookRowReader {
+
+    private final Reader reader;
+
+    private final ObjectMapper objectMapper;
+
+    private final int maxLineLength;
+
+    private long line;
+
+    NdjsonBookRowReader(Reader reader, ObjectMapper objectMapper, int maxLineLength) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public BookDto next() throws IOException {
+        String text;
+        do {
+            line++;
+            text = BookRowReader.readLine(reader, maxLineLength);
+        } while (text != null && text.isBlank());
+        if (text == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(text, BookDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Line is not a valid book document; " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public long getLine() {
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
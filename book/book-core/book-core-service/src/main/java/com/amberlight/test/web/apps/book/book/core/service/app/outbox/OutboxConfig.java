@@ -0,0 +1,32 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.outbox;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+
+/**
+ * Kafka producer of the outbox relay, the connection settings are taken from {@code spring.kafka}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "book-core.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> properties = kafkaProperties.buildProducerProperties();
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        // a retried send must not reorder or duplicate the events of an aggregate
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(properties));
+    }
+
+}
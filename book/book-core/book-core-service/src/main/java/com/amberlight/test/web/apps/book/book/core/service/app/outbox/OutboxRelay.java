@@ -0,0 +1,138 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.outbox;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.event.OutboxEventDto;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the outbox to Kafka by batches in id order, keyed by the aggregate id.
+ * <p>
+ * A batch is locked with {@code SKIP LOCKED}, sent, and deleted in one transaction, so instances relaying in
+ * parallel take disjoint batches. An event is deleted only after the broker has stored it, a failed batch is
+ * sent again by the next run, so delivery is at least once. The order is kept within a batch, batches relayed
+ * in parallel by several instances may interleave.
+ */
+@Component("outboxRelay")
+@ConditionalOnProperty(name = "book-core.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    static final String AGGREGATE_TYPE_HEADER = "aggregate-type";
+
+    static final String EVENT_TYPE_HEADER = "event-type";
+
+    private OutboxEventRepository outboxEventRepository;
+
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    private String topic;
+
+    private int batchSize;
+
+    private Duration sendTimeout;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private final Counter relayedEvents;
+
+    private final Timer batches;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, String> outboxKafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${book-core.outbox.topic:book-core-changes}") String topic,
+                       @Value("${book-core.outbox.batch-size:500}") int batchSize,
+                       @Value("${book-core.outbox.send-timeout:10s}") Duration sendTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = outboxKafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.relayedEvents = Counter.builder("book.outbox.relayed")
+                .description("Change events relayed to Kafka")
+                .register(meterRegistry);
+        this.batches = Timer.builder("book.outbox.batch")
+                .description("Time to relay a batch of change events")
+                .register(meterRegistry);
+        TimeGauge.builder("book.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest change event not relayed yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Relays full batches while there are any, then waits for the linger before the next run.
+     */
+    @Scheduled(initialDelayString = "${book-core.outbox.linger:PT0.5S}",
+            fixedDelayString = "${book-core.outbox.linger:PT0.5S}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+        lagMillis.set(outboxEventRepository.findOldestEventAge().toMillis());
+    }
+
+    /**
+     * @return number of events relayed
+     */
+    int relayBatch() {
+        Integer relayed = batches.record(() -> transactionTemplate.execute(status -> {
+            List<OutboxEventDto> events = outboxEventRepository.lockOldestEvents(batchSize);
+            List<ListenableFuture<SendResult<String, String>>> sends = new ArrayList<>(events.size());
+            events.forEach(event -> sends.add(kafkaTemplate.send(record(event))));
+            for (ListenableFuture<SendResult<String, String>> send : sends) {
+                await(send);
+            }
+            outboxEventRepository.deleteEvents(events.stream()
+                    .map(OutboxEventDto::getId).collect(Collectors.toList()));
+            return events.size();
+        }));
+        relayedEvents.increment(relayed);
+        return relayed;
+    }
+
+    private ProducerRecord<String, String> record(OutboxEventDto event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic,
+                event.getAggregateId().toString(), event.getPayload());
+        record.headers().add(AGGREGATE_TYPE_HEADER, event.getAggregateType().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void await(ListenableFuture<SendResult<String, String>> send) {
+        try {
+            send.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("The change events could not be relayed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The change events could not be relayed", e);
+        }
+    }
+
+}
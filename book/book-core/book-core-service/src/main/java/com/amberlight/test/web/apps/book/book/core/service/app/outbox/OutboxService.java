@@ -0,0 +1,23 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.outbox;
+
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+
+import java.util.List;
+
+/**
+ * Writes the change events to the outbox, in the transaction of the change.
+ */
+public interface OutboxService {
+
+    /**
+     * @param books created books with their ids and authors
+     */
+    void booksCreated(List<Book> books);
+
+    /**
+     * @param authors created authors with their ids
+     */
+    void authorsCreated(List<Author> authors);
+
+}
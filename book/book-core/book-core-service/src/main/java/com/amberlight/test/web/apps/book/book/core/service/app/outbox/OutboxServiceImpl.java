@@ -0,0 +1,90 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.outbox;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookExportDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.event.OutboxEventDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Events are written only with {@code book-core.outbox.enabled}, otherwise nobody would drain the outbox.
+ */
+@Service("outboxService")
+public class OutboxServiceImpl implements OutboxService {
+
+    private OutboxEventRepository outboxEventRepository;
+
+    private ObjectMapper objectMapper;
+
+    private boolean enabled;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                             @Value("${book-core.outbox.enabled:false}") boolean enabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void booksCreated(List<Book> books) {
+        if (enabled) {
+            outboxEventRepository.insertEvents(books.stream()
+                    .map(book -> event(OutboxEventDto.AGGREGATE_BOOK, book.getId(), BookExportDto.builder()
+                            .id(book.getId())
+                            .name(book.getName())
+                            .description(book.getDescription())
+                            .genreId(book.getGenre().getId())
+                            .price(book.getPrice())
+                            .published(book.getPublished())
+                            .authorIds(book.getAuthors().stream().map(Author::getId).sorted()
+                                    .collect(Collectors.toList()))
+                            .build()))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void authorsCreated(List<Author> authors) {
+        if (enabled) {
+            outboxEventRepository.insertEvents(authors.stream()
+                    .map(author -> event(OutboxEventDto.AGGREGATE_AUTHOR, author.getId(), AuthorDto.builder()
+                            .id(author.getId())
+                            .firstName(author.getFirstName())
+                            .lastName(author.getLastName())
+                            .build()))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private OutboxEventDto event(String aggregateType, Long aggregateId, Object payload) {
+        try {
+            return OutboxEventDto.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .eventType(OutboxEventDto.EVENT_CREATED)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("The change event could not be written", e);
+        }
+    }
+
+}
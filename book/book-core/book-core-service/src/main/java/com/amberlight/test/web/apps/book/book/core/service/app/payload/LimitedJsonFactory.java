@@ -0,0 +1,60 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.IOContext;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Creates parsers checking the {@link PayloadLimitProperties} token by token, see {@link LimitedJsonParser}.
+ */
+public class LimitedJsonFactory extends JsonFactory {
+
+    private final PayloadLimitProperties limits;
+
+    public LimitedJsonFactory(PayloadLimitProperties limits) {
+        this.limits = limits;
+    }
+
+    protected LimitedJsonFactory(LimitedJsonFactory src, ObjectCodec codec) {
+        super(src, codec);
+        this.limits = src.limits;
+    }
+
+    @Override
+    public JsonFactory copy() {
+        return new LimitedJsonFactory(this, null);
+    }
+
+    @Override
+    protected JsonParser _createParser(InputStream in, IOContext ctxt) throws IOException {
+        return new LimitedJsonParser(super._createParser(in, ctxt), limits);
+    }
+
+    @Override
+    protected JsonParser _createParser(Reader r, IOContext ctxt) throws IOException {
+        return new LimitedJsonParser(super._createParser(r, ctxt), limits);
+    }
+
+    @Override
+    protected JsonParser _createParser(char[] data, int offset, int len, IOContext ctxt,
+                                       boolean recyclable) throws IOException {
+        return new LimitedJsonParser(super._createParser(data, offset, len, ctxt, recyclable), limits);
+    }
+
+    @Override
+    protected JsonParser _createParser(byte[] data, int offset, int len, IOContext ctxt) throws IOException {
+        return new LimitedJsonParser(super._createParser(data, offset, len, ctxt), limits);
+    }
+
+    @Override
+    protected JsonParser _createParser(DataInput input, IOContext ctxt) throws IOException {
+        return new LimitedJsonParser(super._createParser(input, ctxt), limits);
+    }
+
+}
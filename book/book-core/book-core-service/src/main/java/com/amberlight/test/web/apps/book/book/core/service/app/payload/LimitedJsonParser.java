@@ -0,0 +1,121 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Fails as soon as a token breaks the {@link PayloadLimitProperties}: too deep nesting, too many elements of an
+ * array or a rejected field, so an oversized body is never materialized.
+ * <p>
+ * Every token passes {@link #nextToken()}: the other "next" methods of {@link JsonParser} are built on it, and
+ * the ones the delegate would forward are overridden, skipped content included.
+ */
+class LimitedJsonParser extends JsonParserDelegate {
+
+    private final PayloadLimitProperties limits;
+
+    private final Set<String> rejectedFields;
+
+    LimitedJsonParser(JsonParser delegate, PayloadLimitProperties limits) {
+        super(delegate);
+        this.limits = limits;
+        this.rejectedFields = new HashSet<>(limits.getRejectedFields());
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken token = super.nextToken();
+        if (token == null) {
+            return null;
+        }
+        JsonStreamContext context = getParsingContext();
+        if (token == JsonToken.FIELD_NAME) {
+            checkField(context);
+            return token;
+        }
+        if (token.isStructStart()) {
+            checkDepth(context);
+            // the new context is the struct itself, it is counted as an element of its parent
+            context = context.getParent();
+        }
+        if (!token.isStructEnd() && context.inArray()) {
+            checkArraySize(context);
+        }
+        return token;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+    }
+
+    @Override
+    public JsonParser skipChildren() throws IOException {
+        if (!currentToken().isStructStart()) {
+            return this;
+        }
+        int open = 1;
+        while (open > 0) {
+            JsonToken token = nextToken();
+            if (token == null) {
+                return this;
+            }
+            if (token.isStructStart()) {
+                open++;
+            } else if (token.isStructEnd()) {
+                open--;
+            }
+        }
+        return this;
+    }
+
+    private void checkDepth(JsonStreamContext context) throws JsonParseException {
+        int depth = 0;
+        for (JsonStreamContext c = context; !c.inRoot(); c = c.getParent()) {
+            depth++;
+        }
+        if (depth > limits.getMaxDepth()) {
+            throw new JsonParseException(this, String.format("The nesting depth must not exceed %d",
+                    limits.getMaxDepth()));
+        }
+    }
+
+    private void checkArraySize(JsonStreamContext array) throws JsonParseException {
+        String fieldName = fieldName(array.getParent());
+        int maxSize = fieldName != null ? limits.getMaxCollectionSize(fieldName) : limits.getMaxCollectionSize();
+        if (array.getEntryCount() > maxSize) {
+            throw new JsonParseException(this, String.format("The array %s must not have more than %d elements",
+                    fieldName != null ? fieldName : "", maxSize));
+        }
+    }
+
+    private void checkField(JsonStreamContext object) throws JsonParseException {
+        if (rejectedFields.isEmpty()) {
+            return;
+        }
+        String parentName = fieldName(object.getParent());
+        if (parentName != null && rejectedFields.contains(parentName + "." + object.getCurrentName())) {
+            throw new JsonParseException(this, String.format("The field %s.%s must not be sent",
+                    parentName, object.getCurrentName()));
+        }
+    }
+
+    /**
+     * @return name of the field holding the given context, arrays in between are skipped
+     */
+    private static String fieldName(JsonStreamContext context) {
+        while (context != null && context.inArray()) {
+            context = context.getParent();
+        }
+        return context != null && context.inObject() ? context.getCurrentName() : null;
+    }
+
+}
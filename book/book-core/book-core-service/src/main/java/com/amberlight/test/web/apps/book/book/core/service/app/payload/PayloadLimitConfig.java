@@ -0,0 +1,48 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Applies the {@link PayloadLimitProperties} to the request bodies. The limited parsers are used by the web layer
+ * only, the other readers of JSON keep the application object mapper.
+ */
+@Configuration
+@EnableConfigurationProperties(PayloadLimitProperties.class)
+public class PayloadLimitConfig implements WebMvcConfigurer {
+
+    private ObjectMapper requestObjectMapper;
+
+    public PayloadLimitConfig(PayloadLimitProperties limits, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.requestObjectMapper = objectMapperBuilder.factory(new LimitedJsonFactory(limits)).build();
+    }
+
+    @Bean
+    public FilterRegistrationBean<PayloadSizeFilter> payloadSizeFilter(PayloadLimitProperties limits) {
+        FilterRegistrationBean<PayloadSizeFilter> registration =
+                new FilterRegistrationBean<>(new PayloadSizeFilter(limits));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter) {
+                ((MappingJackson2HttpMessageConverter) converter).setObjectMapper(requestObjectMapper);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Limits of the request bodies, enforced while a body is read, before the command is materialized.
+ */
+@Data
+@ConfigurationProperties(prefix = "book-core.payload")
+public class PayloadLimitProperties {
+
+    private DataSize maxBodySize = DataSize.ofMegabytes(4);
+
+    /**
+     * Body size limits by request path, for the paths whose bodies are streamed instead of materialized.
+     */
+    private Map<String, DataSize> maxBodySizes = new HashMap<>(Map.of("/api/book/import", DataSize.ofGigabytes(1)));
+
+    /**
+     * Request paths without a body size limit.
+     */
+    private List<String> unlimitedPaths = new ArrayList<>();
+
+    /**
+     * Max nesting depth of JSON objects and arrays.
+     */
+    private int maxDepth = 16;
+
+    /**
+     * Max number of elements of a JSON array of a field without its own limit.
+     */
+    private int maxCollectionSize = 1000;
+
+    /**
+     * Max number of elements of a JSON array by field name.
+     */
+    private Map<String, Integer> collectionSizes = new HashMap<>();
+
+    /**
+     * Fields owned by the server which a request must not send, as "parent.field" where the parent is the field
+     * holding the object, for example "genre.books".
+     */
+    private List<String> rejectedFields = new ArrayList<>();
+
+    /**
+     * @param fieldName name of the field holding the array
+     * @return max number of elements of the array
+     */
+    public int getMaxCollectionSize(String fieldName) {
+        return collectionSizes.getOrDefault(fieldName, maxCollectionSize);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Limits the request body size: a declared length over the limit is refused with 413 before the body is read,
+ * a body without a declared length fails the read with a {@link PayloadTooLargeException} once the limit is passed.
+ */
+public class PayloadSizeFilter extends OncePerRequestFilter {
+
+    private final long maxBodySize;
+
+    private final Map<String, Long> maxBodySizes = new HashMap<>();
+
+    private final Set<String> unlimitedPaths;
+
+    public PayloadSizeFilter(PayloadLimitProperties limits) {
+        this.maxBodySize = limits.getMaxBodySize().toBytes();
+        limits.getMaxBodySizes().forEach((path, size) -> maxBodySizes.put(path, size.toBytes()));
+        this.unlimitedPaths = new HashSet<>(limits.getUnlimitedPaths());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return unlimitedPaths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long pathMaxBodySize = maxBodySizes.getOrDefault(request.getRequestURI(), maxBodySize);
+        if (request.getContentLengthLong() > pathMaxBodySize) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                    String.format("The request body must not exceed %d bytes", pathMaxBodySize));
+            return;
+        }
+        filterChain.doFilter(new LimitedRequest(request, pathMaxBodySize), response);
+    }
+
+    private static class LimitedRequest extends HttpServletRequestWrapper {
+
+        private final long maxBodySize;
+
+        private ServletInputStream inputStream;
+
+        LimitedRequest(HttpServletRequest request, long maxBodySize) {
+            super(request);
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new LimitedInputStream(super.getInputStream(), maxBodySize);
+            }
+            return inputStream;
+        }
+
+    }
+
+    private static class LimitedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        private final long maxBodySize;
+
+        private long readBytes;
+
+        LimitedInputStream(ServletInputStream delegate, long maxBodySize) {
+            this.delegate = delegate;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            readBytes += n;
+            if (readBytes > maxBodySize) {
+                throw new PayloadTooLargeException(maxBodySize);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.IOException;
+
+/**
+ * Fails the read of a request body past its size limit, answered with 413 also when it is the cause of
+ * a failed conversion of the body.
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class PayloadTooLargeException extends IOException {
+
+    public PayloadTooLargeException(long maxBodySize) {
+        super(String.format("The request body must not exceed %d bytes", maxBodySize));
+    }
+
+}
@@ -2,11 +2,39 @@ package com.amberlight.test.web.apps.book.book.core.service.app.service;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface BookAuthorService {
 
     Author createAuthor(AuthorDto authorDto);
 
+    /**
+     * Creates authors in one transaction, inserting them by JDBC batches.
+     *
+     * @param authorDtos authors to create
+     * @return created authors in the order of the given ones
+     */
+    List<Author> createAuthors(List<AuthorDto> authorDtos);
+
     Author findAuthor(Long id);
 
+    List<Author> findAuthors(Collection<Long> ids);
+
+    /**
+     * Finds the first books of authors by (published, id), the books of an author are never loaded as a whole.
+     * The books are loaded without their authors.
+     *
+     * @param ids author ids
+     * @param limit max number of books per author
+     * @return books in (published, id) order by author id, authors without books are left out
+     */
+    Map<Long, List<Book>> findAuthorBooks(Collection<Long> ids, int limit);
+
+    Set<Long> findExistingAuthorIds(Collection<Long> ids);
+
 }
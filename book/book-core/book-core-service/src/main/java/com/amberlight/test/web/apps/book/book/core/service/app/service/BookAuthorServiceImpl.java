@@ -2,18 +2,38 @@ package com.amberlight.test.web.apps.book.book.core.service.app.service;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
 import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.outbox.OutboxService;
+import com.amberlight.test.web.apps.book.book.core.service.util.IdChunks;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service("bookAuthorService")
 public class BookAuthorServiceImpl implements BookAuthorService {
 
     private BookAuthorRepository bookAuthorRepository;
 
-    public BookAuthorServiceImpl(BookAuthorRepository bookAuthorRepository) {
+    private BookRepository bookRepository;
+
+    private OutboxService outboxService;
+
+    public BookAuthorServiceImpl(BookAuthorRepository bookAuthorRepository, BookRepository bookRepository,
+                                 OutboxService outboxService) {
         this.bookAuthorRepository = bookAuthorRepository;
+        this.bookRepository = bookRepository;
+        this.outboxService = outboxService;
     }
 
     /**
@@ -22,20 +42,90 @@ public class BookAuthorServiceImpl implements BookAuthorService {
     @Override
     @Transactional
     public Author createAuthor(AuthorDto authorDto) {
-        Author newAuthor = new Author();
-        newAuthor.setFirstName(authorDto.getFirstName());
-        newAuthor.setLastName(authorDto.getLastName());
-        return bookAuthorRepository.saveAndFlush(newAuthor);
+        Author author = bookAuthorRepository.saveAndFlush(newAuthor(authorDto));
+        outboxService.authorsCreated(List.of(author));
+        return author;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<Author> createAuthors(List<AuthorDto> authorDtos) {
+        List<Author> newAuthors = new ArrayList<>(authorDtos.size());
+        authorDtos.forEach(authorDto -> newAuthors.add(newAuthor(authorDto)));
+        bookAuthorRepository.saveAll(newAuthors);
+        bookAuthorRepository.flush();
+        outboxService.authorsCreated(newAuthors);
+        return newAuthors;
     }
 
     /**
      * {@inheritDoc}
      */
-//    @Transactional(readOnly = true)
     @Override
+    @Transactional(readOnly = true)
     public Author findAuthor(Long id) {
         // todo maybe to throw an exception for "book author not found"
         return bookAuthorRepository.findById(id).orElse(null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Author> findAuthors(Collection<Long> ids) {
+        List<Author> authors = new ArrayList<>(ids.size());
+        for (List<Long> chunk : IdChunks.of(ids)) {
+            authors.addAll(bookAuthorRepository.findAllById(chunk));
+        }
+        return authors;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<Book>> findAuthorBooks(Collection<Long> ids, int limit) {
+        Map<Long, List<Long>> bookIds = new LinkedHashMap<>();
+        for (List<Long> chunk : IdChunks.of(ids)) {
+            for (Object[] row : bookAuthorRepository.findBookPageIds(chunk, limit)) {
+                bookIds.computeIfAbsent(((Number) row[0]).longValue(), authorId -> new ArrayList<>())
+                        .add(((Number) row[1]).longValue());
+            }
+        }
+        Map<Long, Book> books = new HashMap<>();
+        for (List<Long> chunk : IdChunks.of(bookIds.values().stream().flatMap(List::stream)
+                .collect(Collectors.toList()))) {
+            bookRepository.findWithoutAuthorsByIds(chunk).forEach(book -> books.put(book.getId(), book));
+        }
+        Map<Long, List<Book>> authorBooks = new LinkedHashMap<>();
+        bookIds.forEach((authorId, page) -> authorBooks.put(authorId,
+                page.stream().map(books::get).collect(Collectors.toList())));
+        return authorBooks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingAuthorIds(Collection<Long> ids) {
+        Set<Long> existingIds = new HashSet<>();
+        for (List<Long> chunk : IdChunks.of(ids)) {
+            existingIds.addAll(bookAuthorRepository.findExistingIds(chunk));
+        }
+        return existingIds;
+    }
+
+    private static Author newAuthor(AuthorDto authorDto) {
+        Author newAuthor = new Author();
+        newAuthor.setFirstName(authorDto.getFirstName());
+        newAuthor.setLastName(authorDto.getLastName());
+        return newAuthor;
+    }
+
 }
@@ -0,0 +1,206 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.service.app.datasource.DataSourceRouting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Group commit of the books created concurrently: a worker collects the create requests for up to
+ * {@code max-wait} or {@code max-batch-size} books and creates them in one transaction.
+ * <p>
+ * A failed batch is retried book by book, so an invalid book fails its own request only. When the queue is full
+ * the book is created on the calling thread.
+ * <p>
+ * The commit time of the book is handed over to the calling request, which is then read from the primary as if
+ * it had committed the book itself, see {@link DataSourceRouting#writeCommitted(long)}.
+ */
+@Component("bookCreateCoalescer")
+@ConditionalOnProperty(name = "book-core.group-commit.enabled", havingValue = "true")
+public class BookCreateCoalescer {
+
+    /**
+     * Commit time of a book whose commit was not recorded, as without read replicas.
+     */
+    private static final long NOT_RECORDED = -1;
+
+    private final BookService bookService;
+
+    private final int maxBatchSize;
+
+    private final long maxWaitNanos;
+
+    private final BlockingQueue<PendingBook> queue;
+
+    private final ExecutorService workers;
+
+    private final DistributionSummary batchSizes;
+
+    private final Timer waitTimes;
+
+    private volatile boolean running = true;
+
+    public BookCreateCoalescer(BookService bookService, MeterRegistry meterRegistry,
+                               @Value("${book-core.group-commit.max-batch-size:100}") int maxBatchSize,
+                               @Value("${book-core.group-commit.max-wait:5ms}") Duration maxWait,
+                               @Value("${book-core.group-commit.queue-capacity:10000}") int queueCapacity,
+                               @Value("${book-core.group-commit.workers:2}") int workerCount) {
+        this.bookService = bookService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("book.create.batch.size")
+                .description("Books created per group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimes = Timer.builder("book.create.batch.wait")
+                .description("Time a book waits for its group commit to start")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                new ThreadFactoryBuilder().setNameFormat("book-create-coalescer-%d").setDaemon(true).build());
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    /**
+     * Creates the book with the next group commit and waits for it.
+     *
+     * @param bookDto book to create
+     * @return the created book, as returned by {@link BookService#createBook(BookDto)}
+     */
+    public Book createBook(BookDto bookDto) {
+        PendingBook pendingBook = new PendingBook(bookDto, System.nanoTime());
+        if (!running || !queue.offer(pendingBook)) {
+            return bookService.createBook(bookDto);
+        }
+        try {
+            Committed<Book> book = pendingBook.result.join();
+            if (book.commitMillis != NOT_RECORDED) {
+                DataSourceRouting.writeCommitted(book.commitMillis);
+            }
+            return book.value;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        running = false;
+        workers.shutdownNow();
+        List<PendingBook> pendingBooks = new ArrayList<>();
+        queue.drainTo(pendingBooks);
+        pendingBooks.forEach(pendingBook ->
+                pendingBook.result.completeExceptionally(new IllegalStateException("The service is stopping")));
+    }
+
+    private void work() {
+        List<PendingBook> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingBook pendingBook = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (pendingBook == null) {
+                        break;
+                    }
+                    batch.add(pendingBook);
+                }
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            batch.forEach(pendingBook ->
+                    pendingBook.result.completeExceptionally(new IllegalStateException("The service is stopping")));
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<PendingBook> batch) {
+        long started = System.nanoTime();
+        batchSizes.record(batch.size());
+        batch.forEach(pendingBook -> waitTimes.record(started - pendingBook.enqueued, TimeUnit.NANOSECONDS));
+        try {
+            Committed<List<Book>> books = commit(() -> bookService.createBooks(batch.stream()
+                    .map(pendingBook -> pendingBook.bookDto).collect(Collectors.toList())));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(new Committed<>(books.value.get(i), books.commitMillis));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            // isolates the failing books, the others are created one by one
+            for (PendingBook pendingBook : batch) {
+                try {
+                    pendingBook.result.complete(commit(() -> bookService.createBook(pendingBook.bookDto)));
+                } catch (RuntimeException bookException) {
+                    pendingBook.result.completeExceptionally(bookException);
+                }
+            }
+        }
+    }
+
+    private static <T> Committed<T> commit(Supplier<T> create) {
+        AtomicLong commitMillis = new AtomicLong(NOT_RECORDED);
+        T value = DataSourceRouting.recordWrites(create, commitMillis::set);
+        return new Committed<>(value, commitMillis.get());
+    }
+
+    private static class PendingBook {
+
+        private final BookDto bookDto;
+
+        private final long enqueued;
+
+        private final CompletableFuture<Committed<Book>> result = new CompletableFuture<>();
+
+        private PendingBook(BookDto bookDto, long enqueued) {
+            this.bookDto = bookDto;
+            this.enqueued = enqueued;
+        }
+
+    }
+
+    private static class Committed<T> {
+
+        private final T value;
+
+        private final long commitMillis;
+
+        private Committed(T value, long commitMillis) {
+            this.value = value;
+            this.commitMillis = commitMillis;
+        }
+
+    }
+
+}
@@ -1,12 +1,44 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.service;
 
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepriceRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookSearchCriteria;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface BookService {
 
     Book createBook(BookDto bookDto);
 
+    /**
+     * Creates books in one transaction, inserting books and their author links by JDBC batches.
+     * Fails as a whole if a genre or an author of a book does not exist.
+     *
+     * @param bookDtos books to create
+     * @return created books in the order of the given ones, with their authors
+     */
+    List<Book> createBooks(List<BookDto> bookDtos);
+
+    /**
+     * Reprices the next chunk of the matched books in one transaction.
+     *
+     * @param selector books to reprice
+     * @param operation price change
+     * @param afterId id the chunk starts after, {@code 0} for the first chunk
+     * @param limit max number of books of the chunk
+     * @return the repriced chunk
+     */
+    BookRepriceRepository.RepricedChunk repriceBooks(RepriceBooksCommand.Selector selector,
+                                                     RepriceBooksCommand.Operation operation,
+                                                     long afterId, int limit);
+
     Book findBook(Long id);
 
+    List<Book> findBooks(Collection<Long> ids);
+
+    List<Book> searchBooks(BookSearchCriteria criteria, int limit);
+
 }
@@ -1,5 +1,6 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.service;
 
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
@@ -7,11 +8,24 @@ import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
 import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
 import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepriceRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookSearchCriteria;
+import com.amberlight.test.web.apps.book.book.core.service.app.cache.DocumentCache;
+import com.amberlight.test.web.apps.book.book.core.service.app.outbox.OutboxService;
+import com.amberlight.test.web.apps.book.book.core.service.util.IdChunks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -24,9 +38,23 @@ public class BookServiceImpl implements BookService {
 
     private BookAuthorRepository bookAuthorRepository;
 
-    public BookServiceImpl(BookRepository bookRepository, BookAuthorRepository bookAuthorRepository) {
+    private DocumentCache documentCache;
+
+    private GenreTypeRegistry genreTypeRegistry;
+
+    private OutboxService outboxService;
+
+    private BookRepriceRepository bookRepriceRepository;
+
+    public BookServiceImpl(BookRepository bookRepository, BookAuthorRepository bookAuthorRepository,
+                           DocumentCache documentCache, GenreTypeRegistry genreTypeRegistry,
+                           OutboxService outboxService, BookRepriceRepository bookRepriceRepository) {
         this.bookRepository = bookRepository;
         this.bookAuthorRepository = bookAuthorRepository;
+        this.bookRepriceRepository = bookRepriceRepository;
+        this.documentCache = documentCache;
+        this.genreTypeRegistry = genreTypeRegistry;
+        this.outboxService = outboxService;
     }
 
     /**
@@ -36,38 +64,124 @@ public class BookServiceImpl implements BookService {
     @Transactional
     public Book createBook(BookDto bookDto) {
         // todo add validation, and maybe add dto-to-entity conversion
-        Book newBook = new Book();
-        newBook.setName(bookDto.getName());
-        newBook.setDescription(bookDto.getDescription());
-        newBook.setPublished(bookDto.getPublished());
-        Genre genreForNewBook = new Genre();
-        genreForNewBook.setId(bookDto.getGenre().getId());
-        newBook.setGenre(genreForNewBook);
-        newBook.setPrice(bookDto.getPrice());
-        Book savedBook = bookRepository.saveAndFlush(newBook);
-        Set<Long> existingAuthorsIds = bookDto.getAuthors().stream()
-                .map(AuthorDto::getId).collect(Collectors.toSet());
-        List<Author> existingAuthors = bookAuthorRepository.findAllById(existingAuthorsIds);
-        if (existingAuthors.isEmpty()) {
-            throw new IllegalStateException("No authors were found by ids provided");
+        return createBooks(List.of(bookDto)).get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<Book> createBooks(List<BookDto> bookDtos) {
+        for (BookDto bookDto : bookDtos) {
+            Long genreId = bookDto.getGenre().getId();
+            if (genreTypeRegistry.getGenre(genreId) == null) {
+                throw new IllegalStateException(String.format("No genre was found by id %d", genreId));
+            }
         }
-        if (existingAuthors.size() != existingAuthorsIds.size()) {
-            throw new IllegalStateException("Not all requested authors found by ids provided");
+        Set<Long> authorIds = bookDtos.stream()
+                .flatMap(bookDto -> bookDto.getAuthors().stream())
+                .map(AuthorDto::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Author> existingAuthors = new HashMap<>();
+        for (List<Long> chunk : IdChunks.of(authorIds)) {
+            bookAuthorRepository.findAllById(chunk).forEach(author -> existingAuthors.put(author.getId(), author));
         }
-        existingAuthors.forEach(author -> author.getBooks().add(savedBook));
-        bookAuthorRepository.saveAllAndFlush(existingAuthors);
-        return savedBook;
+        List<Book> newBooks = bookDtos.stream().map(this::newBook).collect(Collectors.toList());
+        // ids come from the pooled sequence, so the inserts are sent by batches on flush
+        bookRepository.saveAll(newBooks);
+        bookRepository.flush();
+        Map<Long, Set<Long>> authorIdsByBookId = new HashMap<>();
+        for (int i = 0; i < newBooks.size(); i++) {
+            Set<Long> bookAuthorIds = bookDtos.get(i).getAuthors().stream()
+                    .map(AuthorDto::getId).collect(Collectors.toSet());
+            List<Author> bookAuthors = bookAuthorIds.stream()
+                    .map(existingAuthors::get).filter(Objects::nonNull).collect(Collectors.toList());
+            if (bookAuthors.isEmpty()) {
+                throw new IllegalStateException("No authors were found by ids provided");
+            }
+            if (bookAuthors.size() != bookAuthorIds.size()) {
+                throw new IllegalStateException("Not all requested authors found by ids provided");
+            }
+            // the inverse side is not persisted, it is set for the created book to be returned complete
+            newBooks.get(i).getAuthors().addAll(bookAuthors);
+            authorIdsByBookId.put(newBooks.get(i).getId(), bookAuthorIds);
+        }
+        // the links are inserted directly, the books of the authors are never loaded
+        bookAuthorRepository.insertLinks(authorIdsByBookId);
+        outboxService.booksCreated(newBooks);
+        // the documents of the authors list their books
+        documentCache.evictAuthorDocuments(authorIds);
+        return newBooks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public BookRepriceRepository.RepricedChunk repriceBooks(RepriceBooksCommand.Selector selector,
+                                                            RepriceBooksCommand.Operation operation,
+                                                            long afterId, int limit) {
+        BookRepriceRepository.RepricedChunk chunk = bookRepriceRepository.repriceChunk(selector, operation,
+                afterId, limit);
+        // the documents of the authors list their books with the prices
+        documentCache.evictBookDocuments(chunk.getRepricedIds());
+        documentCache.evictAuthorDocuments(chunk.getAuthorIds());
+        return chunk;
     }
 
     /**
      * {@inheritDoc}
      */
-//    @Transactional(readOnly = true)
-    // todo check @Transactional(readOnly = true)
     @Override
+    @Transactional(readOnly = true)
     public Book findBook(Long id) {
         return bookRepository.findById(id).orElse(null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findBooks(Collection<Long> ids) {
+        List<Book> books = new ArrayList<>(ids.size());
+        for (List<Long> chunk : IdChunks.of(ids)) {
+            books.addAll(bookRepository.findAllById(chunk));
+        }
+        return books;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> searchBooks(BookSearchCriteria criteria, int limit) {
+        List<Long> ids = bookRepository.findIds(criteria, limit);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Integer> positions = new HashMap<>();
+        ids.forEach(id -> positions.put(id, positions.size()));
+        List<Book> books = findBooks(ids);
+        books.sort(Comparator.comparing(book -> positions.get(book.getId())));
+        return books;
+    }
+
+    private Book newBook(BookDto bookDto) {
+        Long genreId = bookDto.getGenre().getId();
+        Book newBook = new Book();
+        newBook.setName(bookDto.getName());
+        newBook.setDescription(bookDto.getDescription());
+        newBook.setPublished(bookDto.getPublished());
+        Genre genreForNewBook = new Genre();
+        genreForNewBook.setId(genreId);
+        newBook.setGenre(genreForNewBook);
+        newBook.setGenreId(genreId);
+        newBook.setPrice(bookDto.getPrice());
+        return newBook;
+    }
 
 }
@@ -27,13 +27,6 @@ public class BookAuthorCommandServiceImpl implements BookAuthorCommandService {
     @Override
     public CreateBookAuthorDocument process(CreateBookAuthorCommand command) {
         Author createdAuthor = bookAuthorService.createAuthor(command.getAuthor());
-
-        System.out.println("createdAuthor is: " + createdAuthor);
-
-        createdAuthor = bookAuthorService.findAuthor(createdAuthor.getId());
-
-        System.out.println("createdAuthor after CREATED (retrieved one it is): " + createdAuthor);
-
         AuthorDto createdAuthorDto = conversionService.convert(createdAuthor, AuthorDto.class);
         return CreateBookAuthorDocument.builder().author(createdAuthorDto).build();
     }
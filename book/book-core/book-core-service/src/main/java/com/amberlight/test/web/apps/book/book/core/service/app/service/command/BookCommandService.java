@@ -1,12 +1,34 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.service.command;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.RepriceBooksDocument;
 
 import javax.validation.constraints.NotNull;
+import java.util.Map;
 
 public interface BookCommandService {
 
     CreateBookDocument process(CreateBookCommand command);
 
+    /**
+     * Creates the valid books of the command by chunks, every chunk in its own transaction.
+     *
+     * @param command command to process
+     * @param invalidBooks validation messages of the books which must not be created, by index
+     * @return ids of the created books and errors of the others
+     */
+    CreateBooksDocument process(CreateBooksCommand command, Map<Integer, String> invalidBooks);
+
+    /**
+     * Reprices the matched books by chunks in id order, every chunk in its own transaction.
+     *
+     * @param command command to process
+     * @return counts of the matched books
+     */
+    RepriceBooksDocument process(RepriceBooksCommand command);
+
 }
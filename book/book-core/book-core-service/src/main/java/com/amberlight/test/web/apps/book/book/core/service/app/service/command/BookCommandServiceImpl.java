@@ -2,23 +2,61 @@ package com.amberlight.test.web.apps.book.book.core.service.app.service.command;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.RepriceBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
 import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepriceRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorService;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookCreateCoalescer;
 import com.amberlight.test.web.apps.book.book.core.service.app.service.BookService;
+import com.google.common.collect.Lists;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service("bookCommandService")
 public class BookCommandServiceImpl implements BookCommandService {
 
     private BookService bookService;
 
+    private BookAuthorService bookAuthorService;
+
+    private GenreTypeRegistry genreTypeRegistry;
+
     private ConversionService conversionService;
 
-    public BookCommandServiceImpl(BookService bookService, ConversionService conversionService) {
+    private int chunkSize;
+
+    /**
+     * Group commit of the created books, {@code null} if it is not enabled.
+     */
+    private BookCreateCoalescer bookCreateCoalescer;
+
+    public BookCommandServiceImpl(BookService bookService, BookAuthorService bookAuthorService,
+                                  GenreTypeRegistry genreTypeRegistry, ConversionService conversionService,
+                                  @Value("${book-core.bulk.chunk-size:500}") int chunkSize,
+                                  ObjectProvider<BookCreateCoalescer> bookCreateCoalescer) {
         this.bookService = bookService;
+        this.bookAuthorService = bookAuthorService;
+        this.genreTypeRegistry = genreTypeRegistry;
         this.conversionService = conversionService;
+        this.chunkSize = chunkSize;
+        this.bookCreateCoalescer = bookCreateCoalescer.getIfAvailable();
     }
 
     /**
@@ -26,10 +64,108 @@ public class BookCommandServiceImpl implements BookCommandService {
      */
     @Override
     public CreateBookDocument process(CreateBookCommand command) {
-        Book createdBook = bookService.createBook(command.getBook());
-        createdBook = bookService.findBook(createdBook.getId());
+        // the created book holds its genre id and authors, so the document needs no second read
+        Book createdBook = bookCreateCoalescer != null
+                ? bookCreateCoalescer.createBook(command.getBook())
+                : bookService.createBook(command.getBook());
         BookDto createdBookDto = conversionService.convert(createdBook, BookDto.class);
         return CreateBookDocument.builder().book(createdBookDto).build();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A book referencing an unknown genre or author is reported and skipped, a failed chunk
+     * is reported for each of its books and does not affect the other chunks.
+     */
+    @Override
+    public CreateBooksDocument process(CreateBooksCommand command, Map<Integer, String> invalidBooks) {
+        List<BookDto> books = command.getBooks();
+        Long[] bookIds = new Long[books.size()];
+        List<CreateBooksDocument.ItemError> errors = new ArrayList<>();
+        invalidBooks.forEach((index, message) -> errors.add(itemError(index, message)));
+        List<Integer> validIndexes = new ArrayList<>(books.size());
+        for (int i = 0; i < books.size(); i++) {
+            if (!invalidBooks.containsKey(i)) {
+                validIndexes.add(i);
+            }
+        }
+        for (List<Integer> chunk : Lists.partition(validIndexes, chunkSize)) {
+            Set<Long> authorIds = chunk.stream()
+                    .flatMap(i -> books.get(i).getAuthors().stream())
+                    .map(AuthorDto::getId)
+                    .collect(Collectors.toSet());
+            Set<Long> existingAuthorIds = bookAuthorService.findExistingAuthorIds(authorIds);
+            List<Integer> chunkIndexes = new ArrayList<>(chunk.size());
+            for (Integer i : chunk) {
+                String error = findReferenceError(books.get(i), existingAuthorIds);
+                if (error != null) {
+                    errors.add(itemError(i, error));
+                } else {
+                    chunkIndexes.add(i);
+                }
+            }
+            if (chunkIndexes.isEmpty()) {
+                continue;
+            }
+            try {
+                List<Book> createdBooks = bookService.createBooks(
+                        chunkIndexes.stream().map(books::get).collect(Collectors.toList()));
+                for (int j = 0; j < chunkIndexes.size(); j++) {
+                    bookIds[chunkIndexes.get(j)] = createdBooks.get(j).getId();
+                }
+            } catch (RuntimeException e) {
+                chunkIndexes.forEach(i -> errors.add(itemError(i, e.getMessage())));
+            }
+        }
+        errors.sort(Comparator.comparing(CreateBooksDocument.ItemError::getIndex));
+        return CreateBooksDocument.builder().bookIds(Arrays.asList(bookIds)).errors(errors).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The chunks already repriced stay repriced if a later chunk fails.
+     */
+    @Override
+    public RepriceBooksDocument process(RepriceBooksCommand command) {
+        long matched = 0;
+        long repriced = 0;
+        long rejected = 0;
+        long afterId = 0;
+        while (true) {
+            BookRepriceRepository.RepricedChunk chunk = bookService.repriceBooks(command.getSelector(),
+                    command.getOperation(), afterId, chunkSize);
+            if (chunk.getLastId() == null) {
+                break;
+            }
+            matched += chunk.getMatched();
+            repriced += chunk.getRepricedIds().size();
+            rejected += chunk.getRejected();
+            afterId = chunk.getLastId();
+        }
+        return RepriceBooksDocument.builder()
+                .matchedBooks(matched)
+                .repricedBooks(repriced)
+                .rejectedBooks(rejected)
+                .build();
+    }
+
+    private String findReferenceError(BookDto book, Set<Long> existingAuthorIds) {
+        Long genreId = book.getGenre().getId();
+        if (genreTypeRegistry.getGenre(genreId) == null) {
+            return String.format("No genre was found by id %d", genreId);
+        }
+        for (AuthorDto author : book.getAuthors()) {
+            if (!existingAuthorIds.contains(author.getId())) {
+                return String.format("No author was found by id %d", author.getId());
+            }
+        }
+        return null;
+    }
+
+    private static CreateBooksDocument.ItemError itemError(int index, String message) {
+        return CreateBooksDocument.ItemError.builder().index(index).message(message).build();
+    }
+
 }
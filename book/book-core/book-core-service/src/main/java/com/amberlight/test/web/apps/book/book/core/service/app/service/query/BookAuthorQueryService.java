@@ -1,7 +1,9 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
 
 import javax.validation.constraints.NotNull;
 
@@ -9,4 +11,6 @@ public interface BookAuthorQueryService {
 
     FindBookAuthorDocument process(FindBookAuthorQuery query);
 
+    FindBookAuthorsDocument process(FindBookAuthorsQuery query);
+
 }
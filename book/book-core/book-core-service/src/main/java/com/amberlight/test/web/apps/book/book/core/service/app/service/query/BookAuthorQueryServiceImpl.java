@@ -2,24 +2,29 @@ package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
 
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
-import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
-import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.convert.ConversionService;
+import com.amberlight.test.web.apps.book.book.core.service.app.cache.DocumentCache;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.read.BookReadService;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service("bookAuthorQueryService")
 public class BookAuthorQueryServiceImpl implements BookAuthorQueryService {
 
-    private BookAuthorService bookAuthorService;
+    private BookReadService bookReadService;
 
-    private ConversionService conversionService;
+    private DocumentCache documentCache;
 
-    public BookAuthorQueryServiceImpl(BookAuthorService bookAuthorService, ConversionService conversionService) {
-        this.bookAuthorService = bookAuthorService;
-        this.conversionService = conversionService;
+    public BookAuthorQueryServiceImpl(BookReadService bookReadService, DocumentCache documentCache) {
+        this.bookReadService = bookReadService;
+        this.documentCache = documentCache;
     }
 
     /**
@@ -27,8 +32,35 @@ public class BookAuthorQueryServiceImpl implements BookAuthorQueryService {
      */
     @Override
     public FindBookAuthorDocument process(FindBookAuthorQuery query) {
-        Author author = bookAuthorService.findAuthor(query.getId());
-        return FindBookAuthorDocument.builder().author(conversionService.convert(author, AuthorDto.class)).build();
+        FindBookAuthorDocument document = documentCache.getAuthorDocument(query.getId(), id -> {
+            AuthorDto author = bookReadService.findAuthor(id);
+            return author != null ? FindBookAuthorDocument.builder().author(author).build() : null;
+        });
+        return document != null ? document : FindBookAuthorDocument.builder().build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FindBookAuthorsDocument process(FindBookAuthorsQuery query) {
+        Map<Long, FindBookAuthorDocument> foundAuthors = documentCache.getAuthorDocuments(query.getIds(), ids -> {
+            Map<Long, FindBookAuthorDocument> documents = new HashMap<>();
+            for (AuthorDto author : bookReadService.findAuthors(ids)) {
+                documents.put(author.getId(), FindBookAuthorDocument.builder().author(author).build());
+            }
+            return documents;
+        });
+        List<AuthorDto> authors = new ArrayList<>(query.getIds().size());
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long id : query.getIds()) {
+            FindBookAuthorDocument author = foundAuthors.get(id);
+            if (author == null) {
+                notFoundIds.add(id);
+            }
+            authors.add(author != null ? author.getAuthor() : null);
+        }
+        return FindBookAuthorsDocument.builder().authors(authors).notFoundIds(notFoundIds).build();
     }
 
 }
@@ -0,0 +1,15 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface BookExportQueryService {
+
+    /**
+     * Opens the export on the calling thread, so a failing query is reported before the response is committed.
+     *
+     * @return the body writing the books, which releases the export once written
+     */
+    StreamingResponseBody process(ExportBooksQuery query);
+
+}
@@ -0,0 +1,69 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookExportDto;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookExportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Service("bookExportQueryService")
+public class BookExportQueryServiceImpl implements BookExportQueryService {
+
+    private BookExportRepository bookExportRepository;
+
+    private ObjectMapper objectMapper;
+
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    public BookExportQueryServiceImpl(BookExportRepository bookExportRepository, ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager) {
+        this.bookExportRepository = bookExportRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Writes gzip-compressed newline-delimited JSON, each book is serialized as soon as its row is read
+     * and nothing is flushed per row, so the response is sent in buffer-sized gzip chunks. The cursor is
+     * opened in a read-only transaction, so its connection is routed to a replica when one is up to date.
+     */
+    @Override
+    public StreamingResponseBody process(ExportBooksQuery query) {
+        long afterId = query.getAfterId() != null ? query.getAfterId() : 0L;
+        Stream<BookExportDto> books = readOnlyTransactionTemplate.execute(
+                status -> bookExportRepository.openBooks(afterId));
+        return outputStream -> {
+            try (books) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192);
+                try (SequenceWriter writer = objectMapper.writer()
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                        .withRootValueSeparator("\n")
+                        .writeValues(gzipOutputStream)) {
+                    books.forEach(book -> {
+                        try {
+                            writer.write(book);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    writer.flush();
+                    gzipOutputStream.write('\n');
+                }
+            }
+        };
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
 
 import javax.validation.constraints.NotNull;
 
@@ -9,4 +11,6 @@ public interface BookQueryService {
 
     FindBookDocument process(FindBookQuery query);
 
+    FindBooksDocument process(FindBooksQuery query);
+
 }
@@ -1,25 +1,30 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
 
 
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
-import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
-import com.amberlight.test.web.apps.book.book.core.service.app.service.BookService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.convert.ConversionService;
+import com.amberlight.test.web.apps.book.book.core.service.app.cache.DocumentCache;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.read.BookReadService;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service("bookQueryService")
 public class BookQueryServiceImpl implements BookQueryService {
 
-    private BookService bookService;
+    private BookReadService bookReadService;
 
-    private ConversionService conversionService;
+    private DocumentCache documentCache;
 
-    public BookQueryServiceImpl(BookService bookService, ConversionService conversionService) {
-        this.bookService = bookService;
-        this.conversionService = conversionService;
+    public BookQueryServiceImpl(BookReadService bookReadService, DocumentCache documentCache) {
+        this.bookReadService = bookReadService;
+        this.documentCache = documentCache;
     }
 
     /**
@@ -27,9 +32,35 @@ public class BookQueryServiceImpl implements BookQueryService {
      */
     @Override
     public FindBookDocument process(FindBookQuery query) {
-        Book book = bookService.findBook(query.getId());
-        BookDto bookDto = conversionService.convert(book, BookDto.class);
-        return FindBookDocument.builder().book(bookDto).build();
+        FindBookDocument document = documentCache.getBookDocument(query.getId(), id -> {
+            BookDto book = bookReadService.findBook(id);
+            return book != null ? FindBookDocument.builder().book(book).build() : null;
+        });
+        return document != null ? document : FindBookDocument.builder().build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FindBooksDocument process(FindBooksQuery query) {
+        Map<Long, FindBookDocument> foundBooks = documentCache.getBookDocuments(query.getIds(), ids -> {
+            Map<Long, FindBookDocument> documents = new HashMap<>();
+            for (BookDto book : bookReadService.findBooks(ids)) {
+                documents.put(book.getId(), FindBookDocument.builder().book(book).build());
+            }
+            return documents;
+        });
+        List<BookDto> books = new ArrayList<>(query.getIds().size());
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long id : query.getIds()) {
+            FindBookDocument book = foundBooks.get(id);
+            if (book == null) {
+                notFoundIds.add(id);
+            }
+            books.add(book != null ? book.getBook() : null);
+        }
+        return FindBooksDocument.builder().books(books).notFoundIds(notFoundIds).build();
     }
 
 }
@@ -0,0 +1,10 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.SearchBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.SearchBooksQuery;
+
+public interface BookSearchQueryService {
+
+    SearchBooksDocument process(SearchBooksQuery query);
+
+}
@@ -0,0 +1,83 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.SearchBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.SearchBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookSearchCriteria;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookService;
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmounts;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service("bookSearchQueryService")
+public class BookSearchQueryServiceImpl implements BookSearchQueryService {
+
+    /**
+     * Page size used when the query does not specify a limit.
+     */
+    public static final int DEFAULT_LIMIT = 20;
+
+    private BookService bookService;
+
+    private ConversionService conversionService;
+
+    private GenreTypeRegistry genreTypeRegistry;
+
+    public BookSearchQueryServiceImpl(BookService bookService, ConversionService conversionService,
+                                      GenreTypeRegistry genreTypeRegistry) {
+        this.bookService = bookService;
+        this.conversionService = conversionService;
+        this.genreTypeRegistry = genreTypeRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SearchBooksDocument process(SearchBooksQuery query) {
+        int limit = query.getLimit() != null ? query.getLimit() : DEFAULT_LIMIT;
+        BookSearchCriteria criteria = BookSearchCriteria.builder()
+                .genreIds(genreIds(query))
+                .authorId(query.getAuthorId())
+                .minPrice(query.getMinPrice() != null ? MonetaryAmounts.getAmount(query.getMinPrice()) : null)
+                .maxPrice(query.getMaxPrice() != null ? MonetaryAmounts.getAmount(query.getMaxPrice()) : null)
+                .publishedFrom(query.getPublishedFrom())
+                .publishedTo(query.getPublishedTo())
+                .afterPublished(query.getAfterPublished())
+                .afterId(query.getAfterId())
+                .build();
+        // one extra row tells whether there is a next page without a count query
+        List<Book> books = bookService.searchBooks(criteria, limit + 1);
+        SearchBooksDocument.SearchBooksDocumentBuilder builder = SearchBooksDocument.builder();
+        if (books.size() > limit) {
+            books = books.subList(0, limit);
+            Book last = books.get(limit - 1);
+            builder.nextAfterPublished(last.getPublished()).nextAfterId(last.getId());
+        }
+        return builder.books(books.stream()
+                .map(book -> conversionService.convert(book, BookDto.class))
+                .collect(Collectors.toList())).build();
+    }
+
+    /**
+     * Resolves the genre and type filters to the set of genres to search in, {@code null} if neither is set.
+     */
+    private Set<Long> genreIds(SearchBooksQuery query) {
+        if (query.getTypeId() == null) {
+            return query.getGenreId() != null ? Set.of(query.getGenreId()) : null;
+        }
+        Set<Long> genreIds = new HashSet<>(genreTypeRegistry.getGenreIds(query.getTypeId()));
+        if (query.getGenreId() != null) {
+            genreIds.retainAll(Set.of(query.getGenreId()));
+        }
+        return genreIds;
+    }
+
+}
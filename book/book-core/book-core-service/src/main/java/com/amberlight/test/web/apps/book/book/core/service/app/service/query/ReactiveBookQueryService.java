@@ -0,0 +1,23 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookQueryService {
+
+    Mono<FindBookDocument> process(FindBookQuery query);
+
+    Mono<FindBooksDocument> process(FindBooksQuery query);
+
+    Mono<FindBookAuthorDocument> process(FindBookAuthorQuery query);
+
+    Mono<FindBookAuthorsDocument> process(FindBookAuthorsQuery query);
+
+}
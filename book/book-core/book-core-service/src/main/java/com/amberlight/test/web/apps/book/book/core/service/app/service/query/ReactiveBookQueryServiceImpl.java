@@ -0,0 +1,106 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.ReactiveBookReadModelRepository;
+import com.amberlight.test.web.apps.book.book.core.service.util.IdChunks;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.amberlight.test.web.apps.book.book.core.service.app.service.read.BookReadService.AUTHOR_BOOKS_LIMIT;
+
+/**
+ * Reads the find-one and find-many documents over R2DBC, bypassing the document cache,
+ * so no request thread is held while the database answers.
+ */
+@Service("reactiveBookQueryService")
+public class ReactiveBookQueryServiceImpl implements ReactiveBookQueryService {
+
+    private ReactiveBookReadModelRepository reactiveBookReadModelRepository;
+
+    public ReactiveBookQueryServiceImpl(ReactiveBookReadModelRepository reactiveBookReadModelRepository) {
+        this.reactiveBookReadModelRepository = reactiveBookReadModelRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FindBookDocument> process(FindBookQuery query) {
+        return reactiveBookReadModelRepository.findBooks(List.of(query.getId()))
+                .map(books -> books.isEmpty()
+                        ? FindBookDocument.builder().build()
+                        : FindBookDocument.builder().book(books.get(0)).build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FindBooksDocument> process(FindBooksQuery query) {
+        return Flux.fromIterable(IdChunks.of(query.getIds()))
+                .concatMap(reactiveBookReadModelRepository::findBooks)
+                .flatMapIterable(Function.identity())
+                .collectMap(BookDto::getId)
+                .map(foundBooks -> {
+                    List<BookDto> books = new ArrayList<>(query.getIds().size());
+                    List<Long> notFoundIds = new ArrayList<>();
+                    for (Long id : query.getIds()) {
+                        BookDto book = foundBooks.get(id);
+                        if (book == null) {
+                            notFoundIds.add(id);
+                        }
+                        books.add(book);
+                    }
+                    return FindBooksDocument.builder().books(books).notFoundIds(notFoundIds).build();
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FindBookAuthorDocument> process(FindBookAuthorQuery query) {
+        return reactiveBookReadModelRepository.findAuthors(List.of(query.getId()), AUTHOR_BOOKS_LIMIT)
+                .map(authors -> authors.isEmpty()
+                        ? FindBookAuthorDocument.builder().build()
+                        : FindBookAuthorDocument.builder().author(authors.get(0)).build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<FindBookAuthorsDocument> process(FindBookAuthorsQuery query) {
+        return Flux.fromIterable(IdChunks.of(query.getIds()))
+                .concatMap(chunk -> reactiveBookReadModelRepository.findAuthors(chunk, AUTHOR_BOOKS_LIMIT))
+                .flatMapIterable(Function.identity())
+                .collectMap(AuthorDto::getId)
+                .map(foundAuthors -> {
+                    List<AuthorDto> authors = new ArrayList<>(query.getIds().size());
+                    List<Long> notFoundIds = new ArrayList<>();
+                    for (Long id : query.getIds()) {
+                        AuthorDto author = foundAuthors.get(id);
+                        if (author == null) {
+                            notFoundIds.add(id);
+                        }
+                        authors.add(author);
+                    }
+                    return FindBookAuthorsDocument.builder().authors(authors).notFoundIds(notFoundIds).build();
+                });
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.read;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read path of the find queries. Selected by the {@code book-core.read-model} property: {@code entity}
+ * (default) converts managed entities, {@code projection} maps flat JDBC rows.
+ */
+public interface BookReadService {
+
+    /**
+     * Max number of books in an author document, the rest are paged by {@code SearchBooksQuery.authorId}.
+     */
+    int AUTHOR_BOOKS_LIMIT = 100;
+
+    BookDto findBook(Long id);
+
+    List<BookDto> findBooks(Collection<Long> ids);
+
+    AuthorDto findAuthor(Long id);
+
+    List<AuthorDto> findAuthors(Collection<Long> ids);
+
+}
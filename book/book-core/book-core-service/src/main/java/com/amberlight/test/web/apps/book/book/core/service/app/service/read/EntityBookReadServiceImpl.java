@@ -0,0 +1,96 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.read;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorService;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service("bookReadService")
+@ConditionalOnProperty(name = "book-core.read-model", havingValue = "entity", matchIfMissing = true)
+public class EntityBookReadServiceImpl implements BookReadService {
+
+    private BookService bookService;
+
+    private BookAuthorService bookAuthorService;
+
+    private ConversionService conversionService;
+
+    public EntityBookReadServiceImpl(BookService bookService, BookAuthorService bookAuthorService,
+                                     ConversionService conversionService) {
+        this.bookService = bookService;
+        this.bookAuthorService = bookAuthorService;
+        this.conversionService = conversionService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BookDto findBook(Long id) {
+        return conversionService.convert(bookService.findBook(id), BookDto.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BookDto> findBooks(Collection<Long> ids) {
+        return bookService.findBooks(ids).stream()
+                .map(book -> conversionService.convert(book, BookDto.class)).collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AuthorDto findAuthor(Long id) {
+        Author author = bookAuthorService.findAuthor(id);
+        return author == null ? null : withBookPages(List.of(author)).get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuthorDto> findAuthors(Collection<Long> ids) {
+        return withBookPages(bookAuthorService.findAuthors(ids));
+    }
+
+    /**
+     * Converts authors with the first {@link #AUTHOR_BOOKS_LIMIT} of their books, one more book is read
+     * to tell whether the author has more.
+     */
+    private List<AuthorDto> withBookPages(List<Author> authors) {
+        Map<Long, List<Book>> books = bookAuthorService.findAuthorBooks(
+                authors.stream().map(Author::getId).collect(Collectors.toList()), AUTHOR_BOOKS_LIMIT + 1);
+        List<AuthorDto> authorDtos = new ArrayList<>(authors.size());
+        for (Author author : authors) {
+            AuthorDto authorDto = conversionService.convert(author, AuthorDto.class);
+            List<Book> page = books.getOrDefault(author.getId(), List.of());
+            authorDto.setBooks(page.stream().limit(AUTHOR_BOOKS_LIMIT)
+                    .map(book -> conversionService.convert(book, BookDto.class))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+            if (page.size() > AUTHOR_BOOKS_LIMIT) {
+                authorDto.setHasMoreBooks(true);
+            }
+            authorDtos.add(authorDto);
+        }
+        return authorDtos;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.read;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookReadModelRepository;
+import com.amberlight.test.web.apps.book.book.core.service.util.IdChunks;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service("bookReadService")
+@ConditionalOnProperty(name = "book-core.read-model", havingValue = "projection")
+public class ProjectionBookReadServiceImpl implements BookReadService {
+
+    private BookReadModelRepository bookReadModelRepository;
+
+    public ProjectionBookReadServiceImpl(BookReadModelRepository bookReadModelRepository) {
+        this.bookReadModelRepository = bookReadModelRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BookDto findBook(Long id) {
+        List<BookDto> books = bookReadModelRepository.findBooks(List.of(id));
+        return books.isEmpty() ? null : books.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BookDto> findBooks(Collection<Long> ids) {
+        List<BookDto> books = new ArrayList<>(ids.size());
+        for (List<Long> chunk : IdChunks.of(ids)) {
+            books.addAll(bookReadModelRepository.findBooks(chunk));
+        }
+        return books;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AuthorDto findAuthor(Long id) {
+        List<AuthorDto> authors = bookReadModelRepository.findAuthors(List.of(id), AUTHOR_BOOKS_LIMIT);
+        return authors.isEmpty() ? null : authors.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AuthorDto> findAuthors(Collection<Long> ids) {
+        List<AuthorDto> authors = new ArrayList<>(ids.size());
+        for (List<Long> chunk : IdChunks.of(ids)) {
+            authors.addAll(bookReadModelRepository.findAuthors(chunk, AUTHOR_BOOKS_LIMIT));
+        }
+        return authors;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.web;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.AcceptedCommandDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CommandStatusDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindCommandStatusQuery;
+import com.amberlight.test.web.apps.book.book.core.service.app.handler.AsyncCommandHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/book")
+@ConditionalOnProperty(name = "book-core.async-commands.enabled", havingValue = "true")
+public class AsyncCommandResource {
+
+    private AsyncCommandHandler asyncCommandHandler;
+
+    public AsyncCommandResource(AsyncCommandHandler asyncCommandHandler) {
+        this.asyncCommandHandler = asyncCommandHandler;
+    }
+
+    @PostMapping("/create-async")
+    public ResponseEntity<AcceptedCommandDocument> createBook(@RequestBody CreateBookCommand command) {
+        return ResponseEntity.accepted().body(asyncCommandHandler.process(command));
+    }
+
+    @PostMapping("/author/create-async")
+    public ResponseEntity<AcceptedCommandDocument> createBookAuthor(@RequestBody CreateBookAuthorCommand command) {
+        return ResponseEntity.accepted().body(asyncCommandHandler.process(command));
+    }
+
+    @PostMapping("/command/find-one")
+    public ResponseEntity<CommandStatusDocument> findCommandStatus(@RequestBody FindCommandStatusQuery query) {
+        return ResponseEntity.ok(asyncCommandHandler.process(query));
+    }
+
+}
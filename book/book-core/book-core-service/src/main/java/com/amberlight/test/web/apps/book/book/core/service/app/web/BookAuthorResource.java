@@ -3,13 +3,17 @@ package com.amberlight.test.web.apps.book.book.core.service.app.web;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookAuthorDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
 import com.amberlight.test.web.apps.book.book.core.service.app.handler.CommandHandler;
 import com.amberlight.test.web.apps.book.book.core.service.app.handler.QueryHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import static com.amberlight.test.web.apps.book.book.core.api.client.BookCoreCommandClient.IDEMPOTENCY_KEY_HEADER;
+
 @RestController
 @RequestMapping("/api/book/author")
 public class BookAuthorResource {
@@ -24,8 +28,10 @@ public class BookAuthorResource {
     }
 
     @PostMapping("/create")
-    public ResponseEntity<CreateBookAuthorDocument> createBookAuthor(@RequestBody CreateBookAuthorCommand command) {
-        return ResponseEntity.ok(commandHandler.process(command));
+    public ResponseEntity<CreateBookAuthorDocument> createBookAuthor(
+            @RequestBody CreateBookAuthorCommand command,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.ok(commandHandler.process(command, idempotencyKey));
     }
 
     @PostMapping("/find-one")
@@ -33,4 +39,9 @@ public class BookAuthorResource {
         return ResponseEntity.ok(queryHandler.process(query));
     }
 
+    @PostMapping("/find-many")
+    public ResponseEntity<FindBookAuthorsDocument> findBookAuthors(@RequestBody FindBookAuthorsQuery query) {
+        return ResponseEntity.ok(queryHandler.process(query));
+    }
+
 }
@@ -1,14 +1,34 @@
 package com.amberlight.test.web.apps.book.book.core.service.app.web;
 
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.ImportBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.RepriceBooksCommand;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBooksDocument;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.ImportJobDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.RepriceBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.SearchBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
 import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindImportJobQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.SearchBooksQuery;
 import com.amberlight.test.web.apps.book.book.core.service.app.handler.CommandHandler;
 import com.amberlight.test.web.apps.book.book.core.service.app.handler.QueryHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+import static com.amberlight.test.web.apps.book.book.core.api.client.BookCoreCommandClient.IDEMPOTENCY_KEY_HEADER;
 
 @RestController
 @RequestMapping("/api/book")
@@ -24,8 +44,24 @@ public class BookResource {
     }
 
     @PostMapping("/create")
-    public ResponseEntity<CreateBookDocument> createBook(@RequestBody CreateBookCommand command) {
-        return ResponseEntity.ok(commandHandler.process(command));
+    public ResponseEntity<CreateBookDocument> createBook(
+            @RequestBody CreateBookCommand command,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.ok(commandHandler.process(command, idempotencyKey));
+    }
+
+    @PostMapping("/create-many")
+    public ResponseEntity<CreateBooksDocument> createBooks(
+            @RequestBody CreateBooksCommand command,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.ok(commandHandler.process(command, idempotencyKey));
+    }
+
+    @PostMapping("/reprice")
+    public ResponseEntity<RepriceBooksDocument> repriceBooks(
+            @RequestBody RepriceBooksCommand command,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.ok(commandHandler.process(command, idempotencyKey));
     }
 
     @PostMapping("/find-one")
@@ -33,4 +69,41 @@ public class BookResource {
         return ResponseEntity.ok(queryHandler.process(query));
     }
 
+    @PostMapping("/find-many")
+    public ResponseEntity<FindBooksDocument> findBooks(@RequestBody FindBooksQuery query) {
+        return ResponseEntity.ok(queryHandler.process(query));
+    }
+
+    @PostMapping("/search")
+    public ResponseEntity<SearchBooksDocument> searchBooks(@RequestBody SearchBooksQuery query) {
+        return ResponseEntity.ok(queryHandler.process(query));
+    }
+
+    /**
+     * Validates the query and opens the export on the request thread, the books are then written by an async
+     * request thread within "spring.mvc.async.request-timeout".
+     */
+    @PostMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(@RequestBody ExportBooksQuery query) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(queryHandler.process(query));
+    }
+
+    /**
+     * Accepts the request body as an import file of the format given, the import runs in the background.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ImportJobDocument> importBooks(@RequestParam("format") String format,
+                                                         HttpServletRequest request) throws IOException {
+        ImportBooksCommand command = ImportBooksCommand.builder().format(format).build();
+        return ResponseEntity.accepted().body(commandHandler.process(command, request.getInputStream()));
+    }
+
+    @PostMapping("/import/find-one")
+    public ResponseEntity<ImportJobDocument> findImportJob(@RequestBody FindImportJobQuery query) {
+        return ResponseEntity.ok(queryHandler.process(query));
+    }
+
 }
@@ -0,0 +1,48 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.web;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorsDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBooksDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookAuthorsQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.service.app.handler.ReactiveQueryHandler;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Find queries answered asynchronously: the request thread is released until the R2DBC query completes.
+ */
+@RestController
+@RequestMapping("/api/reactive/book")
+public class ReactiveBookResource {
+
+    private ReactiveQueryHandler reactiveQueryHandler;
+
+    public ReactiveBookResource(ReactiveQueryHandler reactiveQueryHandler) {
+        this.reactiveQueryHandler = reactiveQueryHandler;
+    }
+
+    @PostMapping("/find-one")
+    public Mono<FindBookDocument> findBook(@RequestBody FindBookQuery query) {
+        return reactiveQueryHandler.process(query);
+    }
+
+    @PostMapping("/find-many")
+    public Mono<FindBooksDocument> findBooks(@RequestBody FindBooksQuery query) {
+        return reactiveQueryHandler.process(query);
+    }
+
+    @PostMapping("/author/find-one")
+    public Mono<FindBookAuthorDocument> findBookAuthor(@RequestBody FindBookAuthorQuery query) {
+        return reactiveQueryHandler.process(query);
+    }
+
+    @PostMapping("/author/find-many")
+    public Mono<FindBookAuthorsDocument> findBookAuthors(@RequestBody FindBookAuthorsQuery query) {
+        return reactiveQueryHandler.process(query);
+    }
+
+}
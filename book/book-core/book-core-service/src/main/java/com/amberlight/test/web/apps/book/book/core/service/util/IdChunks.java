@@ -0,0 +1,28 @@
+package com.amberlight.test.web.apps.book.book.core.service.util;
+
+import com.google.common.collect.Lists;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public final class IdChunks {
+
+    /**
+     * Max number of ids bound to a single "in" clause of a find-many query.
+     */
+    public static final int FIND_MANY_CHUNK_SIZE = 500;
+
+    private IdChunks() {
+    }
+
+    /**
+     * Splits ids into chunks of at most {@link #FIND_MANY_CHUNK_SIZE}, duplicates are dropped and the
+     * order of the first occurrences is kept.
+     */
+    public static List<List<Long>> of(Collection<Long> ids) {
+        return Lists.partition(new ArrayList<>(new LinkedHashSet<>(ids)), FIND_MANY_CHUNK_SIZE);
+    }
+
+}
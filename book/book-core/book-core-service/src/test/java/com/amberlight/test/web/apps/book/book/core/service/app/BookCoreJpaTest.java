@@ -0,0 +1,49 @@
+package com.amberlight.test.web.apps.book.book.core.service.app;
+
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepriceRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.cache.DocumentCache;
+import com.amberlight.test.web.apps.book.book.core.service.app.outbox.OutboxService;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JPA slice of the book-core services on an in-memory H2 database in PostgreSQL mode, whose schema Hibernate
+ * creates instead of Liquibase. The tests run outside a test transaction, so the services commit as they do in
+ * production. The document cache, the outbox and the reprice repository the services need are mocks.
+ * <p>
+ * Each test class names its database with {@code book-core.test.database}, so the cached contexts do not share
+ * tables.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:${book-core.test.database:book-core};MODE=PostgreSQL;DB_CLOSE_DELAY=-1"
+})
+@MockBean({DocumentCache.class, OutboxService.class, BookRepriceRepository.class})
+public @interface BookCoreJpaTest {
+
+    /**
+     * Properties of the test class, at least its {@code book-core.test.database}. Not named {@code properties},
+     * which would also override the ones of {@link TestPropertySource} by convention.
+     */
+    @AliasFor(annotation = DataJpaTest.class, attribute = "properties")
+    String[] value() default {};
+
+}
@@ -0,0 +1,110 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.async;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(classes = {KafkaAutoConfiguration.class, JacksonAutoConfiguration.class, AsyncCommandConfig.class,
+        AsyncCommandPublisher.class, AsyncCommandListener.class},
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "book-core.async-commands.enabled=true",
+                "book-core.async-commands.topic=async-command-tests",
+                "book-core.async-commands.partitions=3"
+        })
+@EmbeddedKafka(partitions = 3)
+@DirtiesContext
+class AsyncCommandKafkaTests {
+
+    @MockBean
+    private AsyncCommandService asyncCommandService;
+
+    @Autowired
+    private AsyncCommandPublisher asyncCommandPublisher;
+
+    @Autowired
+    private KafkaTemplate<String, String> asyncCommandKafkaTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Test
+    void testPublish_commandsAreDrainedAndFailedBatchIsRetried() throws InterruptedException {
+        AtomicBoolean failed = new AtomicBoolean();
+        Set<String> failedIds = ConcurrentHashMap.newKeySet();
+        Set<String> processedIds = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<AsyncCommand> commands = invocation.getArgument(0);
+            if (failed.compareAndSet(false, true)) {
+                commands.forEach(command -> failedIds.add(command.getTrackingId()));
+                throw new IllegalStateException("The database is not available");
+            }
+            commands.forEach(command -> processedIds.add(command.getTrackingId()));
+            return null;
+        }).when(asyncCommandService).process(anyList());
+        Set<String> trackingIds = Set.of("tracking-1", "tracking-2", "tracking-3");
+
+        trackingIds.forEach(trackingId -> asyncCommandPublisher.publish(AsyncCommand.builder()
+                .trackingId(trackingId)
+                .createBookAuthorCommand(CreateBookAuthorCommand.builder()
+                        .author(AuthorDto.builder().firstName("first").lastName(trackingId).build())
+                        .build())
+                .build()));
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!processedIds.containsAll(trackingIds) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertEquals(trackingIds, processedIds);
+        assertTrue(trackingIds.containsAll(failedIds));
+        assertTrue(processedIds.containsAll(failedIds));
+    }
+
+    @Test
+    void testListen_recordThatIsNotCommandIsDeadLettered() throws Exception {
+        asyncCommandKafkaTemplate.send("async-command-tests", "key", "not a command").get();
+
+        Map<String, Object> properties = KafkaTestUtils.consumerProps("dead-letter-tests", "false", embeddedKafka);
+        properties.put("auto.offset.reset", "earliest");
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(properties,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            consumer.subscribe(List.of("async-command-tests.DLT"));
+            ConsumerRecord<String, String> record = KafkaTestUtils.getSingleRecord(consumer,
+                    "async-command-tests.DLT", 30_000);
+
+            assertEquals("not a command", record.value());
+            assertNotNull(record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_OFFSET));
+            assertEquals("async-command-tests", new String(
+                    record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC).value(), StandardCharsets.UTF_8));
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.async;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CommandStatusDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.CommandStatusRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.BookCoreJpaTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorService;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorServiceImpl;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookService;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@BookCoreJpaTest({
+        "book-core.test.database=async-command-tests",
+        "book-core.async-commands.enabled=true"
+})
+class AsyncCommandServiceImplTests {
+
+    @Autowired
+    private AsyncCommandService asyncCommandService;
+
+    @Autowired
+    private BookAuthorService bookAuthorService;
+
+    @Autowired
+    private CommandStatusRepository commandStatusRepository;
+
+    @Autowired
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long genreId;
+
+    private Long authorId;
+
+    @BeforeEach
+    void setUp() {
+        // the table is created by Liquibase, which is disabled here
+        jdbcTemplate.execute("DROP TABLE IF EXISTS command_status");
+        jdbcTemplate.execute("CREATE TABLE command_status (tracking_id VARCHAR(36) PRIMARY KEY, " +
+                "status VARCHAR(16) NOT NULL, entity_id BIGINT, error VARCHAR(1024), " +
+                "processed TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("DELETE FROM author_book");
+        bookRepository.deleteAllInBatch();
+        bookAuthorRepository.deleteAllInBatch();
+        genreRepository.deleteAllInBatch();
+        Genre genre = new Genre();
+        genre.setName("Genre");
+        genreId = genreRepository.save(genre).getId();
+        genreTypeRegistry.reload();
+        Author author = new Author();
+        author.setFirstName("First");
+        author.setLastName("Last");
+        authorId = bookAuthorRepository.save(author).getId();
+    }
+
+    @Test
+    void testProcess_replayedBatchCreatesOnce() {
+        List<AsyncCommand> batch = List.of(bookCommand("book-1", genreId), bookCommand("book-2", genreId),
+                authorCommand("author-1"), bookCommand("book-1", genreId));
+
+        asyncCommandService.process(batch);
+        List<CommandStatusDocument> statuses = findStatuses("book-1", "book-2", "author-1");
+        asyncCommandService.process(batch);
+
+        assertEquals(2, bookRepository.count());
+        assertEquals(2, bookAuthorRepository.count());
+        assertEquals(statuses, findStatuses("book-1", "book-2", "author-1"));
+        statuses.forEach(status -> {
+            assertEquals("COMPLETED", status.getStatus());
+            assertNotNull(status.getEntityId());
+        });
+    }
+
+    @Test
+    void testProcess_invalidCommandIsFailed() {
+        asyncCommandService.process(List.of(bookCommand("book-1", genreId), bookCommand("book-2", 999L),
+                bookCommand("book-3", genreId)));
+
+        assertEquals(2, bookRepository.count());
+        assertEquals("COMPLETED", asyncCommandService.findStatus("book-1").getStatus());
+        CommandStatusDocument failed = asyncCommandService.findStatus("book-2");
+        assertEquals("FAILED", failed.getStatus());
+        assertEquals("No genre was found by id 999", failed.getError());
+        assertEquals("COMPLETED", asyncCommandService.findStatus("book-3").getStatus());
+    }
+
+    @Test
+    void testProcess_commandWithoutOnePayloadIsFailed() {
+        AsyncCommand both = bookCommand("both", genreId).toBuilder()
+                .createBookAuthorCommand(authorCommand("author-1").getCreateBookAuthorCommand())
+                .build();
+
+        asyncCommandService.process(List.of(AsyncCommand.builder().trackingId("none").build(), both,
+                bookCommand("book-1", genreId), authorCommand("author-2")));
+
+        assertEquals(1, bookRepository.count());
+        assertEquals(2, bookAuthorRepository.count());
+        for (String trackingId : List.of("none", "both")) {
+            CommandStatusDocument failed = asyncCommandService.findStatus(trackingId);
+            assertEquals("FAILED", failed.getStatus());
+            assertEquals(AsyncCommandServiceImpl.INVALID_PAYLOAD_ERROR, failed.getError());
+        }
+        assertEquals("COMPLETED", asyncCommandService.findStatus("book-1").getStatus());
+        assertEquals("COMPLETED", asyncCommandService.findStatus("author-2").getStatus());
+    }
+
+    @Test
+    void testProcess_unavailableDatabaseIsThrown() {
+        BookService bookService = mock(BookService.class);
+        when(bookService.createBooks(anyList())).thenThrow(new CannotGetJdbcConnectionException("No connection"));
+        AsyncCommandService service = new AsyncCommandServiceImpl(bookService, bookAuthorService,
+                commandStatusRepository, transactionTemplate);
+
+        assertThrows(CannotGetJdbcConnectionException.class,
+                () -> service.process(List.of(bookCommand("book-1", genreId))));
+
+        assertEquals(CommandStatusRepository.PENDING, service.findStatus("book-1").getStatus());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM command_status", Integer.class));
+    }
+
+    private List<CommandStatusDocument> findStatuses(String... trackingIds) {
+        return Stream.of(trackingIds).map(asyncCommandService::findStatus).collect(Collectors.toList());
+    }
+
+    private AsyncCommand bookCommand(String trackingId, Long bookGenreId) {
+        return AsyncCommand.builder()
+                .trackingId(trackingId)
+                .createBookCommand(CreateBookCommand.builder()
+                        .book(BookDto.builder()
+                                .name(trackingId)
+                                .description("Description")
+                                .published(LocalDateTime.of(2022, 2, 1, 0, 0))
+                                .price(new BigDecimal("10.50"))
+                                .genre(GenreDto.builder().id(bookGenreId).build())
+                                .authors(Set.of(AuthorDto.builder().id(authorId).build()))
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private static AsyncCommand authorCommand(String trackingId) {
+        return AsyncCommand.builder()
+                .trackingId(trackingId)
+                .createBookAuthorCommand(CreateBookAuthorCommand.builder()
+                        .author(AuthorDto.builder().firstName("First").lastName(trackingId).build())
+                        .build())
+                .build();
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.repository")
+    @Import({GenreTypeRegistry.class, CommandStatusRepository.class, BookServiceImpl.class,
+            BookAuthorServiceImpl.class, AsyncCommandServiceImpl.class})
+    static class TestConfig {
+    }
+
+}
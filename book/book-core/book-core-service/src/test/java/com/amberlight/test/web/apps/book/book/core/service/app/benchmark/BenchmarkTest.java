@@ -0,0 +1,20 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a benchmark run as a test against an in-memory database. Skipped by the regular build, run with
+ * {@code mvn test -Dbenchmarks=true -Dtest='*BenchmarkTests'}; the results are printed as tables.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public @interface BenchmarkTest {
+}
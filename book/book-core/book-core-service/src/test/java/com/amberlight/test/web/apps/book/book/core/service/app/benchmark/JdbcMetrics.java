@@ -0,0 +1,93 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wraps the data sources of a benchmark context to count the statements executed, the rows read and the
+ * commits. A commit delay can be set to stand for the fsync of a durable commit, which an in-memory database
+ * does not have.
+ */
+public class JdbcMetrics implements BeanPostProcessor {
+
+    private static final Set<Class<?>> PROXIED_TYPES = Set.of(Connection.class, Statement.class,
+            PreparedStatement.class, CallableStatement.class, ResultSet.class);
+
+    private static final LongAdder STATEMENTS = new LongAdder();
+
+    private static final LongAdder ROWS = new LongAdder();
+
+    private static final LongAdder COMMITS = new LongAdder();
+
+    private static volatile long commitDelayNanos;
+
+    public static void reset() {
+        STATEMENTS.reset();
+        ROWS.reset();
+        COMMITS.reset();
+    }
+
+    public static long statements() {
+        return STATEMENTS.sum();
+    }
+
+    public static long rows() {
+        return ROWS.sum();
+    }
+
+    public static long commits() {
+        return COMMITS.sum();
+    }
+
+    public static void setCommitDelay(long delay, TimeUnit unit) {
+        commitDelayNanos = unit.toNanos(delay);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource ? proxy(DataSource.class, bean) : bean;
+    }
+
+    private static <T> T proxy(Class<T> type, Object target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    count(type, method, result);
+                    Class<?> returnType = method.getReturnType();
+                    return result != null && PROXIED_TYPES.contains(returnType) ? proxy(returnType, result) : result;
+                }));
+    }
+
+    private static void count(Class<?> type, Method method, Object result) {
+        String name = method.getName();
+        if (Statement.class.isAssignableFrom(type) && name.startsWith("execute")) {
+            STATEMENTS.increment();
+        } else if (type == ResultSet.class && name.equals("next") && Boolean.TRUE.equals(result)) {
+            ROWS.increment();
+        } else if (type == Connection.class && name.equals("commit")) {
+            COMMITS.increment();
+            if (commitDelayNanos > 0) {
+                LockSupport.parkNanos(commitDelayNanos);
+            }
+        }
+    }
+
+}
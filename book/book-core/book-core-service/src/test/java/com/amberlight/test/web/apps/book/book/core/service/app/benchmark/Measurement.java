@@ -0,0 +1,146 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.benchmark;
+
+import lombok.Value;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Latency, allocation and JDBC work of an operation. Allocation is counted on the measuring thread, so it
+ * covers synchronous operations only.
+ */
+@Value
+public class Measurement {
+
+    String name;
+
+    long operations;
+
+    double operationsPerSecond;
+
+    double p50Micros;
+
+    double p99Micros;
+
+    long allocatedBytesPerOperation;
+
+    double statementsPerOperation;
+
+    double rowsPerOperation;
+
+    double commitsPerSecond;
+
+    /**
+     * Runs the operation on the calling thread, warm-up runs are not measured.
+     */
+    public static Measurement ofLatency(String name, int warmups, int operations, Runnable operation) {
+        for (int i = 0; i < warmups; i++) {
+            operation.run();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] nanos = new long[operations];
+        JdbcMetrics.reset();
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            long operationStarted = System.nanoTime();
+            operation.run();
+            nanos[i] = System.nanoTime() - operationStarted;
+        }
+        long elapsed = System.nanoTime() - started;
+        allocated = threads.getCurrentThreadAllocatedBytes() - allocated;
+        return of(name, nanos, elapsed, allocated / operations);
+    }
+
+    /**
+     * Runs the operation from a fixed number of threads for the given time, after a warm-up of the same length.
+     */
+    public static Measurement ofThroughput(String name, int threads, Duration duration, Runnable operation)
+            throws Exception {
+        run(threads, duration, operation);
+        JdbcMetrics.reset();
+        long started = System.nanoTime();
+        long[] nanos = run(threads, duration, operation);
+        return of(name, nanos, System.nanoTime() - started, -1);
+    }
+
+    /**
+     * Builds the measurement of operations run by the caller, e.g. asynchronously.
+     */
+    public static Measurement ofRun(String name, long[] nanos, long elapsedNanos) {
+        return of(name, nanos, elapsedNanos, -1);
+    }
+
+    public static void print(String title, List<Measurement> measurements) {
+        StringBuilder table = new StringBuilder(String.format("%n%s%n%-40s %10s %10s %10s %10s %12s %10s %10s %10s%n",
+                title, "case", "ops", "ops/s", "p50 us", "p99 us", "alloc B/op", "stmt/op", "rows/op",
+                "commits/s"));
+        for (Measurement measurement : measurements) {
+            table.append(String.format("%-40s %10d %10.0f %10.1f %10.1f %12s %10.2f %10.1f %10.0f%n",
+                    measurement.name, measurement.operations, measurement.operationsPerSecond,
+                    measurement.p50Micros, measurement.p99Micros,
+                    measurement.allocatedBytesPerOperation < 0 ? "-" : measurement.allocatedBytesPerOperation,
+                    measurement.statementsPerOperation, measurement.rowsPerOperation, measurement.commitsPerSecond));
+        }
+        System.out.println(table);
+    }
+
+    private static long[] run(int threads, Duration duration, Runnable operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<long[]>> results = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    long[] nanos = new long[1024];
+                    int count = 0;
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        long operationStarted = System.nanoTime();
+                        operation.run();
+                        if (count == nanos.length) {
+                            nanos = Arrays.copyOf(nanos, count * 2);
+                        }
+                        nanos[count++] = System.nanoTime() - operationStarted;
+                    }
+                    return Arrays.copyOf(nanos, count);
+                }));
+            }
+            start.countDown();
+            long[] nanos = new long[0];
+            for (Future<long[]> result : results) {
+                long[] threadNanos = result.get();
+                int offset = nanos.length;
+                nanos = Arrays.copyOf(nanos, offset + threadNanos.length);
+                System.arraycopy(threadNanos, 0, nanos, offset, threadNanos.length);
+            }
+            return nanos;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Measurement of(String name, long[] nanos, long elapsedNanos, long allocatedBytesPerOperation) {
+        Arrays.sort(nanos);
+        int operations = nanos.length;
+        double seconds = elapsedNanos / 1e9;
+        return new Measurement(name, operations, operations / seconds,
+                percentile(nanos, 0.50) / 1e3, percentile(nanos, 0.99) / 1e3, allocatedBytesPerOperation,
+                (double) JdbcMetrics.statements() / Math.max(operations, 1),
+                (double) JdbcMetrics.rows() / Math.max(operations, 1),
+                JdbcMetrics.commits() / seconds);
+    }
+
+    private static long percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos.length == 0 ? 0 : sortedNanos[(int) Math.ceil(percentile * sortedNanos.length) - 1];
+    }
+
+}
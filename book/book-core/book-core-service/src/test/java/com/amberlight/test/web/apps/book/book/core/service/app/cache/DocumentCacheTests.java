@@ -0,0 +1,239 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.cache;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.TypeDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.TypeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DocumentCacheTests {
+
+    private DocumentCache documentCache;
+
+    private GenreRepository genreRepository;
+
+    private GenreTypeRegistry genreTypeRegistry;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        documentCache = new DocumentCache(100, Duration.ofMinutes(10), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        genreRepository = mock(GenreRepository.class);
+        TypeRepository typeRepository = mock(TypeRepository.class);
+        when(typeRepository.findAll()).thenReturn(List.of());
+        when(genreRepository.findAll()).thenReturn(List.of());
+        genreTypeRegistry = new GenreTypeRegistry(genreRepository, typeRepository,
+                event -> documentCache.onRegistryReloaded((GenreTypeRegistry.ReloadedEvent) event));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGetBookDocument_cachesFound() {
+        documentCache.getBookDocument(1L, this::loadBook);
+        documentCache.getBookDocument(1L, this::loadBook);
+        assertNull(documentCache.getBookDocument(2L, id -> null));
+        documentCache.getBookDocument(2L, this::loadBook);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvictBookDocuments_afterCommit() {
+        documentCache.getBookDocument(1L, this::loadBook);
+        TransactionSynchronizationManager.initSynchronization();
+
+        documentCache.evictBookDocuments(List.of(1L));
+        documentCache.getBookDocument(1L, this::loadBook);
+        assertEquals(1, loads.get());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        documentCache.getBookDocument(1L, this::loadBook);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvictBookDocuments_notAfterRollback() {
+        documentCache.getBookDocument(1L, this::loadBook);
+        TransactionSynchronizationManager.initSynchronization();
+
+        documentCache.evictBookDocuments(List.of(1L));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+        documentCache.getBookDocument(1L, this::loadBook);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvictBookDocuments_withoutTransaction() {
+        documentCache.getBookDocument(1L, this::loadBook);
+
+        documentCache.evictBookDocuments(List.of(1L));
+        documentCache.getBookDocument(1L, this::loadBook);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGetBookDocuments_evictedWhileLoading() {
+        Map<Long, FindBookDocument> documents = documentCache.getBookDocuments(List.of(1L, 2L), ids -> {
+            // a writer commits while the bulk load reads the previous state
+            documentCache.evictBookDocuments(List.of(3L));
+            return loadBooks(ids);
+        });
+        assertEquals(Set.of(1L, 2L), documents.keySet());
+
+        documentCache.getBookDocuments(List.of(1L, 2L), this::loadBooks);
+        documentCache.getBookDocuments(List.of(1L, 2L), this::loadBooks);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testGetAuthorDocuments_evictionCountedPerCache() {
+        documentCache.getAuthorDocuments(List.of(1L, 2L), ids -> {
+            documentCache.evictBookDocuments(List.of(1L));
+            return loadAuthors(ids);
+        });
+        documentCache.getAuthorDocuments(List.of(1L, 2L), this::loadAuthors);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testOnRegistryReloaded_evictsAll() {
+        documentCache.getBookDocument(1L, this::loadBook);
+        documentCache.getAuthorDocument(1L, this::loadAuthor);
+
+        reloadChangedGenres();
+        documentCache.getBookDocument(1L, this::loadBook);
+        documentCache.getAuthorDocument(1L, this::loadAuthor);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testOnRegistryReloaded_dropsInFlightBulkLoad() {
+        documentCache.getBookDocuments(List.of(1L), ids -> {
+            reloadChangedGenres();
+            return loadBooks(ids);
+        });
+        documentCache.getBookDocuments(List.of(1L), this::loadBooks);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGetBookDocument_copies() {
+        FindBookDocument document = documentCache.getBookDocument(1L, this::loadBook);
+        document.getBook().setName("Changed");
+        document.getBook().getGenre().getType().setName("Changed");
+        document.getBook().getAuthors().iterator().next().setLastName("Changed");
+        documentCache.getBookDocuments(List.of(1L), this::loadBooks).get(1L).getBook().setDescription("Changed");
+
+        FindBookDocument other = documentCache.getBookDocument(1L, this::loadBook);
+        assertNotSame(document, other);
+        assertEquals(loadBook(1L), other);
+    }
+
+    @Test
+    void testGetAuthorDocument_copies() {
+        FindBookAuthorDocument document = documentCache.getAuthorDocument(1L, this::loadAuthor);
+        document.getAuthor().getBooks().iterator().next().setName("Changed");
+        documentCache.getAuthorDocuments(List.of(1L), this::loadAuthors).get(1L).getAuthor().setFirstName("Changed");
+
+        assertEquals(loadAuthor(1L), documentCache.getAuthorDocument(1L, this::loadAuthor));
+    }
+
+    private void reloadChangedGenres() {
+        Genre genre = new Genre();
+        genre.setId(1L);
+        genre.setName("Genre " + loads.get());
+        when(genreRepository.findAll()).thenReturn(List.of(genre));
+        genreTypeRegistry.reload();
+    }
+
+    private FindBookDocument loadBook(Long id) {
+        loads.incrementAndGet();
+        return FindBookDocument.builder().book(book(id)).build();
+    }
+
+    private Map<Long, FindBookDocument> loadBooks(Set<Long> ids) {
+        loads.addAndGet(ids.size());
+        Map<Long, FindBookDocument> documents = new HashMap<>();
+        ids.forEach(id -> documents.put(id, FindBookDocument.builder().book(book(id)).build()));
+        return documents;
+    }
+
+    private FindBookAuthorDocument loadAuthor(Long id) {
+        loads.incrementAndGet();
+        return FindBookAuthorDocument.builder().author(author(id)).build();
+    }
+
+    private Map<Long, FindBookAuthorDocument> loadAuthors(Set<Long> ids) {
+        loads.addAndGet(ids.size());
+        Map<Long, FindBookAuthorDocument> documents = new HashMap<>();
+        ids.forEach(id -> documents.put(id, FindBookAuthorDocument.builder().author(author(id)).build()));
+        return documents;
+    }
+
+    private static BookDto book(Long id) {
+        return BookDto.builder()
+                .id(id)
+                .name("Book " + id)
+                .description("Description")
+                .genre(GenreDto.builder().id(1L).name("Genre").type(TypeDto.builder().id(1L).name("Type").build())
+                        .build())
+                .authors(new LinkedHashSet<>(List.of(AuthorDto.builder().id(1L).firstName("First")
+                        .lastName("Last").build())))
+                .build();
+    }
+
+    private static AuthorDto author(Long id) {
+        return AuthorDto.builder()
+                .id(id)
+                .firstName("First")
+                .lastName("Last " + id)
+                .books(new LinkedHashSet<>(List.of(BookDto.builder().id(1L).name("Book 1").build())))
+                .build();
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.amberlight.test.web.apps.book.book.core.api.client.BookCoreQueryClient.LAST_WRITE_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesFilterTests {
+
+    private static final long NOW_MILLIS = Instant.parse("2022-02-01T00:00:00Z").toEpochMilli();
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5),
+            Clock.fixed(Instant.ofEpochMilli(NOW_MILLIS), ZoneOffset.UTC));
+
+    @Test
+    void testFilter_recentWriteOfClientPinsPrimary() throws Exception {
+        assertTrue(isPrimaryPinned(String.valueOf(NOW_MILLIS - 5000)));
+    }
+
+    @Test
+    void testFilter_oldOrMissingWriteOfClientDoesNotPinPrimary() throws Exception {
+        assertFalse(isPrimaryPinned(String.valueOf(NOW_MILLIS - 5001)));
+        assertFalse(isPrimaryPinned(null));
+        assertFalse(isPrimaryPinned("yesterday"));
+    }
+
+    @Test
+    void testFilter_farFutureWriteOfClientIsIgnored() throws Exception {
+        assertFalse(isPrimaryPinned(String.valueOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testFilter_writeIsAnsweredAndPinsRestOfRequest() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/book/create"), response, (req, res) -> {
+            DataSourceRouting.writeCommitted(NOW_MILLIS);
+            pinned.set(DataSourceRouting.isPrimaryPinned());
+        });
+
+        assertTrue(pinned.get());
+        assertEquals(String.valueOf(NOW_MILLIS), response.getHeader(LAST_WRITE_HEADER));
+        assertFalse(DataSourceRouting.isPrimaryPinned());
+    }
+
+    @Test
+    void testFilter_readIsNotAnswered() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/book/find-one"), response, (req, res) -> {
+        });
+
+        assertNull(response.getHeader(LAST_WRITE_HEADER));
+    }
+
+    private boolean isPrimaryPinned(String lastWriteHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/book/find-one");
+        if (lastWriteHeader != null) {
+            request.addHeader(LAST_WRITE_HEADER, lastWriteHeader);
+        }
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> pinned.set(DataSourceRouting.isPrimaryPinned()));
+        return pinned.get();
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.datasource;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.FindBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.service.app.cache.DocumentCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTests {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final Map<String, Double> lags = new HashMap<>();
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", mock(DataSource.class));
+        replicas.put("replica-2", mock(DataSource.class));
+        routingDataSource = new ReplicaRoutingDataSource(mock(DataSource.class), replicas,
+                Duration.ofSeconds(5), "SELECT 0", clock) {
+            @Override
+            Double measureLagSeconds(DataSource replica) {
+                return lags.get(replicas.entrySet().stream()
+                        .filter(entry -> entry.getValue() == replica).findFirst().get().getKey());
+            }
+        };
+        lags.put("replica-1", 0.0);
+        lags.put("replica-2", 1.0);
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void testRoute_writesGoToPrimary() {
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testRoute_readsAreSpreadOverReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-2", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testRoute_laggingReplicasAreSkipped() {
+        lags.put("replica-1", 6.0);
+        lags.put("replica-2", null);
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+        lags.put("replica-2", 5.0);
+        routingDataSource.checkReplicas();
+
+        assertEquals("replica-2", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testRoute_readsFollowingWriteInRequestGoToPrimary() {
+        List<Long> commits = new ArrayList<>();
+        DataSourceRouting.startRequest(false, commits::add);
+        try {
+            routingDataSource.determineCurrentLookupKey();
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+            assertEquals(List.of(clock.millis()), commits);
+        } finally {
+            DataSourceRouting.endRequest();
+        }
+
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testRoute_writeOutsideRequestDoesNotPinReads() {
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testRoute_pinnedReadsGoToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY,
+                DataSourceRouting.onPrimary(routingDataSource::determineCurrentLookupKey));
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testRoute_cacheLoadsAfterEvictionGoToPrimary() {
+        DocumentCache documentCache = new DocumentCache(100, Duration.ofMinutes(10), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        List<Object> routes = new ArrayList<>();
+        Function<Long, FindBookDocument> loader = id -> {
+            routes.add(routingDataSource.determineCurrentLookupKey());
+            return FindBookDocument.builder().book(BookDto.builder().id(id).build()).build();
+        };
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        documentCache.getBookDocument(1L, loader);
+
+        // a writer commits, the next loads of any request must not cache what a lagging replica still has
+        documentCache.evictBookDocuments(List.of(1L));
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        documentCache.getBookDocument(1L, loader);
+        documentCache.getBookDocuments(List.of(2L), ids -> Map.of(2L, loader.apply(2L)));
+
+        assertEquals(List.of("replica-1", ReplicaRoutingDataSource.PRIMARY, ReplicaRoutingDataSource.PRIMARY),
+                routes);
+        assertEquals("replica-2", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testRoute_cacheLoadsBeyondMaxLagGoToReplicas() {
+        DocumentCache documentCache = new DocumentCache(100, Duration.ofMinutes(10), Duration.ZERO,
+                new SimpleMeterRegistry());
+        List<Object> routes = new ArrayList<>();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        documentCache.evictBookDocuments(List.of(1L));
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        documentCache.getBookDocument(1L, id -> {
+            routes.add(routingDataSource.determineCurrentLookupKey());
+            return FindBookDocument.builder().build();
+        });
+
+        assertEquals(List.of("replica-1"), routes);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2022-02-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
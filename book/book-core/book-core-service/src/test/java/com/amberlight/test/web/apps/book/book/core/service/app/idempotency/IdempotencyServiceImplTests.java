@@ -0,0 +1,219 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.idempotency;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.IdempotencyKeyRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.IdempotencyKeyRepository.StoredKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceImplTests {
+
+    private static final Duration PENDING_TIMEOUT = Duration.ofMinutes(5);
+
+    private final IdempotencyKeyRepository repository = mock(IdempotencyKeyRepository.class);
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final IdempotencyServiceImpl service = new IdempotencyServiceImpl(repository, new ObjectMapper(),
+            new TransactionTemplate(transactionManager), Duration.ofHours(24), PENDING_TIMEOUT, 100,
+            Duration.ofMinutes(10));
+
+    @Test
+    void testExecute_repeatedKeyIsAnsweredFromMemory() {
+        when(repository.claim("scope", "key", hash("request"), PENDING_TIMEOUT)).thenReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+
+        CreateBookAuthorDocument first = service.execute("scope", "key", "request", CreateBookAuthorDocument.class,
+                () -> document(executions.incrementAndGet()));
+        CreateBookAuthorDocument second = service.execute("scope", "key", "request", CreateBookAuthorDocument.class,
+                () -> document(executions.incrementAndGet()));
+
+        assertEquals(1, executions.get());
+        assertEquals(first, second);
+        verify(repository).claim("scope", "key", hash("request"), PENDING_TIMEOUT);
+        verify(repository).complete(anyString(), anyString(), anyString());
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void testExecute_keyCompletedByAnotherInstance() {
+        when(repository.claim("scope", "key", hash("request"), PENDING_TIMEOUT)).thenReturn(false);
+        when(repository.findKey("scope", "key")).thenReturn(new StoredKey(hash("request"), "{\"author\":{\"id\":7}}"));
+
+        CreateBookAuthorDocument document = service.execute("scope", "key", "request", CreateBookAuthorDocument.class,
+                () -> {
+                    throw new AssertionError("The command is executed again");
+                });
+
+        assertEquals(7L, document.getAuthor().getId());
+    }
+
+    @Test
+    void testExecute_keyInProgressOnAnotherInstance() {
+        when(repository.claim("scope", "key", hash("request"), PENDING_TIMEOUT)).thenReturn(false);
+        when(repository.findKey("scope", "key")).thenReturn(new StoredKey(hash("request"), null));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> service.execute("scope",
+                "key", "request", CreateBookAuthorDocument.class, () -> document(1)));
+
+        assertEquals(HttpStatus.CONFLICT, e.getStatus());
+    }
+
+    @Test
+    void testExecute_commandRunsBetweenClaimAndComplete() {
+        when(repository.claim("scope", "key", hash("request"), PENDING_TIMEOUT)).thenReturn(true);
+
+        service.execute("scope", "key", "request", CreateBookAuthorDocument.class, () -> {
+            // the claim is committed before the command starts its own transactions
+            verify(transactionManager).commit(any());
+            return document(1);
+        });
+
+        InOrder inOrder = inOrder(repository, transactionManager);
+        inOrder.verify(repository).claim("scope", "key", hash("request"), PENDING_TIMEOUT);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(repository).complete(eq("scope"), eq("key"), anyString());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testExecute_failedCommandReleasesClaim() {
+        when(repository.claim("scope", "key", hash("request"), PENDING_TIMEOUT)).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> service.execute("scope", "key", "request",
+                CreateBookAuthorDocument.class, () -> {
+                    throw new IllegalStateException("No author was found by id 1");
+                }));
+        verify(repository).release("scope", "key", hash("request"));
+        verify(repository, never()).complete(anyString(), anyString(), anyString());
+        CreateBookAuthorDocument document = service.execute("scope", "key", "request",
+                CreateBookAuthorDocument.class, () -> document(2));
+
+        assertEquals(2L, document.getAuthor().getId());
+        verify(repository, times(2)).claim("scope", "key", hash("request"), PENDING_TIMEOUT);
+        verify(repository).complete(eq("scope"), eq("key"), anyString());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void testExecute_keyReusedWithAnotherRequest() {
+        when(repository.claim("scope", "key", hash("request"), PENDING_TIMEOUT)).thenReturn(true);
+        service.execute("scope", "key", "request", CreateBookAuthorDocument.class, () -> document(1));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> service.execute("scope",
+                "key", "another request", CreateBookAuthorDocument.class, () -> document(2)));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, e.getStatus());
+    }
+
+    @Test
+    void testExecute_keyReusedOnAnotherInstanceWithAnotherRequest() {
+        when(repository.claim("scope", "key", hash("another request"), PENDING_TIMEOUT)).thenReturn(false);
+        when(repository.findKey("scope", "key")).thenReturn(new StoredKey(hash("request"), "{\"author\":{\"id\":7}}"));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> service.execute("scope",
+                "key", "another request", CreateBookAuthorDocument.class, () -> document(2)));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, e.getStatus());
+    }
+
+    @Test
+    void testExecute_concurrentDuplicatesAreCollapsed() throws Exception {
+        when(repository.claim("scope", "key", hash("request"), PENDING_TIMEOUT)).thenReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<CreateBookAuthorDocument>> results = new ArrayList<>();
+            results.add(CompletableFuture.supplyAsync(() -> service.execute("scope", "key", "request",
+                    CreateBookAuthorDocument.class, () -> {
+                        executing.countDown();
+                        await(release);
+                        return document(executions.incrementAndGet());
+                    }), callers));
+            await(executing);
+            for (int i = 0; i < 3; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> service.execute("scope", "key", "request",
+                        CreateBookAuthorDocument.class, () -> document(executions.incrementAndGet())), callers));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (CompletableFuture<CreateBookAuthorDocument> result : results) {
+                assertEquals(1L, result.get(10, TimeUnit.SECONDS).getAuthor().getId());
+            }
+            assertEquals(1, executions.get());
+            verify(repository).claim("scope", "key", hash("request"), PENDING_TIMEOUT);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecute_withoutKey() {
+        AtomicInteger executions = new AtomicInteger();
+
+        service.execute("scope", null, "request", CreateBookAuthorDocument.class,
+                () -> document(executions.incrementAndGet()));
+        service.execute("scope", null, "request", CreateBookAuthorDocument.class,
+                () -> document(executions.incrementAndGet()));
+
+        assertEquals(2, executions.get());
+        verifyNoMoreInteractions(repository);
+    }
+
+    private static String hash(String request) {
+        try {
+            return BaseEncoding.base16().lowerCase().encode(MessageDigest.getInstance("SHA-256")
+                    .digest(('"' + request + '"').getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CreateBookAuthorDocument document(long authorId) {
+        return CreateBookAuthorDocument.builder().author(AuthorDto.builder().id(authorId).build()).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
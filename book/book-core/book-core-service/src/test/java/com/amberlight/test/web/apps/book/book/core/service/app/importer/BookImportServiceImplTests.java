@@ -0,0 +1,81 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.importer;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.ImportBooksCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookImportRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.cache.DocumentCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class BookImportServiceImplTests {
+
+    private final BookImportServiceImpl bookImportService = new BookImportServiceImpl(
+            mock(BookImportRepository.class), mock(GenreTypeRegistry.class), mock(DocumentCache.class),
+            new ObjectMapper(), 5000, 1, 1, Duration.ofHours(1));
+
+    private final CountDownLatch importsReleased = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        importsReleased.countDown();
+        bookImportService.destroy();
+    }
+
+    @Test
+    void testStartImport_fullQueueIsRefused() throws Exception {
+        CountDownLatch firstImportStarted = new CountDownLatch(1);
+        BiConsumer<String, BookDto> blockingValidator = (name, book) -> {
+            firstImportStarted.countDown();
+            awaitRelease();
+        };
+        bookImportService.startImport(csvCommand(), upload(), blockingValidator);
+        firstImportStarted.await();
+        bookImportService.startImport(csvCommand(), upload(), blockingValidator);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> bookImportService.startImport(csvCommand(), upload(), blockingValidator));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatus());
+    }
+
+    @Test
+    void testFindJob_unknownId() {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> bookImportService.findJob("4f0bd1e2-6a55-4a8b-9b0c-0d5d2e8e9d11"));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+
+    private void awaitRelease() {
+        try {
+            importsReleased.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ImportBooksCommand csvCommand() {
+        return ImportBooksCommand.builder().format("csv").build();
+    }
+
+    private static InputStream upload() {
+        return new ByteArrayInputStream(("name,description,genre_id,price,published,authors\n" +
+                "Book,Description,1,10,2020-01-02T10:00:00,A B\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.importer;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvBookRowReaderTests {
+
+    private static final String HEADER = "name,description,genre_id,price,published,authors\n";
+
+    @Test
+    void testNext_quotedFields() throws IOException {
+        CsvBookRowReader reader = reader(HEADER +
+                "\"Book, \"\"one\"\"\",\"first\nsecond\",3,10.50,2020-01-02T10:00:00,John Ronald Tolkien; Orwell\n");
+
+        BookDto book = reader.next();
+
+        assertEquals(2, reader.getLine());
+        assertEquals("Book, \"one\"", book.getName());
+        assertEquals("first\nsecond", book.getDescription());
+        assertEquals(3L, book.getGenre().getId());
+        assertEquals(new BigDecimal("10.50"), book.getPrice());
+        assertEquals(LocalDateTime.of(2020, 1, 2, 10, 0), book.getPublished());
+        Iterator<AuthorDto> authors = book.getAuthors().iterator();
+        AuthorDto author = authors.next();
+        assertEquals("John Ronald", author.getFirstName());
+        assertEquals("Tolkien", author.getLastName());
+        author = authors.next();
+        assertEquals("", author.getFirstName());
+        assertEquals("Orwell", author.getLastName());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_invalidRowIsSkipped() throws IOException {
+        CsvBookRowReader reader = reader(HEADER +
+                "Book,Description,x,10,2020-01-02T10:00:00,A B\n" +
+                "Book,Description,1,10,2020-01-02T10:00:00,A B\r\n");
+
+        assertThrows(IllegalStateException.class, reader::next);
+        assertEquals(2, reader.getLine());
+        assertEquals(1L, reader.next().getGenre().getId());
+        assertEquals(3, reader.getLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_rowTooLong() throws IOException {
+        CsvBookRowReader reader = new CsvBookRowReader(new BufferedReader(new StringReader(HEADER +
+                "Book,Description,1,10,2020-01-02T10:00:00,A B C D E F G H I J K L M N O P Q R S T U V W X Y Z\n" +
+                "Book,Description,1,10,2020-01-02T10:00:00,A B\n")), 60);
+
+        assertThrows(IllegalStateException.class, reader::next);
+        assertEquals("B", reader.next().getAuthors().iterator().next().getLastName());
+        assertEquals(3, reader.getLine());
+    }
+
+    @Test
+    void testNext_wrongHeader() {
+        CsvBookRowReader reader = reader("name,price\n");
+
+        assertThrows(IllegalStateException.class, reader::next);
+    }
+
+    private static CsvBookRowReader reader(String csv) {
+        return new CsvBookRowReader(new BufferedReader(new StringReader(csv)), 1024);
+    }
+
+}
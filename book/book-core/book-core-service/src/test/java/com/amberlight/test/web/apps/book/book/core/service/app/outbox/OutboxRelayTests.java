@@ -0,0 +1,120 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.outbox;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.event.OutboxEventDto;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTests {
+
+    private static final int BATCH_SIZE = 3;
+
+    private OutboxEventRepository outboxEventRepository;
+
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, kafkaTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                "changes", BATCH_SIZE, Duration.ofSeconds(1));
+        when(outboxEventRepository.findOldestEventAge()).thenReturn(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void testRelay_drainsFullBatches() {
+        when(outboxEventRepository.lockOldestEvents(BATCH_SIZE))
+                .thenReturn(events(1, 3), events(4, 6), events(7, 7));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> sent());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, times(3)).lockOldestEvents(BATCH_SIZE);
+        verify(outboxEventRepository).deleteEvents(List.of(1L, 2L, 3L));
+        verify(outboxEventRepository).deleteEvents(List.of(4L, 5L, 6L));
+        verify(outboxEventRepository).deleteEvents(List.of(7L));
+        assertEquals(7, meterRegistry.get("book.outbox.relayed").counter().count());
+        assertEquals(2, meterRegistry.get("book.outbox.lag").timeGauge().value());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRelay_keyedByAggregate() {
+        when(outboxEventRepository.lockOldestEvents(BATCH_SIZE)).thenReturn(events(1, 1));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> sent());
+
+        outboxRelay.relay();
+
+        ArgumentCaptor<ProducerRecord<String, String>> record = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(record.capture());
+        assertEquals("changes", record.getValue().topic());
+        assertEquals("101", record.getValue().key());
+        assertEquals("{\"id\":101}", record.getValue().value());
+        assertEquals(OutboxEventDto.AGGREGATE_BOOK, new String(
+                record.getValue().headers().lastHeader(OutboxRelay.AGGREGATE_TYPE_HEADER).value()));
+    }
+
+    @Test
+    void testRelay_failedSendKeepsEvents() {
+        when(outboxEventRepository.lockOldestEvents(anyInt())).thenReturn(events(1, 2));
+        SettableListenableFuture<SendResult<String, String>> failed = new SettableListenableFuture<>();
+        failed.setException(new IllegalStateException("broker is down"));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent(), failed);
+
+        assertThrows(IllegalStateException.class, () -> outboxRelay.relay());
+
+        verify(outboxEventRepository, never()).deleteEvents(anyCollection());
+        assertEquals(0, meterRegistry.get("book.outbox.relayed").counter().count());
+    }
+
+    private static List<OutboxEventDto> events(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> OutboxEventDto.builder()
+                        .id(id)
+                        .aggregateType(OutboxEventDto.AGGREGATE_BOOK)
+                        .aggregateId(100 + id)
+                        .eventType(OutboxEventDto.EVENT_CREATED)
+                        .payload("{\"id\":" + (100 + id) + "}")
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static SettableListenableFuture<SendResult<String, String>> sent() {
+        SettableListenableFuture<SendResult<String, String>> future = new SettableListenableFuture<>();
+        future.set(null);
+        return future;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LimitedJsonParserTests {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        PayloadLimitProperties limits = new PayloadLimitProperties();
+        limits.setMaxDepth(6);
+        limits.setMaxCollectionSize(3);
+        limits.setCollectionSizes(Map.of("books", 5));
+        limits.setRejectedFields(List.of("genre.books", "authors.books"));
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(new LimitedJsonFactory(limits)).build();
+    }
+
+    @Test
+    void testRead_withinLimits() throws Exception {
+        CreateBooksCommand command = objectMapper.readValue(command(5, 3), CreateBooksCommand.class);
+
+        assertEquals(5, command.getBooks().size());
+        assertEquals(3, command.getBooks().get(0).getAuthors().size());
+    }
+
+    @Test
+    void testRead_tooManyElements() {
+        JsonProcessingException books = assertThrows(JsonProcessingException.class,
+                () -> objectMapper.readValue(command(6, 1), CreateBooksCommand.class));
+        assertTrue(books.getMessage().contains("books"));
+
+        JsonProcessingException authors = assertThrows(JsonProcessingException.class,
+                () -> objectMapper.readValue(command(1, 4), CreateBooksCommand.class));
+        assertTrue(authors.getMessage().contains("authors"));
+    }
+
+    @Test
+    void testRead_rejectedField() {
+        String genreBooks = "{\"books\":[{\"name\":\"n\",\"genre\":{\"id\":1,\"books\":[]}}]}";
+        String authorBooks = "{\"books\":[{\"name\":\"n\",\"authors\":[{\"id\":1,\"books\":[]}]}]}";
+
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readValue(genreBooks, CreateBooksCommand.class));
+        assertThrows(JsonProcessingException.class,
+                () -> objectMapper.readValue(authorBooks, CreateBooksCommand.class));
+    }
+
+    @Test
+    void testRead_unknownFieldIsSkippedWithinLimits() {
+        String tooDeep = "{\"unknown\":[[[[[[1]]]]]],\"books\":[]}";
+        String tooLong = "{\"unknown\":[1,2,3,4],\"books\":[]}";
+
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readValue(tooDeep, CreateBooksCommand.class));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readValue(tooLong, CreateBooksCommand.class));
+    }
+
+    @Test
+    void testReadTree_tooDeep() {
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readValue("[[[[[[[]]]]]]]", JsonNode.class));
+    }
+
+    private static String command(int books, int authors) {
+        String authorsJson = IntStream.rangeClosed(1, authors)
+                .mapToObj(id -> "{\"id\":" + id + "}")
+                .collect(Collectors.joining(","));
+        String book = "{\"name\":\"Name\",\"description\":\"Description\",\"price\":10.5," +
+                "\"published\":\"2022-02-01T00:00:00\",\"genre\":{\"id\":1},\"authors\":[" + authorsJson + "]}";
+        return IntStream.range(0, books).mapToObj(i -> book)
+                .collect(Collectors.joining(",", "{\"books\":[", "]}"));
+    }
+
+}
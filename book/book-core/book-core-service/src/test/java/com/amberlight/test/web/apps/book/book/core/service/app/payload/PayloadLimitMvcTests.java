@@ -0,0 +1,112 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBooksCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.Filter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statuses of the request bodies breaking the limits, read by the limited parser through the size filter.
+ */
+class PayloadLimitMvcTests {
+
+    private PayloadLimitProperties limits;
+
+    @BeforeEach
+    void setUp() {
+        limits = new PayloadLimitProperties();
+        limits.setMaxBodySize(DataSize.ofKilobytes(1));
+        limits.setCollectionSizes(Map.of("books", 100));
+    }
+
+    @Test
+    void testPost_declaredLengthOverLimit() throws Exception {
+        mockMvc(false).perform(post("/api/book/create-many")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(command(50)))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void testPost_chunkedBodyOverLimit() throws Exception {
+        // the limit is passed inside the books array, so Jackson wraps the read failure into a mapping exception
+        mockMvc(true).perform(post("/api/book/create-many")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(command(50)))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void testPost_chunkedBodyWithinLimit() throws Exception {
+        mockMvc(true).perform(post("/api/book/create-many")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(command(2)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPost_tooManyElements() throws Exception {
+        limits.setCollectionSizes(Map.of("books", 1));
+
+        mockMvc(true).perform(post("/api/book/create-many")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(command(2)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockMvc mockMvc(boolean chunked) {
+        Filter undeclaredLength = (request, response, chain) -> chain.doFilter(
+                new HttpServletRequestWrapper((HttpServletRequest) request) {
+                    @Override
+                    public int getContentLength() {
+                        return -1;
+                    }
+
+                    @Override
+                    public long getContentLengthLong() {
+                        return -1;
+                    }
+                }, response);
+        PayloadSizeFilter payloadSizeFilter = new PayloadSizeFilter(limits);
+        return MockMvcBuilders.standaloneSetup(new BookController())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(
+                        Jackson2ObjectMapperBuilder.json().factory(new LimitedJsonFactory(limits)).build()))
+                .addFilters(chunked ? new Filter[]{undeclaredLength, payloadSizeFilter}
+                        : new Filter[]{payloadSizeFilter})
+                .build();
+    }
+
+    private static String command(int books) {
+        return IntStream.range(0, books)
+                .mapToObj(i -> "{\"name\":\"Book " + i + "\",\"description\":\"Description of the book " + i + "\"}")
+                .collect(Collectors.joining(",", "{\"books\":[", "]}"));
+    }
+
+    @RestController
+    static class BookController {
+
+        @PostMapping("/api/book/create-many")
+        public void createBooks(@RequestBody CreateBooksCommand command) {
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.payload;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PayloadSizeFilterTests {
+
+    private final PayloadSizeFilter filter = new PayloadSizeFilter(limits());
+
+    @Test
+    void testFilter_declaredLengthOverLimit() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/book/create");
+        request.setContent(new byte[11]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void testFilter_undeclaredLengthOverLimit() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/book/create") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContent(new byte[11]);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest limited = (HttpServletRequest) chain.getRequest();
+        assertThrows(PayloadTooLargeException.class, () -> StreamUtils.copyToByteArray(limited.getInputStream()));
+    }
+
+    @Test
+    void testFilter_unlimitedPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/book/unlimited");
+        request.setContent(new byte[11]);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals(11, StreamUtils.copyToByteArray(chain.getRequest().getInputStream()).length);
+    }
+
+    @Test
+    void testFilter_pathLimit() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/book/import");
+        request.setContent(new byte[20]);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals(20, StreamUtils.copyToByteArray(chain.getRequest().getInputStream()).length);
+
+        request = new MockHttpServletRequest("POST", "/api/book/import");
+        request.setContent(new byte[21]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    private static PayloadLimitProperties limits() {
+        PayloadLimitProperties limits = new PayloadLimitProperties();
+        limits.setMaxBodySize(DataSize.ofBytes(10));
+        limits.setMaxBodySizes(Map.of("/api/book/import", DataSize.ofBytes(20)));
+        limits.setUnlimitedPaths(List.of("/api/book/unlimited"));
+        return limits;
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.BookCoreJpaTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.BenchmarkTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.JdbcMetrics;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.Measurement;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Latency of creating a book as its author gets more books: the former load and re-save of the books of the
+ * author against the direct {@code author_book} insert.
+ */
+@BenchmarkTest
+@BookCoreJpaTest({
+        "book-core.test.database=author-link-benchmark",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50"
+})
+class AuthorLinkBenchmarkTests {
+
+    private static final int[] AUTHOR_BOOKS = {0, 100, 1_000, 10_000};
+
+    @Autowired
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Genre genre;
+
+    @Test
+    void benchmarkCreateBook() {
+        genre = new Genre();
+        genre.setName("Genre");
+        genre = genreRepository.save(genre);
+        genreTypeRegistry.reload();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<Measurement> measurements = new ArrayList<>();
+        for (int authorBooks : AUTHOR_BOOKS) {
+            Long authorId = seed(authorBooks);
+            BookDto bookDto = BookDto.builder()
+                    .name("Name")
+                    .description("Description")
+                    .published(LocalDateTime.of(2022, 2, 1, 0, 0))
+                    .price(new BigDecimal("10.50"))
+                    .genre(GenreDto.builder().id(genre.getId()).build())
+                    .authors(Set.of(AuthorDto.builder().id(authorId).build()))
+                    .build();
+            measurements.add(Measurement.ofLatency(String.format("load and re-save, %d books", authorBooks), 1, 5,
+                    () -> transaction.executeWithoutResult(status -> {
+                        List<Author> authors = entityManager.createQuery("SELECT DISTINCT author " +
+                                "FROM Author author LEFT JOIN FETCH author.books WHERE author.id in :ids", Author.class)
+                                .setParameter("ids", List.of(authorId)).getResultList();
+                        Book book = newBook();
+                        entityManager.persist(book);
+                        authors.forEach(author -> author.getBooks().add(book));
+                        entityManager.flush();
+                    })));
+            measurements.add(Measurement.ofLatency(String.format("direct link, %d books", authorBooks), 300, 300,
+                    () -> bookService.createBook(bookDto)));
+        }
+        Measurement.print("Book creation by the number of books of its author", measurements);
+    }
+
+    private Long seed(int authorBooks) {
+        Author author = new Author();
+        author.setFirstName("First");
+        author.setLastName("Last");
+        author = bookAuthorRepository.save(author);
+        List<Book> books = new ArrayList<>(authorBooks);
+        for (int i = 0; i < authorBooks; i++) {
+            books.add(newBook());
+        }
+        bookRepository.saveAll(books);
+        Map<Long, List<Long>> links = new HashMap<>();
+        for (Book book : books) {
+            links.put(book.getId(), List.of(author.getId()));
+        }
+        bookAuthorRepository.insertLinks(links);
+        return author.getId();
+    }
+
+    private Book newBook() {
+        Book book = new Book();
+        book.setName("Book");
+        book.setDescription("Description");
+        book.setGenre(genre);
+        book.setPrice(new BigDecimal("10.50"));
+        book.setPublished(LocalDateTime.of(2020, 1, 1, 0, 0));
+        return book;
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.repository")
+    @Import({GenreTypeRegistry.class, JdbcMetrics.class, BookServiceImpl.class})
+    static class TestConfig {
+    }
+
+}
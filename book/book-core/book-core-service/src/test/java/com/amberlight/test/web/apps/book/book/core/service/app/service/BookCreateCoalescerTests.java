@@ -0,0 +1,145 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.service.app.datasource.DataSourceRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookCreateCoalescerTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BookService bookService = mock(BookService.class);
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    private BookCreateCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        coalescer.destroy();
+    }
+
+    @Test
+    void testCreateBook_concurrentBooksShareCommits() throws Exception {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(bookService.createBooks(anyList())).thenAnswer(invocation -> {
+            List<BookDto> bookDtos = invocation.getArgument(0);
+            batchSizes.add(bookDtos.size());
+            return bookDtos.stream().map(BookCreateCoalescerTests::book).collect(Collectors.toList());
+        });
+        coalescer = new BookCreateCoalescer(bookService, meterRegistry, 8, Duration.ofMillis(200), 100, 1);
+
+        List<CompletableFuture<Book>> results = createConcurrently(8, i -> bookDto("book " + i));
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("book " + i, results.get(i).get().getName());
+        }
+        assertEquals(8, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.size() < 8);
+        assertEquals(batchSizes.size(), meterRegistry.get("book.create.batch.size").summary().count());
+        assertEquals(8, meterRegistry.get("book.create.batch.wait").timer().count());
+    }
+
+    @Test
+    void testCreateBook_failingBookIsIsolated() throws Exception {
+        when(bookService.createBooks(anyList())).thenAnswer(invocation -> {
+            List<BookDto> bookDtos = invocation.getArgument(0);
+            if (bookDtos.stream().anyMatch(bookDto -> bookDto.getName().equals("invalid"))) {
+                throw new IllegalStateException("No genre was found by id 1");
+            }
+            return bookDtos.stream().map(BookCreateCoalescerTests::book).collect(Collectors.toList());
+        });
+        when(bookService.createBook(any())).thenAnswer(invocation -> {
+            BookDto bookDto = invocation.getArgument(0);
+            if (bookDto.getName().equals("invalid")) {
+                throw new IllegalStateException("No genre was found by id 1");
+            }
+            return book(bookDto);
+        });
+        coalescer = new BookCreateCoalescer(bookService, meterRegistry, 4, Duration.ofMillis(200), 100, 1);
+
+        List<CompletableFuture<Book>> results = createConcurrently(4,
+                i -> bookDto(i == 2 ? "invalid" : "book " + i));
+
+        for (int i = 0; i < results.size(); i++) {
+            if (i == 2) {
+                CompletableFuture<Book> result = results.get(i);
+                Exception e = assertThrows(Exception.class, result::get);
+                assertEquals("No genre was found by id 1", e.getCause().getMessage());
+            } else {
+                assertEquals("book " + i, results.get(i).get().getName());
+            }
+        }
+    }
+
+    @Test
+    void testCreateBook_commitTimeIsHandedToCaller() throws Exception {
+        when(bookService.createBooks(anyList())).thenAnswer(invocation -> {
+            // as the after commit hook of the routing data source does on the worker thread
+            DataSourceRouting.writeCommitted(1234L);
+            List<BookDto> bookDtos = invocation.getArgument(0);
+            return bookDtos.stream().map(BookCreateCoalescerTests::book).collect(Collectors.toList());
+        });
+        coalescer = new BookCreateCoalescer(bookService, meterRegistry, 8, Duration.ofMillis(5), 100, 1);
+        List<Long> commitTimes = Collections.synchronizedList(new ArrayList<>());
+
+        Book book = CompletableFuture.supplyAsync(() -> DataSourceRouting.recordWrites(
+                () -> coalescer.createBook(bookDto("book")), commitTimes::add), callers).get();
+
+        assertEquals("book", book.getName());
+        assertEquals(List.of(1234L), commitTimes);
+    }
+
+    private List<CompletableFuture<Book>> createConcurrently(int count,
+                                                             IntFunction<BookDto> bookDtos) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Book>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BookDto bookDto = bookDtos.apply(i);
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return coalescer.createBook(bookDto);
+            }, callers));
+        }
+        start.countDown();
+        return results;
+    }
+
+    private static BookDto bookDto(String name) {
+        return BookDto.builder().name(name).build();
+    }
+
+    private static Book book(BookDto bookDto) {
+        Book book = new Book();
+        book.setName(bookDto.getName());
+        return book;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.BookCoreJpaTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.BenchmarkTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.JdbcMetrics;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.Measurement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Books and commits per second of concurrent book creations, each in its own transaction against the
+ * {@link BookCreateCoalescer} group commit. The in-memory database commits for free, so the runs are repeated
+ * with a commit delay standing for the fsync of a durable commit.
+ */
+@BenchmarkTest
+@BookCoreJpaTest({
+        "book-core.test.database=group-commit-benchmark",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.datasource.hikari.maximum-pool-size=10"
+})
+class GroupCommitBenchmarkTests {
+
+    private static final int CALLERS = 32;
+
+    private static final int AUTHORS = 100;
+
+    private static final Duration RUN = Duration.ofSeconds(5);
+
+    @Autowired
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @AfterEach
+    void tearDown() {
+        JdbcMetrics.setCommitDelay(0, TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    void benchmarkGroupCommit() throws Exception {
+        Genre genre = new Genre();
+        genre.setName("Genre");
+        Long genreId = genreRepository.save(genre).getId();
+        genreTypeRegistry.reload();
+        List<Long> authorIds = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            Author author = new Author();
+            author.setFirstName("First " + i);
+            author.setLastName("Last " + i);
+            authorIds.add(bookAuthorRepository.save(author).getId());
+        }
+        Runnable perRequest = () -> bookService.createBook(bookDto(genreId, authorIds));
+        BookCreateCoalescer coalescer = new BookCreateCoalescer(bookService, new SimpleMeterRegistry(),
+                100, Duration.ofMillis(5), 10_000, 2);
+        Runnable groupCommit = () -> coalescer.createBook(bookDto(genreId, authorIds));
+
+        List<Measurement> measurements = new ArrayList<>();
+        try {
+            for (long commitDelayMicros : new long[]{0, 1_000}) {
+                JdbcMetrics.setCommitDelay(commitDelayMicros, TimeUnit.MICROSECONDS);
+                Function<String, String> name = path -> String.format("%s, %d us commit", path, commitDelayMicros);
+                measurements.add(Measurement.ofThroughput(name.apply("per request"), CALLERS, RUN, perRequest));
+                measurements.add(Measurement.ofThroughput(name.apply("group commit"), CALLERS, RUN, groupCommit));
+            }
+        } finally {
+            coalescer.destroy();
+        }
+        Measurement.print(String.format("createBook from %d threads, ops/s are books/s", CALLERS), measurements);
+    }
+
+    private static BookDto bookDto(Long genreId, List<Long> authorIds) {
+        return BookDto.builder()
+                .name("Name")
+                .description("Description")
+                .published(LocalDateTime.of(2022, 2, 1, 0, 0))
+                .price(new BigDecimal("10.50"))
+                .genre(GenreDto.builder().id(genreId).build())
+                .authors(Set.of(AuthorDto.builder()
+                        .id(authorIds.get(ThreadLocalRandom.current().nextInt(authorIds.size()))).build()))
+                .build();
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.repository")
+    @Import({GenreTypeRegistry.class, JdbcMetrics.class, BookServiceImpl.class})
+    static class TestConfig {
+    }
+
+}
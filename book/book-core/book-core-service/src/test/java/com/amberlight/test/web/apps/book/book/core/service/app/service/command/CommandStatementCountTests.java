@@ -0,0 +1,167 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.command;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookAuthorCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.command.CreateBookCommand;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookAuthorDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.document.CreateBookDocument;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.author.AuthorToAuthorDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.book.BookToBookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.BookCoreJpaTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.config.Config;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorServiceImpl;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Guards the number of SQL statements sent per command, the command documents are built
+ * from the persisted entities without reading them back. Id sequence calls are not counted,
+ * the pooled id generation makes them occasional.
+ */
+@BookCoreJpaTest("book-core.test.database=commands")
+class CommandStatementCountTests {
+
+    private static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+    @MockBean
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookCommandService bookCommandService;
+
+    @Autowired
+    private BookAuthorCommandService bookAuthorCommandService;
+
+    @Autowired
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    private Long genreId;
+
+    @BeforeEach
+    void setUp() {
+        Genre genre = new Genre();
+        genre.setName("Genre");
+        genreId = genreRepository.save(genre).getId();
+        when(genreTypeRegistry.getGenre(anyLong()))
+                .thenAnswer(invocation -> GenreDto.builder().id(invocation.getArgument(0)).name("Genre").build());
+    }
+
+    @Test
+    void testCreateBook_noReadBack() {
+        Long firstAuthorId = bookAuthorRepository.save(newAuthor("First")).getId();
+        Long secondAuthorId = bookAuthorRepository.save(newAuthor("Second")).getId();
+        BookDto book = BookDto.builder()
+                .name("Name")
+                .description("Description")
+                .published(LocalDateTime.of(2022, 2, 1, 0, 0))
+                .price(new BigDecimal("10.5"))
+                .genre(GenreDto.builder().id(genreId).build())
+                .authors(Set.of(AuthorDto.builder().id(firstAuthorId).build(),
+                        AuthorDto.builder().id(secondAuthorId).build()))
+                .build();
+
+        STATEMENTS.set(0);
+        CreateBookDocument document = bookCommandService.process(CreateBookCommand.builder().book(book).build());
+
+        // book insert, authors select, author_book insert
+        assertEquals(3, STATEMENTS.get());
+        assertNotNull(document.getBook().getId());
+        assertEquals("Name", document.getBook().getName());
+        assertEquals(genreId, document.getBook().getGenre().getId());
+        assertEquals(2, document.getBook().getAuthors().size());
+    }
+
+    @Test
+    void testCreateAuthor_noReadBack() {
+        AuthorDto author = AuthorDto.builder().firstName("First").lastName("Last").build();
+
+        STATEMENTS.set(0);
+        CreateBookAuthorDocument document = bookAuthorCommandService.process(
+                CreateBookAuthorCommand.builder().author(author).build());
+
+        // author insert
+        assertEquals(1, STATEMENTS.get());
+        assertNotNull(document.getAuthor().getId());
+        assertEquals("First", document.getAuthor().getFirstName());
+        assertTrue(document.getAuthor().getBooks().isEmpty());
+    }
+
+    private static Author newAuthor(String firstName) {
+        Author author = new Author();
+        author.setFirstName(firstName);
+        author.setLastName("Last");
+        return author;
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.repository")
+    @Import({Config.class, BookToBookDto.class, AuthorToAuthorDto.class,
+            BookServiceImpl.class, BookAuthorServiceImpl.class,
+            BookCommandServiceImpl.class, BookAuthorCommandServiceImpl.class})
+    static class TestConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? countingProxy(DataSource.class, bean) : bean;
+                }
+            };
+        }
+
+        private static <T> T countingProxy(Class<T> type, Object target) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (type == Connection.class && method.getName().equals("prepareStatement")
+                                && !((String) args[0]).contains("next value for")) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        return result instanceof Connection ? countingProxy(Connection.class, result) : result;
+                    }));
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.ExportBooksQuery;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookExportDto;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookExportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookExportQueryServiceImplTests {
+
+    @Test
+    void testProcess_opensCursorInReadOnlyTransaction() throws Exception {
+        BookExportRepository bookExportRepository = mock(BookExportRepository.class);
+        AtomicBoolean readOnly = new AtomicBoolean();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookExportRepository.openBooks(5L)).thenAnswer(invocation -> {
+            readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return Stream.of(BookExportDto.builder().id(6L).authorIds(List.of()).build())
+                    .onClose(() -> closed.set(true));
+        });
+        BookExportQueryService service = new BookExportQueryServiceImpl(bookExportRepository, new ObjectMapper(),
+                new DataSourceTransactionManager(new DriverManagerDataSource("jdbc:h2:mem:book-export-query")));
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        service.process(ExportBooksQuery.builder().afterId(5L).build()).writeTo(body);
+
+        assertTrue(readOnly.get());
+        assertFalse(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        assertTrue(closed.get());
+        String exported = new String(new GZIPInputStream(new ByteArrayInputStream(body.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        assertEquals("{\"id\":6,\"authorIds\":[]}\n", exported);
+    }
+
+}
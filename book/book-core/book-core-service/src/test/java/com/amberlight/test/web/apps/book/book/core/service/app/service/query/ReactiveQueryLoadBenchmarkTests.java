@@ -0,0 +1,186 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.query;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.api.query.FindBookQuery;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookReadModelRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.ReactiveBookReadModelRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.BenchmarkTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.JdbcMetrics;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.Measurement;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.read.BookReadService;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.read.ProjectionBookReadServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Find-one throughput with a fixed small number of threads: the blocking JDBC read path, one request per thread
+ * as on the servlet threads, against the R2DBC read path with many requests in flight on the same number of
+ * event loop threads. Both pools hold 10 connections.
+ * <p>
+ * R2DBC has no in-memory driver here, so the benchmark needs a scratch PostgreSQL database, whose schema it
+ * creates and drops: {@code BOOK_BENCHMARK_POSTGRES_URL=jdbc:postgresql://localhost:5432/book_benchmark} and
+ * {@code BOOK_BENCHMARK_R2DBC_URL=r2dbc:pool:postgresql://localhost:5432/book_benchmark?maxSize=10}, with
+ * {@code BOOK_BENCHMARK_POSTGRES_USERNAME}/{@code BOOK_BENCHMARK_POSTGRES_PASSWORD}.
+ */
+@BenchmarkTest
+@EnabledIfEnvironmentVariable(named = "BOOK_BENCHMARK_POSTGRES_URL", matches = ".+")
+@EnabledIfEnvironmentVariable(named = "BOOK_BENCHMARK_R2DBC_URL", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=${BOOK_BENCHMARK_POSTGRES_URL}",
+        "spring.datasource.username=${BOOK_BENCHMARK_POSTGRES_USERNAME:postgres}",
+        "spring.datasource.password=${BOOK_BENCHMARK_POSTGRES_PASSWORD:postgres}",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "book-core.r2dbc.url=${BOOK_BENCHMARK_R2DBC_URL}"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReactiveQueryLoadBenchmarkTests {
+
+    private static final int THREADS = 4;
+
+    private static final int IN_FLIGHT = 256;
+
+    private static final int BOOKS = 10_000;
+
+    private static final Duration RUN = Duration.ofSeconds(10);
+
+    static {
+        // the event loops of the R2DBC driver, read when reactor-netty starts
+        System.setProperty("reactor.netty.ioWorkerCount", String.valueOf(THREADS));
+    }
+
+    @Autowired
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookReadModelRepository bookReadModelRepository;
+
+    @Autowired
+    private ReactiveBookReadModelRepository reactiveBookReadModelRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Test
+    void benchmarkFindBook() throws Exception {
+        List<Long> bookIds = seed();
+        genreTypeRegistry.reload();
+        BookReadService blocking = new ProjectionBookReadServiceImpl(bookReadModelRepository);
+        ReactiveBookQueryService reactive = new ReactiveBookQueryServiceImpl(reactiveBookReadModelRepository);
+
+        List<Measurement> measurements = new ArrayList<>();
+        measurements.add(Measurement.ofThroughput(String.format("blocking JDBC, %d threads", THREADS), THREADS, RUN,
+                () -> blocking.findBook(randomId(bookIds))));
+        measurements.add(reactiveThroughput(String.format("R2DBC, %d loops, %d in flight", THREADS, IN_FLIGHT),
+                () -> reactive.process(FindBookQuery.builder().id(randomId(bookIds)).build())));
+        Measurement.print(String.format("Find-one throughput on %d threads", THREADS), measurements);
+    }
+
+    private static Measurement reactiveThroughput(String name, Supplier<Mono<?>> operation) {
+        run(operation);
+        JdbcMetrics.reset();
+        long started = System.nanoTime();
+        long[] nanos = run(operation);
+        return Measurement.ofRun(name, nanos, System.nanoTime() - started);
+    }
+
+    private static long[] run(Supplier<Mono<?>> operation) {
+        long deadline = System.nanoTime() + RUN.toNanos();
+        List<Long> nanos = Flux.<Long>generate(sink -> {
+                    if (System.nanoTime() < deadline) {
+                        sink.next(0L);
+                    } else {
+                        sink.complete();
+                    }
+                })
+                .flatMap(ignored -> {
+                    long started = System.nanoTime();
+                    return operation.get().then(Mono.fromSupplier(() -> System.nanoTime() - started));
+                }, IN_FLIGHT)
+                .collectList()
+                .block();
+        return nanos.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static Long randomId(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private List<Long> seed() {
+        Genre genre = new Genre();
+        genre.setName("Genre");
+        genre = genreRepository.save(genre);
+        List<Author> authors = new ArrayList<>();
+        for (int i = 0; i < BOOKS / 10; i++) {
+            Author author = new Author();
+            author.setFirstName("First " + i);
+            author.setLastName("Last " + i);
+            authors.add(author);
+        }
+        bookAuthorRepository.saveAll(authors);
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book();
+            book.setName("Book " + i);
+            book.setDescription("Description of the book " + i);
+            book.setGenre(genre);
+            book.setPrice(new BigDecimal("10.50"));
+            book.setPublished(LocalDateTime.of(2000, 1, 1, 0, 0).plusHours(i));
+            books.add(book);
+        }
+        bookRepository.saveAll(books);
+        Map<Long, List<Long>> links = new HashMap<>();
+        for (int i = 0; i < books.size(); i++) {
+            links.put(books.get(i).getId(), List.of(authors.get(i % authors.size()).getId(),
+                    authors.get((i + 1) % authors.size()).getId()));
+        }
+        bookAuthorRepository.insertLinks(links);
+        List<Long> bookIds = new ArrayList<>(BOOKS);
+        books.forEach(book -> bookIds.add(book.getId()));
+        return bookIds;
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.repository")
+    @Import({GenreTypeRegistry.class, JdbcMetrics.class, BookReadModelRepository.class,
+            ReactiveBookReadModelRepository.class})
+    static class TestConfig {
+    }
+
+}
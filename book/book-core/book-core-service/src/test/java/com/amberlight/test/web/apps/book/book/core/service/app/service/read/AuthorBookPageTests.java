@@ -0,0 +1,174 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.read;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.BookDto;
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.book.GenreDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.author.AuthorToAuthorDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.book.BookToBookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookReadModelRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookSearchCriteria;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.BookCoreJpaTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.config.Config;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorServiceImpl;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.amberlight.test.web.apps.book.book.core.service.app.service.read.BookReadService.AUTHOR_BOOKS_LIMIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Author documents carry the first {@link BookReadService#AUTHOR_BOOKS_LIMIT} books by (published, id) on both
+ * read paths, the rest of the books is paged by the author search.
+ */
+@BookCoreJpaTest("book-core.test.database=author-books")
+class AuthorBookPageTests {
+
+    private static final int BOOKS = AUTHOR_BOOKS_LIMIT + 20;
+
+    @MockBean
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookReadService bookReadService;
+
+    @Autowired
+    private BookReadModelRepository bookReadModelRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    private static Long prolificAuthorId;
+
+    private static Long authorId;
+
+    private static List<Long> bookIds;
+
+    @BeforeEach
+    void setUp() {
+        when(genreTypeRegistry.getGenre(anyLong()))
+                .thenAnswer(invocation -> GenreDto.builder().id(invocation.getArgument(0)).name("Genre").build());
+        if (prolificAuthorId != null) {
+            return;
+        }
+        Genre genre = new Genre();
+        genre.setName("Genre");
+        genre = genreRepository.save(genre);
+        Author prolificAuthor = bookAuthorRepository.save(newAuthor("Prolific"));
+        Author author = bookAuthorRepository.save(newAuthor("Other"));
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book();
+            book.setName("Book " + i);
+            book.setDescription("Description");
+            book.setGenre(genre);
+            book.setPrice(BigDecimal.TEN);
+            // saved in reverse order of publication, the page must follow (published, id)
+            book.setPublished(LocalDateTime.of(2022, 1, 1, 0, 0).plusDays(BOOKS - i));
+            books.add(book);
+        }
+        bookRepository.saveAll(books);
+        Map<Long, List<Long>> links = new HashMap<>();
+        books.forEach(book -> links.put(book.getId(), List.of(prolificAuthor.getId())));
+        links.put(books.get(0).getId(), List.of(prolificAuthor.getId(), author.getId()));
+        bookAuthorRepository.insertLinks(links);
+        prolificAuthorId = prolificAuthor.getId();
+        authorId = author.getId();
+        bookIds = books.stream().sorted(Comparator.comparing(Book::getPublished))
+                .map(Book::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void testFindAuthors_firstPage() {
+        List<AuthorDto> authors = bookReadService.findAuthors(List.of(prolificAuthorId, authorId));
+
+        assertFirstPage(authors.get(0));
+        assertEquals(1, authors.get(1).getBooks().size());
+        assertNull(authors.get(1).getHasMoreBooks());
+        assertFirstPage(bookReadService.findAuthor(prolificAuthorId));
+    }
+
+    @Test
+    void testProjectionFindAuthors_firstPage() {
+        List<AuthorDto> authors = bookReadModelRepository.findAuthors(List.of(prolificAuthorId, authorId),
+                AUTHOR_BOOKS_LIMIT);
+
+        AuthorDto prolificAuthor = authors.stream()
+                .filter(author -> author.getId().equals(prolificAuthorId)).findFirst().orElseThrow();
+        AuthorDto author = authors.stream()
+                .filter(other -> other.getId().equals(authorId)).findFirst().orElseThrow();
+        assertFirstPage(prolificAuthor);
+        assertEquals(1, author.getBooks().size());
+        assertNull(author.getHasMoreBooks());
+    }
+
+    @Test
+    void testSearchByAuthor_continuesFirstPage() {
+        AuthorDto author = bookReadService.findAuthor(prolificAuthorId);
+        BookDto last = new ArrayList<>(author.getBooks()).get(AUTHOR_BOOKS_LIMIT - 1);
+
+        List<Long> rest = bookRepository.findIds(BookSearchCriteria.builder()
+                .authorId(prolificAuthorId)
+                .afterPublished(last.getPublished())
+                .afterId(last.getId())
+                .build(), BOOKS);
+
+        assertEquals(bookIds.subList(AUTHOR_BOOKS_LIMIT, BOOKS), rest);
+    }
+
+    private void assertFirstPage(AuthorDto author) {
+        assertEquals(bookIds.subList(0, AUTHOR_BOOKS_LIMIT),
+                author.getBooks().stream().map(BookDto::getId).collect(Collectors.toList()));
+        assertTrue(author.getHasMoreBooks());
+        author.getBooks().forEach(book -> assertNull(book.getAuthors()));
+    }
+
+    private static Author newAuthor(String firstName) {
+        Author author = new Author();
+        author.setFirstName(firstName);
+        author.setLastName("Last");
+        return author;
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.repository")
+    @Import({Config.class, BookToBookDto.class, AuthorToAuthorDto.class,
+            BookServiceImpl.class, BookAuthorServiceImpl.class, EntityBookReadServiceImpl.class,
+            BookReadModelRepository.class})
+    static class TestConfig {
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.read;
+
+import com.amberlight.test.web.apps.book.book.core.api.struct.dto.author.AuthorDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.author.AuthorToAuthorDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.book.BookToBookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookReadModelRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.BookCoreJpaTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.BenchmarkTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.JdbcMetrics;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.Measurement;
+import com.amberlight.test.web.apps.book.book.core.service.app.config.Config;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorServiceImpl;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookServiceImpl;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.amberlight.test.web.apps.book.book.core.service.app.service.read.BookReadService.AUTHOR_BOOKS_LIMIT;
+
+/**
+ * Rows, latency and heap allocated to read the document of an author with 10k books: the former join fetch
+ * and subselect of all the books against the first page of the books.
+ */
+@BenchmarkTest
+@BookCoreJpaTest("book-core.test.database=author-books-benchmark")
+class AuthorBooksBenchmarkTests {
+
+    private static final int BOOKS = 10_000;
+
+    @Autowired
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookReadService entityReadService;
+
+    @Autowired
+    private BookReadModelRepository bookReadModelRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ConversionService conversionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void benchmarkProlificAuthor() {
+        List<Long> authorIds = List.of(seed());
+        genreTypeRegistry.reload();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Measurement> measurements = new ArrayList<>();
+        measurements.add(Measurement.ofLatency("join fetch, all books", 1, 5,
+                () -> readOnly.execute(status -> entityManager.createQuery("SELECT DISTINCT author " +
+                                "FROM Author author LEFT JOIN FETCH author.books WHERE author.id in :ids", Author.class)
+                        .setParameter("ids", authorIds).getResultList().stream()
+                        .map(author -> conversionService.convert(author, AuthorDto.class))
+                        .collect(Collectors.toList()))));
+        measurements.add(Measurement.ofLatency("subselect, all books", 1, 5,
+                () -> readOnly.execute(status -> bookAuthorRepository.findAllById(authorIds).stream()
+                        .peek(author -> Hibernate.initialize(author.getBooks()))
+                        .map(author -> conversionService.convert(author, AuthorDto.class))
+                        .collect(Collectors.toList()))));
+        measurements.add(Measurement.ofLatency("entity, first " + AUTHOR_BOOKS_LIMIT + " books", 100, 300,
+                () -> entityReadService.findAuthors(authorIds)));
+        measurements.add(Measurement.ofLatency("projection, first " + AUTHOR_BOOKS_LIMIT + " books", 100, 300,
+                () -> bookReadModelRepository.findAuthors(authorIds, AUTHOR_BOOKS_LIMIT)));
+        Measurement.print(String.format("Document of an author with %d books", BOOKS), measurements);
+    }
+
+    private Long seed() {
+        Genre genre = new Genre();
+        genre.setName("Genre");
+        genre = genreRepository.save(genre);
+        Author author = new Author();
+        author.setFirstName("Prolific");
+        author.setLastName("Author");
+        author = bookAuthorRepository.save(author);
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book();
+            book.setName("Book " + i);
+            book.setDescription("Description of the book " + i);
+            book.setGenre(genre);
+            book.setPrice(new BigDecimal("10.50"));
+            book.setPublished(LocalDateTime.of(2000, 1, 1, 0, 0).plusHours(i));
+            books.add(book);
+        }
+        bookRepository.saveAll(books);
+        Map<Long, List<Long>> links = new HashMap<>();
+        for (Book book : books) {
+            links.put(book.getId(), List.of(author.getId()));
+        }
+        bookAuthorRepository.insertLinks(links);
+        return author.getId();
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.repository")
+    @Import({Config.class, BookToBookDto.class, AuthorToAuthorDto.class, GenreTypeRegistry.class, JdbcMetrics.class,
+            BookServiceImpl.class, BookAuthorServiceImpl.class, EntityBookReadServiceImpl.class,
+            BookReadModelRepository.class})
+    static class TestConfig {
+    }
+
+}
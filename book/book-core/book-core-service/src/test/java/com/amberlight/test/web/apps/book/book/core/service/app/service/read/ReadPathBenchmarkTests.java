@@ -0,0 +1,137 @@
+package com.amberlight.test.web.apps.book.book.core.service.app.service.read;
+
+import com.amberlight.test.web.apps.book.book.core.domain.converter.author.AuthorToAuthorDto;
+import com.amberlight.test.web.apps.book.book.core.domain.converter.book.BookToBookDto;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.author.Author;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Book;
+import com.amberlight.test.web.apps.book.book.core.domain.entity.book.Genre;
+import com.amberlight.test.web.apps.book.book.core.domain.registry.GenreTypeRegistry;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookAuthorRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookReadModelRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.BookRepository;
+import com.amberlight.test.web.apps.book.book.core.domain.repository.GenreRepository;
+import com.amberlight.test.web.apps.book.book.core.service.app.BookCoreJpaTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.BenchmarkTest;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.JdbcMetrics;
+import com.amberlight.test.web.apps.book.book.core.service.app.benchmark.Measurement;
+import com.amberlight.test.web.apps.book.book.core.service.app.config.Config;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookAuthorServiceImpl;
+import com.amberlight.test.web.apps.book.book.core.service.app.service.BookServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Latency and allocation per request of the entity read path against the projection read path, for the
+ * find-one and find-many queries.
+ */
+@BenchmarkTest
+@BookCoreJpaTest("book-core.test.database=read-path-benchmark")
+class ReadPathBenchmarkTests {
+
+    private static final int AUTHORS = 100;
+
+    private static final int BOOKS_PER_AUTHOR = 20;
+
+    @Autowired
+    private GenreTypeRegistry genreTypeRegistry;
+
+    @Autowired
+    private BookReadService entityReadService;
+
+    @Autowired
+    private BookReadModelRepository bookReadModelRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Test
+    void benchmarkReadPaths() {
+        List<Long> bookIds = new ArrayList<>();
+        List<Long> authorIds = new ArrayList<>();
+        seed(bookIds, authorIds);
+        genreTypeRegistry.reload();
+        BookReadService projectionReadService = new ProjectionBookReadServiceImpl(bookReadModelRepository);
+        List<Long> manyBookIds = bookIds.subList(0, 100);
+        List<Long> manyAuthorIds = authorIds.subList(0, 20);
+
+        List<Measurement> measurements = new ArrayList<>();
+        int[] next = new int[1];
+        for (Map.Entry<String, BookReadService> readService : Map.of(
+                "entity", entityReadService, "projection", projectionReadService).entrySet()) {
+            BookReadService service = readService.getValue();
+            measurements.add(Measurement.ofLatency("findBook " + readService.getKey(), 2_000, 5_000,
+                    () -> service.findBook(bookIds.get(next[0]++ % bookIds.size()))));
+            measurements.add(Measurement.ofLatency("findAuthor " + readService.getKey(), 2_000, 5_000,
+                    () -> service.findAuthor(authorIds.get(next[0]++ % authorIds.size()))));
+            measurements.add(Measurement.ofLatency("findBooks(100) " + readService.getKey(), 200, 500,
+                    () -> service.findBooks(manyBookIds)));
+            measurements.add(Measurement.ofLatency("findAuthors(20) " + readService.getKey(), 200, 500,
+                    () -> service.findAuthors(manyAuthorIds)));
+        }
+        measurements.sort((first, second) -> first.getName().compareTo(second.getName()));
+        Measurement.print(String.format("Read paths, %d authors with %d books each", AUTHORS, BOOKS_PER_AUTHOR),
+                measurements);
+    }
+
+    private void seed(List<Long> bookIds, List<Long> authorIds) {
+        Genre genre = new Genre();
+        genre.setName("Genre");
+        genre = genreRepository.save(genre);
+        List<Author> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            Author author = new Author();
+            author.setFirstName("First " + i);
+            author.setLastName("Last " + i);
+            authors.add(author);
+        }
+        bookAuthorRepository.saveAll(authors);
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < AUTHORS * BOOKS_PER_AUTHOR; i++) {
+            Book book = new Book();
+            book.setName("Book " + i);
+            book.setDescription("Description of the book " + i);
+            book.setGenre(genre);
+            book.setPrice(new BigDecimal("10.50"));
+            book.setPublished(LocalDateTime.of(2020, 1, 1, 0, 0).plusHours(i));
+            books.add(book);
+        }
+        bookRepository.saveAll(books);
+        // every book has two authors
+        Map<Long, List<Long>> links = new HashMap<>();
+        for (int i = 0; i < books.size(); i++) {
+            links.put(books.get(i).getId(), List.of(authors.get(i % AUTHORS).getId(),
+                    authors.get((i + 1) % AUTHORS).getId()));
+        }
+        bookAuthorRepository.insertLinks(links);
+        bookIds.addAll(books.stream().map(Book::getId).collect(Collectors.toList()));
+        authorIds.addAll(authors.stream().map(Author::getId).collect(Collectors.toList()));
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.entity")
+    @EnableJpaRepositories(basePackages = "com.amberlight.test.web.apps.book.book.core.domain.repository")
+    @Import({Config.class, BookToBookDto.class, AuthorToAuthorDto.class, GenreTypeRegistry.class, JdbcMetrics.class,
+            BookServiceImpl.class, BookAuthorServiceImpl.class, EntityBookReadServiceImpl.class,
+            BookReadModelRepository.class})
+    static class TestConfig {
+    }
+
+}
@@ -0,0 +1,9 @@
+#!/bin/sh
+# Builds the benchmarks with the benchmarks profile and runs them, the arguments are passed to BenchmarkRunner, e.g.
+#   domain-benchmarks/benchmark.sh MonetaryAmount --compare
+# Maven reads extra options from MAVEN_ARGS, MAVEN_ARGS=-o builds offline once the dependencies are cached.
+set -e
+cd "$(dirname "$0")/.."
+mvn -B -q -P benchmarks -pl domain-benchmarks -am package -DskipTests
+cd domain-benchmarks
+exec java -jar target/benchmarks.jar "$@"
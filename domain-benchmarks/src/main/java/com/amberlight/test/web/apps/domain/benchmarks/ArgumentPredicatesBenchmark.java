@@ -0,0 +1,74 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import com.amberlight.test.web.apps.domain.validation.ArgumentPredicates;
+import com.amberlight.test.web.apps.domain.validation.ArgumentPredicates.ArgumentPredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link ArgumentPredicates} constants and factories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentPredicatesBenchmark {
+
+	private String number = "1234.56";
+
+	private BigDecimal decimal = new BigDecimal("1234.56");
+
+	private String date = "2022-02-01";
+
+	private String name = "The Name of the Book";
+
+	private ArgumentPredicate<String> length = ArgumentPredicates.length(1, 255);
+
+	@Benchmark
+	public boolean number() {
+		return ArgumentPredicates.is(ArgumentPredicates.NUMBER, number);
+	}
+
+	@Benchmark
+	public boolean positive() {
+		return ArgumentPredicates.is(ArgumentPredicates.POSITIVE, decimal);
+	}
+
+	@Benchmark
+	public boolean monetaryMaxAmount() {
+		return ArgumentPredicates.is(ArgumentPredicates.MONETARY_MAX_AMOUNT, decimal);
+	}
+
+	@Benchmark
+	public boolean monetaryMaxScale() {
+		return ArgumentPredicates.is(ArgumentPredicates.MONETARY_MAX_SCALE, decimal);
+	}
+
+	@Benchmark
+	public boolean dateString() {
+		return ArgumentPredicates.is(ArgumentPredicates.DATE_STRING, date);
+	}
+
+	@Benchmark
+	public boolean lengthShared() {
+		return ArgumentPredicates.is(length, name);
+	}
+
+	@Benchmark
+	public boolean lengthCreated() {
+		return ArgumentPredicates.is(ArgumentPredicates.length(1, 255), name);
+	}
+
+}
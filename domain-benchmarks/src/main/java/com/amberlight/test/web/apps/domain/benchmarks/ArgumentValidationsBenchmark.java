@@ -0,0 +1,61 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.amberlight.test.web.apps.domain.validation.ArgumentValidations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ArgumentValidations#validatorFor(String, Object)} chains against the
+ * equivalent static checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentValidationsBenchmark {
+
+	private String amount = "1234.56";
+
+	private String name = "The Name of the Book";
+
+	private Integer count = 42;
+
+	@Benchmark
+	public void amountChain() {
+		ArgumentValidations.validatorFor("amount", amount).notNull().positiveAmount().validate();
+	}
+
+	@Benchmark
+	public void amountStatic() {
+		ArgumentValidations.notNull("amount", amount);
+		ArgumentValidations.positiveAmount("amount", amount);
+	}
+
+	@Benchmark
+	public void stringChain() {
+		ArgumentValidations.validatorFor("name", name).notNull().notEmpty().length(1, 255).validate();
+	}
+
+	@Benchmark
+	public void numberChain() {
+		ArgumentValidations.validatorFor("count", count).notNull().number().valueBetween(1, 100).validate();
+	}
+
+	@Benchmark
+	public void optionalChain() {
+		ArgumentValidations.validatorFor("amount", amount).notNegativeAmount().maxLength(32)
+				.validateIfArgumentIsNotNull();
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares JMH JSON results with a baseline. A benchmark regresses when its
+ * score moves by more than the threshold in the wrong direction and the error
+ * margins of both runs do not overlap, or when it allocates more bytes per
+ * operation than the threshold allows.
+ */
+class BaselineComparison {
+
+	static final String ALLOCATION = "gc.alloc.rate.norm";
+
+	/**
+	 * Allocation changes below one byte per operation are noise.
+	 */
+	private static final double ALLOCATION_TOLERANCE = 1;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final double threshold;
+
+	BaselineComparison(double threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Prints every regression and a summary.
+	 *
+	 * @param baselineFile the baseline results
+	 * @param resultFile the current results
+	 * @param out the stream to print to
+	 * @return the number of regressions
+	 * @throws IOException if a file can not be read
+	 */
+	int compare(Path baselineFile, Path resultFile, PrintStream out) throws IOException {
+		Map<String, JsonNode> baseline = read(baselineFile);
+		Map<String, JsonNode> results = read(resultFile);
+		int regressions = 0;
+
+		for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+			JsonNode before = baseline.get(entry.getKey());
+			if (before == null) {
+				out.printf("NEW        %s%n", entry.getKey());
+				continue;
+			}
+			JsonNode after = entry.getValue();
+
+			if (isSlower(before, after)) {
+				regressions++;
+				out.printf("SLOWER     %s: %s -> %s%n", entry.getKey(), format(before.path("primaryMetric")),
+						format(after.path("primaryMetric")));
+			}
+			if (allocatesMore(before, after)) {
+				regressions++;
+				out.printf("ALLOCATES  %s: %s -> %s%n", entry.getKey(), format(allocation(before)),
+						format(allocation(after)));
+			}
+		}
+
+		out.printf("%d benchmarks compared against the %d of %s, %d regressions above %.0f%%%n",
+				results.size(), baseline.size(), baselineFile, regressions, threshold * 100);
+		return regressions;
+	}
+
+	private boolean isSlower(JsonNode before, JsonNode after) {
+		JsonNode beforeMetric = before.path("primaryMetric");
+		JsonNode afterMetric = after.path("primaryMetric");
+		double beforeScore = beforeMetric.path("score").asDouble();
+		double afterScore = afterMetric.path("score").asDouble();
+		double margin = error(beforeMetric) + error(afterMetric);
+
+		// throughput is better when higher, the time based modes when lower
+		if ("thrpt".equals(after.path("mode").asText())) {
+			return afterScore < beforeScore * (1 - threshold) && beforeScore - afterScore > margin;
+		}
+		return afterScore > beforeScore * (1 + threshold) && afterScore - beforeScore > margin;
+	}
+
+	private boolean allocatesMore(JsonNode before, JsonNode after) {
+		JsonNode beforeAllocation = allocation(before);
+		JsonNode afterAllocation = allocation(after);
+		if (beforeAllocation.isMissingNode() || afterAllocation.isMissingNode()) {
+			return false;
+		}
+		double beforeBytes = beforeAllocation.path("score").asDouble();
+		double afterBytes = afterAllocation.path("score").asDouble();
+		return afterBytes > beforeBytes * (1 + threshold) + ALLOCATION_TOLERANCE;
+	}
+
+	private static JsonNode allocation(JsonNode benchmark) {
+		return benchmark.path("secondaryMetrics").path(ALLOCATION);
+	}
+
+	private static double error(JsonNode metric) {
+		double error = metric.path("scoreError").asDouble();
+		return Double.isNaN(error) ? 0 : error;
+	}
+
+	private static String format(JsonNode metric) {
+		return String.format("%.3f %s", metric.path("score").asDouble(), metric.path("scoreUnit").asText());
+	}
+
+	/**
+	 * Reads the results keyed by the benchmark name and its parameters.
+	 */
+	private Map<String, JsonNode> read(Path file) throws IOException {
+		Map<String, JsonNode> results = new LinkedHashMap<>();
+		for (JsonNode benchmark : objectMapper.readTree(file.toFile())) {
+			StringBuilder key = new StringBuilder(benchmark.path("benchmark").asText());
+			Iterator<Map.Entry<String, JsonNode>> params = benchmark.path("params").fields();
+			while (params.hasNext()) {
+				Map.Entry<String, JsonNode> param = params.next();
+				key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+			}
+			results.put(key.toString(), benchmark);
+		}
+		return results;
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the allocation profiler and stores the results as
+ * JSON. The options below are handled here, any other argument is passed to
+ * JMH, e.g. a benchmark regex or {@code -f 2}.
+ * <ul>
+ *     <li>{@code --result=FILE} the JSON results, {@code target/jmh-result.json} by default</li>
+ *     <li>{@code --compare[=FILE]} prints the regressions against a baseline,
+ *     {@code baseline.json} by default, and exits with 1 if there are any</li>
+ *     <li>{@code --update-baseline[=FILE]} stores the results as the new baseline</li>
+ *     <li>{@code --threshold=PERCENT} the change reported as a regression, 10 by default</li>
+ *     <li>{@code --no-run} compares or stores the existing results without running</li>
+ * </ul>
+ */
+public final class BenchmarkRunner {
+
+	private static final String DEFAULT_BASELINE = "baseline.json";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Path result = Paths.get("target", "jmh-result.json");
+		Path compareTo = null;
+		Path updateBaseline = null;
+		double threshold = 10;
+		boolean run = true;
+		List<String> jmhArgs = new ArrayList<>();
+
+		for (String arg : args) {
+			if (arg.startsWith("--result=")) {
+				result = Paths.get(value(arg));
+			} else if (arg.startsWith("--compare")) {
+				compareTo = Paths.get(arg.contains("=") ? value(arg) : DEFAULT_BASELINE);
+			} else if (arg.startsWith("--update-baseline")) {
+				updateBaseline = Paths.get(arg.contains("=") ? value(arg) : DEFAULT_BASELINE);
+			} else if (arg.startsWith("--threshold=")) {
+				threshold = Double.parseDouble(value(arg));
+			} else if (arg.equals("--no-run")) {
+				run = false;
+			} else {
+				jmhArgs.add(arg);
+			}
+		}
+
+		if (run) {
+			Path directory = result.toAbsolutePath().getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+			Options options = new OptionsBuilder()
+					.parent(new CommandLineOptions(jmhArgs.toArray(new String[0])))
+					.addProfiler(GCProfiler.class)
+					.resultFormat(ResultFormatType.JSON)
+					.result(result.toString())
+					.build();
+			new Runner(options).run();
+		}
+
+		int regressions = 0;
+		if (compareTo != null) {
+			regressions = new BaselineComparison(threshold / 100).compare(compareTo, result, System.out);
+		}
+		if (updateBaseline != null) {
+			Files.copy(result, updateBaseline, StandardCopyOption.REPLACE_EXISTING);
+			System.out.println("Stored " + result + " as the baseline " + updateBaseline);
+		}
+		if (regressions > 0) {
+			System.exit(1);
+		}
+	}
+
+	private static String value(String arg) {
+		return arg.substring(arg.indexOf('=') + 1);
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import com.amberlight.test.web.apps.domain.monetary.BigDecimalUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link BigDecimalUtil} conversions and computations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigDecimalUtilBenchmark {
+
+	private String string = "1234.56";
+
+	private BigDecimal decimal = new BigDecimal("1234.56");
+
+	private BigDecimal divisor = new BigDecimal("3");
+
+	private int cents = 123_456;
+
+	@Benchmark
+	public BigDecimal valueOf() {
+		return BigDecimalUtil.valueOf(string);
+	}
+
+	@Benchmark
+	public BigDecimal setScale() {
+		return BigDecimalUtil.setScale(decimal);
+	}
+
+	@Benchmark
+	public BigDecimal convertFromCents() {
+		return BigDecimalUtil.convertFromCents(cents);
+	}
+
+	@Benchmark
+	public int convertToCents() {
+		return BigDecimalUtil.convertToCents(decimal);
+	}
+
+	@Benchmark
+	public BigDecimal add() {
+		return BigDecimalUtil.add(decimal, string);
+	}
+
+	@Benchmark
+	public BigDecimal divide() {
+		return BigDecimalUtil.divide(decimal, divisor);
+	}
+
+	@Benchmark
+	public boolean isGreaterThan() {
+		return BigDecimalUtil.isGreaterThan(decimal, divisor);
+	}
+
+}
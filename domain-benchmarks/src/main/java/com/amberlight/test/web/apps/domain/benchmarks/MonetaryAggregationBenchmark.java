@@ -0,0 +1,103 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAccumulator;
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmount;
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmounts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summing a catalog of prices with {@link MonetaryAmounts}, against the
+ * {@code reduce} over {@link MonetaryAmount#add(MonetaryAmount)} it replaces.
+ * The prices are drawn from a pool of distinct amounts, like the prices of a
+ * catalog, which keeps the list of 100M elements within the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MonetaryAggregationBenchmark {
+
+	private static final int DISTINCT_PRICES = 10_000;
+
+	@Param({"1000000", "100000000"})
+	private int size;
+
+	private List<MonetaryAmount> prices;
+
+	private long[] unscaled;
+
+	private MonetaryAccumulator accumulator = new MonetaryAccumulator();
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(25);
+		MonetaryAmount[] pool = new MonetaryAmount[DISTINCT_PRICES];
+		for (int i = 0; i < pool.length; i++) {
+			pool[i] = MonetaryAmount.ofCents(random.nextInt(100_000));
+		}
+		prices = new ArrayList<>(size);
+		unscaled = new long[size];
+		for (int i = 0; i < size; i++) {
+			MonetaryAmount price = pool[random.nextInt(pool.length)];
+			prices.add(price);
+			unscaled[i] = price.getValue().unscaledValue().longValueExact();
+		}
+	}
+
+	@Benchmark
+	public MonetaryAmount reduce() {
+		return prices.stream().reduce(MonetaryAmount.ZERO, MonetaryAmount::add);
+	}
+
+	@Benchmark
+	public MonetaryAmount sum() {
+		return MonetaryAmounts.sum(prices);
+	}
+
+	@Benchmark
+	public MonetaryAmount parallelSum() {
+		return MonetaryAmounts.parallelSummarize(prices).sum();
+	}
+
+	@Benchmark
+	public MonetaryAmount accumulatorLoop() {
+		accumulator.reset();
+		for (MonetaryAmount price : prices) {
+			accumulator.add(price);
+		}
+		return accumulator.sum();
+	}
+
+	@Benchmark
+	public MonetaryAmount average() {
+		return MonetaryAmounts.average(prices).get();
+	}
+
+	@Benchmark
+	public MonetaryAmount sumUnscaled() {
+		return MonetaryAmounts.sum(unscaled);
+	}
+
+	@Benchmark
+	public MonetaryAmount parallelSumUnscaled() {
+		return MonetaryAmounts.parallelSummarize(unscaled).sum();
+	}
+
+}
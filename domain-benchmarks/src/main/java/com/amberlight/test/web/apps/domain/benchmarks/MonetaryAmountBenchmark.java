@@ -0,0 +1,135 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction and arithmetic of {@link MonetaryAmount}. The {@code large}
+ * operands do not fit the fixed-point representation and measure the
+ * {@link BigDecimal} fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonetaryAmountBenchmark {
+
+	private String string = "1234.56";
+
+	private BigDecimal decimal = new BigDecimal("1234.56");
+
+	private long unscaled = 123_456_000_000L;
+
+	private long cents = 123_456L;
+
+	private long cachedCents = 1_999L;
+
+	private MonetaryAmount price = MonetaryAmount.of(decimal);
+
+	private MonetaryAmount quantity = MonetaryAmount.of(new BigDecimal("3"));
+
+	private BigDecimal rate = new BigDecimal("0.0725");
+
+	private MonetaryAmount large = new MonetaryAmount("95000000000.12345678");
+
+	private MonetaryAmount largeAddend = new MonetaryAmount("1000000000");
+
+	@Benchmark
+	public MonetaryAmount constructFromString() {
+		return new MonetaryAmount(string);
+	}
+
+	@Benchmark
+	public MonetaryAmount constructFromBigDecimal() {
+		return new MonetaryAmount(decimal);
+	}
+
+	@Benchmark
+	public MonetaryAmount ofBigDecimal() {
+		return MonetaryAmount.of(decimal);
+	}
+
+	@Benchmark
+	public MonetaryAmount ofUnscaled() {
+		return MonetaryAmount.of(unscaled);
+	}
+
+	@Benchmark
+	public MonetaryAmount ofCents() {
+		return MonetaryAmount.ofCents(cents);
+	}
+
+	@Benchmark
+	public MonetaryAmount ofCentsCached() {
+		return MonetaryAmount.ofCents(cachedCents);
+	}
+
+	@Benchmark
+	public MonetaryAmount add() {
+		return price.add(quantity);
+	}
+
+	@Benchmark
+	public MonetaryAmount subtract() {
+		return price.subtract(quantity);
+	}
+
+	@Benchmark
+	public MonetaryAmount multiply() {
+		return price.multiply(quantity);
+	}
+
+	@Benchmark
+	public MonetaryAmount multiplyBigDecimal() {
+		return price.multiply(rate);
+	}
+
+	@Benchmark
+	public MonetaryAmount divide() {
+		return price.divide(quantity);
+	}
+
+	@Benchmark
+	public MonetaryAmount divideBigDecimal() {
+		return price.divide(rate);
+	}
+
+	@Benchmark
+	public MonetaryAmount negate() {
+		return price.negate();
+	}
+
+	@Benchmark
+	public int compareTo() {
+		return price.compareTo(quantity);
+	}
+
+	@Benchmark
+	public MonetaryAmount addLarge() {
+		return large.add(largeAddend);
+	}
+
+	@Benchmark
+	public MonetaryAmount multiplyLarge() {
+		return large.multiply(rate);
+	}
+
+	@Benchmark
+	public BigDecimal getValue() {
+		return price.getValue();
+	}
+
+}
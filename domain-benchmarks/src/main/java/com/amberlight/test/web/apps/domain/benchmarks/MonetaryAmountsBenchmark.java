@@ -0,0 +1,79 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmount;
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmounts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link MonetaryAmounts} helpers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonetaryAmountsBenchmark {
+
+	private String string = "1234.56";
+
+	private BigDecimal decimal = new BigDecimal("1234.56");
+
+	private int cents = 123_456;
+
+	private MonetaryAmount price = MonetaryAmount.of(decimal);
+
+	private MonetaryAmount discount = MonetaryAmount.of(new BigDecimal("34.56"));
+
+	@Benchmark
+	public MonetaryAmount getAmountFromString() {
+		return MonetaryAmounts.getAmount(string);
+	}
+
+	@Benchmark
+	public MonetaryAmount getAmountFromBigDecimal() {
+		return MonetaryAmounts.getAmount(decimal);
+	}
+
+	@Benchmark
+	public MonetaryAmount convertFromCents() {
+		return MonetaryAmounts.convertFromCents(cents);
+	}
+
+	@Benchmark
+	public int convertToCents() {
+		return MonetaryAmounts.convertToCents(price);
+	}
+
+	@Benchmark
+	public MonetaryAmount subtract() {
+		return MonetaryAmounts.subtract(price, discount);
+	}
+
+	@Benchmark
+	public boolean isPositive() {
+		return MonetaryAmounts.isPositive(price);
+	}
+
+	@Benchmark
+	public boolean isEqualToOrGreaterThan() {
+		return MonetaryAmounts.isEqualToOrGreaterThan(price, discount);
+	}
+
+	@Benchmark
+	public boolean isGreaterThanMaxMonetaryValue() {
+		return MonetaryAmounts.isGreaterThanMaxMonetaryValue(decimal);
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.amberlight.test.web.apps.domain.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolationException;
+
+import com.amberlight.test.web.apps.domain.monetary.validation.MonetaryValueValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link MonetaryValueValidator} checks, valid values and the
+ * violation reporting of an invalid one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonetaryValueValidatorBenchmark {
+
+	private String string = "1234.56";
+
+	private BigDecimal decimal = new BigDecimal("1234.56");
+
+	private BigDecimal tooLarge = new BigDecimal("100000000000");
+
+	@Benchmark
+	public BigDecimal validNumberString() {
+		return MonetaryValueValidator.validNumber("amount", string);
+	}
+
+	@Benchmark
+	public BigDecimal validAmount() {
+		return MonetaryValueValidator.validAmount("amount", decimal);
+	}
+
+	@Benchmark
+	public BigDecimal validAmountString() {
+		return MonetaryValueValidator.validAmount("amount", string);
+	}
+
+	@Benchmark
+	public BigDecimal positiveAmount() {
+		return MonetaryValueValidator.positiveAmount("amount", decimal);
+	}
+
+	@Benchmark
+	public BigDecimal notNegativeAmount() {
+		return MonetaryValueValidator.notNegativeAmount("amount", decimal);
+	}
+
+	@Benchmark
+	public ConstraintViolationException invalidAmount() {
+		try {
+			MonetaryValueValidator.validAmount("amount", tooLarge);
+			return null;
+		} catch (ConstraintViolationException e) {
+			return e;
+		}
+	}
+
+}
@@ -1,8 +1,6 @@
 package com.amberlight.test.web.apps.domain.config;
 
-import javax.validation.Validation;
-
-
+import com.amberlight.test.web.apps.domain.monetary.validation.MonetaryValueValidator;
 import com.amberlight.test.web.apps.domain.validation.ValidationUtil;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -14,6 +12,6 @@ public class ValidationAutoConfig {
 	@Bean
 	@ConditionalOnMissingBean
 	public ValidationUtil validationUtil() {
-		return new ValidationUtil(Validation.buildDefaultValidatorFactory().getValidator());
+		return new ValidationUtil(MonetaryValueValidator.getValidator());
 	}
 }
@@ -0,0 +1,157 @@
+package com.amberlight.test.web.apps.domain.monetary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+
+/**
+ * Fixed-point arithmetic on unscaled {@code long} values, the fast path of
+ * {@link MonetaryAmount}. Every operation rounds exactly like the matching
+ * {@link BigDecimal} operation with {@link RoundingMode#HALF_DOWN} and throws
+ * an {@link ArithmeticException} when the exact result does not fit a
+ * {@code long}, the caller then falls back to {@link BigDecimal}.
+ */
+final class FixedPoint {
+
+	/**
+	 * The largest shift {@link #multiply(long, long, int)} supports, the
+	 * product of the two low parts has to fit a {@code long}.
+	 */
+	static final int MAX_MULTIPLY_SHIFT = 9;
+
+	/**
+	 * The largest shift {@link #divide(long, long, int)} supports.
+	 */
+	static final int MAX_DIVIDE_SHIFT = 18;
+
+	private static final long[] POWERS_OF_TEN = new long[MAX_DIVIDE_SHIFT + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	/**
+	 * Private constructor to prevent instances.
+	 */
+	private FixedPoint() {
+	}
+
+	/**
+	 * Returns ten to the power of {@code exponent}.
+	 *
+	 * @param exponent
+	 *            The exponent, between zero and {@link #MAX_DIVIDE_SHIFT}
+	 *
+	 * @return The power of ten
+	 */
+	static long powerOfTen(int exponent) {
+		return POWERS_OF_TEN[exponent];
+	}
+
+	/**
+	 * Returns the unscaled value of a {@link BigDecimal} if it fits a
+	 * {@code long}.
+	 *
+	 * @param value
+	 *            The value
+	 *
+	 * @return {@code true} if the unscaled value of {@code value} fits a
+	 *         {@code long}.
+	 */
+	static boolean isCompact(BigDecimal value) {
+		return value.unscaledValue().bitLength() < Long.SIZE;
+	}
+
+	/**
+	 * Computes {@code a * b / 10^shift}, rounded half down.
+	 *
+	 * @param a
+	 *            The first factor
+	 * @param b
+	 *            The second factor
+	 * @param shift
+	 *            The number of decimal digits to drop from the product, at most
+	 *            {@link #MAX_MULTIPLY_SHIFT}
+	 *
+	 * @return The rounded result
+	 *
+	 * @throws ArithmeticException
+	 *             If the result does not fit a {@code long}
+	 */
+	static long multiply(long a, long b, int shift) {
+		long divisor = POWERS_OF_TEN[shift];
+		long aHigh = a / divisor;
+		long aLow = a % divisor;
+		long bHigh = b / divisor;
+		long bLow = b % divisor;
+
+		// a * b / d = aHigh * bHigh * d + aHigh * bLow + aLow * bHigh + aLow * bLow / d, all terms
+		// carry the sign of the product, the two mixed terms are below 2^63 in magnitude
+		long lowProduct = aLow * bLow;
+		long result = Math.multiplyExact(Math.multiplyExact(aHigh, bHigh), divisor);
+		result = Math.addExact(result, aHigh * bLow);
+		result = Math.addExact(result, aLow * bHigh);
+		result = Math.addExact(result, lowProduct / divisor);
+
+		long remainder = Math.abs(lowProduct % divisor);
+		return remainder > divisor - remainder ? Math.addExact(result, Long.signum(lowProduct)) : result;
+	}
+
+	/**
+	 * Computes {@code dividend * 10^shift / divisor}, rounded half down.
+	 *
+	 * @param dividend
+	 *            The dividend
+	 * @param divisor
+	 *            The divisor, must be positive
+	 * @param shift
+	 *            The number of decimal digits to add to the quotient, at most
+	 *            {@link #MAX_DIVIDE_SHIFT}
+	 *
+	 * @return The rounded result
+	 *
+	 * @throws ArithmeticException
+	 *             If the result does not fit a {@code long}
+	 */
+	static long divide(long dividend, long divisor, int shift) {
+		if (dividend == Long.MIN_VALUE) {
+			throw new ArithmeticException("long overflow");
+		}
+		long magnitude = Math.abs(dividend);
+		long quotient = magnitude / divisor;
+		long remainder = magnitude % divisor;
+
+		if (divisor <= Long.MAX_VALUE / POWERS_OF_TEN[shift]) {
+			long scaledRemainder = remainder * POWERS_OF_TEN[shift];
+			quotient = Math.addExact(Math.multiplyExact(quotient, POWERS_OF_TEN[shift]),
+					scaledRemainder / divisor);
+			remainder = scaledRemainder % divisor;
+		} else {
+			// long division one digit at a time, ten times the remainder is
+			// accumulated modulo the divisor as it may not fit a long
+			for (int i = 0; i < shift; i++) {
+				long digit = 0;
+				long accumulated = 0;
+				for (int j = 0; j < 10; j++) {
+					if (accumulated >= divisor - remainder) {
+						accumulated -= divisor - remainder;
+						digit++;
+					} else {
+						accumulated += remainder;
+					}
+				}
+				remainder = accumulated;
+				quotient = Math.addExact(Math.multiplyExact(quotient, 10), digit);
+			}
+		}
+
+		if (remainder > divisor - remainder) {
+			quotient = Math.addExact(quotient, 1);
+		}
+		return dividend < 0 ? -quotient : quotient;
+	}
+
+}
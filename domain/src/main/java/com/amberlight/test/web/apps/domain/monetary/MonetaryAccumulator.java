@@ -0,0 +1,260 @@
+package com.amberlight.test.web.apps.domain.monetary;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+import javax.validation.ConstraintViolationException;
+
+
+/**
+ * A mutable accumulator of monetary amounts computing their sum, average,
+ * minimum and maximum. The sum is kept as an exact unscaled {@code long} and
+ * only moves to a {@link BigDecimal} if it does not fit, no intermediate
+ * {@link MonetaryAmount} is created. The monetary constraints are checked once,
+ * when a result is read, so an intermediate sum may exceed the
+ * {@link MonetaryAmount#MAX_MONETARY_VALUE} as long as the result does not.
+ * <p>
+ * An accumulator is not thread-safe. Accumulators filled on different
+ * threads can be merged with {@link #combine(MonetaryAccumulator)}, the
+ * result is the same as the one of a single accumulator as all operations
+ * are exact.
+ * <p>
+ * Sample usage:
+ *
+ * <pre>
+ * MonetaryAccumulator accumulator = new MonetaryAccumulator();
+ * for (Book book : books) {
+ * 	accumulator.add(book.getPrice());
+ * }
+ * MonetaryAmount total = accumulator.sum();
+ * </pre>
+ */
+public final class MonetaryAccumulator {
+
+	private long count;
+
+	private long sum;
+
+	/**
+	 * The exact unscaled sum once it does not fit {@link #sum} anymore.
+	 */
+	private BigDecimal largeSum;
+
+	private boolean hasUnscaled;
+
+	private long minUnscaled;
+
+	private long maxUnscaled;
+
+	/**
+	 * The extremes of the amounts that are not held as an unscaled
+	 * {@code long}.
+	 */
+	private MonetaryAmount minLarge;
+
+	private MonetaryAmount maxLarge;
+
+	/**
+	 * Returns a collector accumulating the amounts of a stream, a parallel
+	 * stream is accumulated on the fork-join pool.
+	 *
+	 * @return a collector into a {@link MonetaryAccumulator}.
+	 */
+	public static Collector<MonetaryAmount, MonetaryAccumulator, MonetaryAccumulator> collector() {
+		return Collector.of(MonetaryAccumulator::new, MonetaryAccumulator::add, MonetaryAccumulator::combine,
+				Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Adds an amount.
+	 *
+	 * @param amount
+	 *            amount, not {@code null}.
+	 *
+	 * @return this accumulator.
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if the {@code amount} is {@code null}.
+	 */
+	public MonetaryAccumulator add(MonetaryAmount amount) {
+		Objects.requireNonNull(amount, "amount");
+		if (amount.isCompact()) {
+			return addUnscaled(amount.unscaledValue());
+		}
+		this.count++;
+		addToSum(amount.getValue().movePointRight(MonetaryAmount.SCALE));
+		if (this.minLarge == null || amount.isLessThan(this.minLarge)) {
+			this.minLarge = amount;
+		}
+		if (this.maxLarge == null || amount.isGreaterThan(this.maxLarge)) {
+			this.maxLarge = amount;
+		}
+		return this;
+	}
+
+	/**
+	 * Adds an amount given as unscaled value in units of
+	 * 10^-{@link MonetaryAmount#SCALE}.
+	 *
+	 * @param unscaled
+	 *            unscaled amount.
+	 *
+	 * @return this accumulator.
+	 */
+	public MonetaryAccumulator addUnscaled(long unscaled) {
+		this.count++;
+		addToSum(unscaled);
+		if (!this.hasUnscaled) {
+			this.hasUnscaled = true;
+			this.minUnscaled = unscaled;
+			this.maxUnscaled = unscaled;
+		} else if (unscaled < this.minUnscaled) {
+			this.minUnscaled = unscaled;
+		} else if (unscaled > this.maxUnscaled) {
+			this.maxUnscaled = unscaled;
+		}
+		return this;
+	}
+
+	/**
+	 * Adds all amounts of another accumulator.
+	 *
+	 * @param other
+	 *            accumulator, not {@code null}.
+	 *
+	 * @return this accumulator.
+	 */
+	public MonetaryAccumulator combine(MonetaryAccumulator other) {
+		Objects.requireNonNull(other, "other");
+		this.count += other.count;
+		if (other.largeSum != null) {
+			addToSum(other.largeSum);
+		} else {
+			addToSum(other.sum);
+		}
+		if (other.hasUnscaled) {
+			this.minUnscaled = this.hasUnscaled ? Math.min(this.minUnscaled, other.minUnscaled) : other.minUnscaled;
+			this.maxUnscaled = this.hasUnscaled ? Math.max(this.maxUnscaled, other.maxUnscaled) : other.maxUnscaled;
+			this.hasUnscaled = true;
+		}
+		if (other.minLarge != null && (this.minLarge == null || other.minLarge.isLessThan(this.minLarge))) {
+			this.minLarge = other.minLarge;
+		}
+		if (other.maxLarge != null && (this.maxLarge == null || other.maxLarge.isGreaterThan(this.maxLarge))) {
+			this.maxLarge = other.maxLarge;
+		}
+		return this;
+	}
+
+	/**
+	 * Clears this accumulator for reuse.
+	 */
+	public void reset() {
+		this.count = 0;
+		this.sum = 0;
+		this.largeSum = null;
+		this.hasUnscaled = false;
+		this.minLarge = null;
+		this.maxLarge = null;
+	}
+
+	/**
+	 * Returns the number of amounts added.
+	 *
+	 * @return the number of amounts.
+	 */
+	public long count() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the sum of the amounts, {@link MonetaryAmount#ZERO} if none were
+	 * added.
+	 *
+	 * @return the sum.
+	 *
+	 * @throws ConstraintViolationException
+	 *             If the sum violates any of the {@link MonetaryAmount}
+	 *             constraints.
+	 */
+	public MonetaryAmount sum() {
+		return this.largeSum == null
+				? MonetaryAmount.of(this.sum)
+				: MonetaryAmount.of(this.largeSum.movePointLeft(MonetaryAmount.SCALE));
+	}
+
+	/**
+	 * Returns the average of the amounts, rounded like
+	 * {@link MonetaryAmount#divide(BigDecimal)}.
+	 *
+	 * @return the average, empty if no amounts were added.
+	 *
+	 * @throws ConstraintViolationException
+	 *             If the average violates any of the {@link MonetaryAmount}
+	 *             constraints.
+	 */
+	public Optional<MonetaryAmount> average() {
+		if (this.count == 0) {
+			return Optional.empty();
+		}
+		if (this.largeSum == null) {
+			try {
+				return Optional.of(MonetaryAmount.of(FixedPoint.divide(this.sum, this.count, 0)));
+			} catch (ArithmeticException e) {
+				// only for Long.MIN_VALUE, fall back to big decimal
+			}
+		}
+		BigDecimal sum = this.largeSum == null ? BigDecimal.valueOf(this.sum) : this.largeSum;
+		return Optional.of(MonetaryAmount.of(sum.movePointLeft(MonetaryAmount.SCALE)
+				.divide(BigDecimal.valueOf(this.count), MonetaryAmount.SCALE, MonetaryAmount.ROUNDING_MODE)));
+	}
+
+	/**
+	 * Returns the smallest amount.
+	 *
+	 * @return the smallest amount, empty if no amounts were added.
+	 */
+	public Optional<MonetaryAmount> min() {
+		MonetaryAmount min = this.hasUnscaled ? MonetaryAmount.of(this.minUnscaled) : null;
+		if (this.minLarge != null && (min == null || this.minLarge.isLessThan(min))) {
+			min = this.minLarge;
+		}
+		return Optional.ofNullable(min);
+	}
+
+	/**
+	 * Returns the largest amount.
+	 *
+	 * @return the largest amount, empty if no amounts were added.
+	 */
+	public Optional<MonetaryAmount> max() {
+		MonetaryAmount max = this.hasUnscaled ? MonetaryAmount.of(this.maxUnscaled) : null;
+		if (this.maxLarge != null && (max == null || this.maxLarge.isGreaterThan(max))) {
+			max = this.maxLarge;
+		}
+		return Optional.ofNullable(max);
+	}
+
+	private void addToSum(long unscaled) {
+		if (this.largeSum != null) {
+			this.largeSum = this.largeSum.add(BigDecimal.valueOf(unscaled));
+			return;
+		}
+		long result = this.sum + unscaled;
+		// overflow if both operands have the sign opposite to the result
+		if (((this.sum ^ result) & (unscaled ^ result)) < 0) {
+			this.largeSum = BigDecimal.valueOf(this.sum).add(BigDecimal.valueOf(unscaled));
+		} else {
+			this.sum = result;
+		}
+	}
+
+	private void addToSum(BigDecimal unscaled) {
+		this.largeSum = this.largeSum == null
+				? BigDecimal.valueOf(this.sum).add(unscaled)
+				: this.largeSum.add(unscaled);
+	}
+
+}
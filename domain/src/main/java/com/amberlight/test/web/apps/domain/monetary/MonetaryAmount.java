@@ -2,6 +2,7 @@ package com.amberlight.test.web.apps.domain.monetary;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.Objects;
 
 import javax.validation.ConstraintViolationException;
@@ -42,6 +43,11 @@ import static com.amberlight.test.web.apps.domain.monetary.validation.MonetaryVa
  * construct the final result as a {@link MonetaryAmount}, after applying proper
  * scaling and rounding to ensure that the construction of the result does not
  * fail.
+ * <p>
+ * Values whose unscaled representation fits a {@code long} are computed in
+ * fixed-point {@code long} arithmetic, rounded exactly like their
+ * {@link BigDecimal} counterparts, the computation only falls back to
+ * {@link BigDecimal} when an intermediate result does not fit.
  */
 public class MonetaryAmount implements Comparable<MonetaryAmount> {
 
@@ -69,10 +75,23 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 
 	public static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_DOWN;
 
-	public static final MonetaryAmount ZERO = new MonetaryAmount(BigDecimal.ZERO);
-	public static final MonetaryAmount ONE = new MonetaryAmount(BigDecimal.ONE);
-	public static final MonetaryAmount TEN = new MonetaryAmount(BigDecimal.TEN);
-	public static final MonetaryAmount HUNDRED = new MonetaryAmount(BigDecimal.TEN.multiply(BigDecimal.TEN));
+	/**
+	 * The system property holding the largest whole unit amount that
+	 * {@link #of(long)} and its siblings return a cached instance for.
+	 */
+	public static final String CACHE_HIGH_PROPERTY = "monetary-amount.cache.high";
+
+	/**
+	 * The number of unscaled units in one whole monetary unit.
+	 */
+	private static final long UNIT = 100_000_000L;
+
+	private static final long CENT = UNIT / 100;
+
+	public static final MonetaryAmount ZERO = of(0);
+	public static final MonetaryAmount ONE = of(UNIT);
+	public static final MonetaryAmount TEN = of(10 * UNIT);
+	public static final MonetaryAmount HUNDRED = of(100 * UNIT);
 
 	public static final MonetaryAmount MAX = new MonetaryAmount(MAX_MONETARY_AMOUNT);
 
@@ -84,6 +103,14 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	@PositiveOrZero(groups = NotNegativeAmount.class)
 	private final BigDecimal value;
 
+	/**
+	 * The unscaled {@link #value} in units of 10^-{@link #SCALE}, only
+	 * meaningful if {@link #compact} is set.
+	 */
+	private final long unscaled;
+
+	private final boolean compact;
+
 	/**
 	 * Creates a new monetary amount instance from a {@link String}
 	 * representation.
@@ -126,6 +153,100 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	public MonetaryAmount(BigDecimal amount) {
 		this.value = validAmount("amount",
 				withDefaultScaleAndRounding(validNumber("amount", amount)));
+		this.compact = FixedPoint.isCompact(this.value);
+		this.unscaled = this.compact ? this.value.unscaledValue().longValue() : 0;
+	}
+
+	/**
+	 * Creates a new monetary amount instance from an unscaled value in units
+	 * of 10^-{@link #SCALE}. Every {@code long} is within the monetary
+	 * constraints, so no validation is required.
+	 *
+	 * @param unscaled
+	 *            unscaled value.
+	 */
+	private MonetaryAmount(long unscaled) {
+		this.value = BigDecimal.valueOf(unscaled, SCALE);
+		this.unscaled = unscaled;
+		this.compact = true;
+	}
+
+	/**
+	 * Returns a monetary amount from an unscaled value in units of
+	 * 10^-{@link #SCALE}. Every {@code long} is within the monetary
+	 * constraints, so no validation is performed. Zero, whole units up to
+	 * {@link #CACHE_HIGH_PROPERTY} and common cent prices are returned as
+	 * cached canonical instances.
+	 *
+	 * @param unscaled
+	 *            unscaled value.
+	 *
+	 * @return a monetary amount with the value {@code unscaled * 10^-8}.
+	 */
+	public static MonetaryAmount of(long unscaled) {
+		MonetaryAmount cached = Cache.get(unscaled);
+		return cached != null ? cached : new MonetaryAmount(unscaled);
+	}
+
+	/**
+	 * Returns a monetary amount from a number of cents.
+	 *
+	 * @param cents
+	 *            cents.
+	 *
+	 * @return a monetary amount with the value {@code cents / 100}.
+	 *
+	 * @throws ConstraintViolationException
+	 *             If the amount would exceed the {@link #MAX_MONETARY_VALUE}.
+	 */
+	public static MonetaryAmount ofCents(long cents) {
+		try {
+			return of(Math.multiplyExact(cents, CENT));
+		} catch (ArithmeticException e) {
+			return new MonetaryAmount(BigDecimal.valueOf(cents, 2));
+		}
+	}
+
+	/**
+	 * Returns a monetary amount from a {@link BigDecimal} representation,
+	 * with the same rules as {@link #MonetaryAmount(BigDecimal)}. Values with
+	 * at most {@link #SCALE} decimals and ten integer digits are known to be
+	 * valid and skip the validation.
+	 *
+	 * @param amount
+	 *            {@link BigDecimal} representation of an amount.
+	 *
+	 * @return a monetary amount with the value of {@code amount}.
+	 *
+	 * @throws ConstraintViolationException
+	 *             Thrown if the {@code amount} is {@code null} or not a valid
+	 *             representation of a monetary amount.
+	 */
+	public static MonetaryAmount of(BigDecimal amount) {
+		if (amount != null && amount.scale() >= 0 && amount.scale() <= SCALE
+				&& amount.precision() - amount.scale() < PRECISION - SCALE) {
+			return of(amount.unscaledValue().longValue() * FixedPoint.powerOfTen(SCALE - amount.scale()));
+		}
+		return new MonetaryAmount(amount);
+	}
+
+	/**
+	 * Returns if the value of this amount is held as an unscaled {@code long}.
+	 *
+	 * @return {@code true} if {@link #unscaledValue()} is available.
+	 */
+	boolean isCompact() {
+		return this.compact;
+	}
+
+	/**
+	 * Returns the unscaled value in units of 10^-{@link #SCALE}, only
+	 * meaningful if {@link #isCompact()}.
+	 *
+	 * @return the unscaled value.
+	 */
+	long unscaledValue() {
+		return this.unscaled;
 	}
 
 	/**
@@ -161,6 +282,13 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 
 		Objects.requireNonNull(addend, "addend");
 
+		if (this.compact && addend.compact) {
+			try {
+				return of(Math.addExact(this.unscaled, addend.unscaled));
+			} catch (ArithmeticException e) {
+				// the sum does not fit a long, fall back to big decimal
+			}
+		}
 		return new MonetaryAmount(this.value.add(addend.getValue()));
 	}
 
@@ -184,6 +312,13 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 
 		Objects.requireNonNull(subtrahend, "subtrahend");
 
+		if (this.compact && subtrahend.compact) {
+			try {
+				return of(Math.subtractExact(this.unscaled, subtrahend.unscaled));
+			} catch (ArithmeticException e) {
+				// the difference does not fit a long, fall back to big decimal
+			}
+		}
 		return new MonetaryAmount(this.value.subtract(subtrahend.getValue()));
 	}
 
@@ -208,8 +343,18 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	 */
 	public MonetaryAmount divide(MonetaryAmount divisor) {
 		Objects.requireNonNull(divisor, "divisor");
-		MonetaryValueValidator.positiveAmount("divisor", divisor.getValue());
-
+		// a monetary amount only has to be checked for being positive
+		if (divisor.value.signum() <= 0) {
+			MonetaryValueValidator.positiveAmount("divisor", divisor.getValue());
+		}
+
+		if (this.compact && divisor.compact) {
+			try {
+				return of(FixedPoint.divide(this.unscaled, divisor.unscaled, SCALE));
+			} catch (ArithmeticException e) {
+				// the quotient does not fit a long, fall back to big decimal
+			}
+		}
 		return divideWithScale(divisor.getValue());
 	}
 
@@ -240,6 +385,15 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 		Objects.requireNonNull(divisor, "divisor");
 		MonetaryValueValidator.positiveAmount("divisor", divisor);
 
+		if (this.compact && divisor.scale() >= 0 && divisor.scale() <= FixedPoint.MAX_DIVIDE_SHIFT
+				&& FixedPoint.isCompact(divisor)) {
+			try {
+				return of(FixedPoint.divide(this.unscaled,
+						divisor.unscaledValue().longValue(), divisor.scale()));
+			} catch (ArithmeticException e) {
+				// the quotient does not fit a long, fall back to big decimal
+			}
+		}
 		return divideWithScale(divisor);
 	}
 
@@ -280,6 +434,14 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	public MonetaryAmount multiply(MonetaryAmount multiplicand) {
 
 		Objects.requireNonNull(multiplicand, "multiplicand");
+
+		if (this.compact && multiplicand.compact) {
+			try {
+				return of(FixedPoint.multiply(this.unscaled, multiplicand.unscaled, SCALE));
+			} catch (ArithmeticException e) {
+				// the product does not fit a long, fall back to big decimal
+			}
+		}
 		return multiplyAndScale(multiplicand.getValue());
 	}
 
@@ -309,6 +471,16 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	public MonetaryAmount multiply(BigDecimal multiplicand) {
 
 		Objects.requireNonNull(multiplicand, "multiplicand");
+
+		if (this.compact && multiplicand.scale() >= 0 && multiplicand.scale() <= FixedPoint.MAX_MULTIPLY_SHIFT
+				&& FixedPoint.isCompact(multiplicand)) {
+			try {
+				return of(FixedPoint.multiply(this.unscaled,
+						multiplicand.unscaledValue().longValue(), multiplicand.scale()));
+			} catch (ArithmeticException e) {
+				// the product does not fit a long, fall back to big decimal
+			}
+		}
 		return multiplyAndScale(multiplicand);
 	}
 
@@ -343,6 +515,9 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	 * @return negated monetary amount.
 	 */
 	public MonetaryAmount negate() {
+		if (this.compact && this.unscaled != Long.MIN_VALUE) {
+			return of(-this.unscaled);
+		}
 		return new MonetaryAmount(getValue().negate());
 	}
 
@@ -362,7 +537,7 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	@Override
 	public boolean equals(Object obj) {
 		return obj instanceof MonetaryAmount
-				&& this.value.compareTo(((MonetaryAmount) obj).getValue()) == 0;
+				&& this.compareTo((MonetaryAmount) obj) == 0;
 	}
 
 	/**
@@ -380,6 +555,9 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	 */
 	@Override
 	public final int compareTo(@NotNull final MonetaryAmount other) {
+		if (this.compact && other.compact) {
+			return Long.compare(this.unscaled, other.unscaled);
+		}
 		return this.value.compareTo(other.getValue());
 	}
 
@@ -400,4 +578,61 @@ public class MonetaryAmount implements Comparable<MonetaryAmount> {
 	public final boolean isLessThan(final MonetaryAmount other) {
 		return this.compareTo(other) < 0;
 	}
+
+	/**
+	 * The canonical instances returned by {@link #of(long)}: zero and the
+	 * whole units up to {@link #CACHE_HIGH_PROPERTY}, default 1000, plus
+	 * the common cent prices below a hundred.
+	 */
+	private static final class Cache {
+
+		private static final int HIGH = Math.max(100, Integer.getInteger(CACHE_HIGH_PROPERTY, 1000));
+
+		private static final int CENT_PRICE_UNITS = 100;
+
+		private static final int[] CENT_PRICE_ENDINGS = {25, 49, 50, 75, 95, 99};
+
+		private static final MonetaryAmount[] UNITS = new MonetaryAmount[HIGH + 1];
+
+		/**
+		 * Indexed by units and the position of the cents in
+		 * {@link #CENT_PRICE_ENDINGS}.
+		 */
+		private static final MonetaryAmount[] CENT_PRICES =
+				new MonetaryAmount[CENT_PRICE_UNITS * CENT_PRICE_ENDINGS.length];
+
+		private static final int[] ENDING_INDEX = new int[100];
+
+		static {
+			for (int i = 0; i < UNITS.length; i++) {
+				UNITS[i] = new MonetaryAmount(i * UNIT);
+			}
+			Arrays.fill(ENDING_INDEX, -1);
+			for (int i = 0; i < CENT_PRICE_ENDINGS.length; i++) {
+				ENDING_INDEX[CENT_PRICE_ENDINGS[i]] = i;
+				for (int units = 0; units < CENT_PRICE_UNITS; units++) {
+					CENT_PRICES[units * CENT_PRICE_ENDINGS.length + i] =
+							new MonetaryAmount(units * UNIT + CENT_PRICE_ENDINGS[i] * CENT);
+				}
+			}
+		}
+
+		private Cache() {
+		}
+
+		static MonetaryAmount get(long unscaled) {
+			if (unscaled < 0 || unscaled % CENT != 0) {
+				return null;
+			}
+			long units = unscaled / UNIT;
+			int cents = (int) (unscaled % UNIT / CENT);
+			if (cents == 0) {
+				return units <= HIGH ? UNITS[(int) units] : null;
+			}
+			int ending = ENDING_INDEX[cents];
+			return ending >= 0 && units < CENT_PRICE_UNITS
+					? CENT_PRICES[(int) units * CENT_PRICE_ENDINGS.length + ending] : null;
+		}
+
+	}
 }
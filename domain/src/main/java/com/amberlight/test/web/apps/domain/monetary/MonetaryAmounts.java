@@ -1,10 +1,16 @@
 package com.amberlight.test.web.apps.domain.monetary;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.validation.ConstraintViolationException;
 
+import com.amberlight.test.web.apps.domain.monetary.validation.MonetaryValueValidator;
+
 /**
  * A utility class for dealing with {@link MonetaryAmount} instances.
  */
@@ -30,7 +36,7 @@ public final class MonetaryAmounts {
 	 *             specification of {@link MonetaryAmount}
 	 */
 	public static MonetaryAmount getAmount(String amount) {
-		return new MonetaryAmount(amount);
+		return MonetaryAmount.of(MonetaryValueValidator.validNumber("amount", amount));
 	}
 
 	/**
@@ -47,7 +53,7 @@ public final class MonetaryAmounts {
 	 *             specification of {@link MonetaryAmount}
 	 */
 	public static MonetaryAmount getAmount(BigDecimal amount) {
-		return new MonetaryAmount(amount);
+		return MonetaryAmount.of(amount);
 	}
 
 	/**
@@ -150,6 +156,310 @@ public final class MonetaryAmounts {
 		return dividend.divide(divisor);
 	}
 
+	/**
+	 * Accumulates {@code amounts} into a {@link MonetaryAccumulator}. No
+	 * intermediate {@link MonetaryAmount} is created, the constraints are
+	 * checked once when a result is read from the accumulator.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null} and without {@code null}
+	 *            elements
+	 *
+	 * @return The accumulator holding the amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 */
+	public static MonetaryAccumulator summarize(Collection<? extends MonetaryAmount> amounts) {
+		MonetaryAccumulator accumulator = new MonetaryAccumulator();
+		for (MonetaryAmount amount : amounts) {
+			accumulator.add(amount);
+		}
+		return accumulator;
+	}
+
+	/**
+	 * Accumulates {@code amounts} into a {@link MonetaryAccumulator}, a
+	 * parallel stream is accumulated on the fork-join pool.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null} and without {@code null}
+	 *            elements
+	 *
+	 * @return The accumulator holding the amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 *
+	 * @see MonetaryAccumulator#collector()
+	 */
+	public static MonetaryAccumulator summarize(Stream<? extends MonetaryAmount> amounts) {
+		return amounts.collect(MonetaryAccumulator.collector());
+	}
+
+	/**
+	 * Accumulates amounts given as unscaled values in units of
+	 * 10^-{@link MonetaryAmount#SCALE} into a {@link MonetaryAccumulator}.
+	 *
+	 * @param unscaled
+	 *            The unscaled amounts, not {@code null}
+	 *
+	 * @return The accumulator holding the amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code unscaled} is {@code null}
+	 */
+	public static MonetaryAccumulator summarize(long... unscaled) {
+		MonetaryAccumulator accumulator = new MonetaryAccumulator();
+		for (long amount : unscaled) {
+			accumulator.addUnscaled(amount);
+		}
+		return accumulator;
+	}
+
+	/**
+	 * Accumulates {@code amounts} on the fork-join pool. The result is the
+	 * same as the one of {@link #summarize(Collection)}.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null} and without {@code null}
+	 *            elements
+	 *
+	 * @return The accumulator holding the amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 */
+	public static MonetaryAccumulator parallelSummarize(Collection<? extends MonetaryAmount> amounts) {
+		return summarize(amounts.parallelStream());
+	}
+
+	/**
+	 * Accumulates unscaled amounts on the fork-join pool. The result is the
+	 * same as the one of {@link #summarize(long...)}.
+	 *
+	 * @param unscaled
+	 *            The unscaled amounts, not {@code null}
+	 *
+	 * @return The accumulator holding the amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code unscaled} is {@code null}
+	 */
+	public static MonetaryAccumulator parallelSummarize(long... unscaled) {
+		return Arrays.stream(unscaled).parallel()
+				.collect(MonetaryAccumulator::new, MonetaryAccumulator::addUnscaled, MonetaryAccumulator::combine);
+	}
+
+	/**
+	 * Sums amounts, validating only the total.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null}
+	 *
+	 * @return The sum, {@link MonetaryAmount#ZERO} if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 * @throws ConstraintViolationException
+	 *             Thrown if the <i>result</i> is not a valid representation of a
+	 *             {@link MonetaryAmount}.
+	 */
+	public static MonetaryAmount sum(Collection<? extends MonetaryAmount> amounts) {
+		return summarize(amounts).sum();
+	}
+
+	/**
+	 * Sums amounts, validating only the total.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null}
+	 *
+	 * @return The sum, {@link MonetaryAmount#ZERO} if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 * @throws ConstraintViolationException
+	 *             Thrown if the <i>result</i> is not a valid representation of a
+	 *             {@link MonetaryAmount}.
+	 */
+	public static MonetaryAmount sum(Stream<? extends MonetaryAmount> amounts) {
+		return summarize(amounts).sum();
+	}
+
+	/**
+	 * Sums amounts, validating only the total.
+	 *
+	 * @param unscaled
+	 *            The unscaled amounts, not {@code null}
+	 *
+	 * @return The sum, {@link MonetaryAmount#ZERO} if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code unscaled} is {@code null}
+	 * @throws ConstraintViolationException
+	 *             Thrown if the <i>result</i> is not a valid representation of a
+	 *             {@link MonetaryAmount}.
+	 */
+	public static MonetaryAmount sum(long... unscaled) {
+		return summarize(unscaled).sum();
+	}
+
+	/**
+	 * Averages amounts, rounded like {@link MonetaryAmount#divide(BigDecimal)}.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null}
+	 *
+	 * @return The average, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 * @throws ConstraintViolationException
+	 *             Thrown if the <i>result</i> is not a valid representation of a
+	 *             {@link MonetaryAmount}.
+	 */
+	public static Optional<MonetaryAmount> average(Collection<? extends MonetaryAmount> amounts) {
+		return summarize(amounts).average();
+	}
+
+	/**
+	 * Averages amounts, rounded like {@link MonetaryAmount#divide(BigDecimal)}.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null}
+	 *
+	 * @return The average, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 * @throws ConstraintViolationException
+	 *             Thrown if the <i>result</i> is not a valid representation of a
+	 *             {@link MonetaryAmount}.
+	 */
+	public static Optional<MonetaryAmount> average(Stream<? extends MonetaryAmount> amounts) {
+		return summarize(amounts).average();
+	}
+
+	/**
+	 * Averages amounts, rounded like {@link MonetaryAmount#divide(BigDecimal)}.
+	 *
+	 * @param unscaled
+	 *            The unscaled amounts, not {@code null}
+	 *
+	 * @return The average, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code unscaled} is {@code null}
+	 * @throws ConstraintViolationException
+	 *             Thrown if the <i>result</i> is not a valid representation of a
+	 *             {@link MonetaryAmount}.
+	 */
+	public static Optional<MonetaryAmount> average(long... unscaled) {
+		return summarize(unscaled).average();
+	}
+
+	/**
+	 * Returns the smallest of the amounts.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null}
+	 *
+	 * @return The smallest amount, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 */
+	public static Optional<MonetaryAmount> min(Collection<? extends MonetaryAmount> amounts) {
+		return summarize(amounts).min();
+	}
+
+	/**
+	 * Returns the smallest of the amounts.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null}
+	 *
+	 * @return The smallest amount, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 */
+	public static Optional<MonetaryAmount> min(Stream<? extends MonetaryAmount> amounts) {
+		return summarize(amounts).min();
+	}
+
+	/**
+	 * Returns the smallest of the amounts.
+	 *
+	 * @param unscaled
+	 *            The unscaled amounts, not {@code null}
+	 *
+	 * @return The smallest amount, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code unscaled} is {@code null}
+	 */
+	public static Optional<MonetaryAmount> min(long... unscaled) {
+		return summarize(unscaled).min();
+	}
+
+	/**
+	 * Returns the largest of the amounts.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null}
+	 *
+	 * @return The largest amount, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 */
+	public static Optional<MonetaryAmount> max(Collection<? extends MonetaryAmount> amounts) {
+		return summarize(amounts).max();
+	}
+
+	/**
+	 * Returns the largest of the amounts.
+	 *
+	 * @param amounts
+	 *            The amounts, not {@code null}
+	 *
+	 * @return The largest amount, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code amounts} or any of its elements are
+	 *             {@code null}
+	 */
+	public static Optional<MonetaryAmount> max(Stream<? extends MonetaryAmount> amounts) {
+		return summarize(amounts).max();
+	}
+
+	/**
+	 * Returns the largest of the amounts.
+	 *
+	 * @param unscaled
+	 *            The unscaled amounts, not {@code null}
+	 *
+	 * @return The largest amount, empty if there are no amounts
+	 *
+	 * @throws NullPointerException
+	 *             Thrown if {@code unscaled} is {@code null}
+	 */
+	public static Optional<MonetaryAmount> max(long... unscaled) {
+		return summarize(unscaled).max();
+	}
+
 	/**
 	 * Get if {@code value} is positive (greater than zero).
 	 *
@@ -241,7 +551,7 @@ public final class MonetaryAmounts {
 	 * @return The monetary amount
 	 */
 	public static MonetaryAmount convertFromCents(int cents) {
-		return new MonetaryAmount(BigDecimalUtil.convertFromCents(cents));
+		return MonetaryAmount.ofCents(cents);
 	}
 
 	/**
@@ -27,11 +27,24 @@ import javax.validation.constraints.PositiveOrZero;
  * validate monetary values should be to use JSR 303 annotations. This can be done with
  * {@link MonetaryValue} (in combination with standard annotations like {@link NotNull},
  * {@link NotBlank}, {@link Positive}, {@link PositiveOrZero} etc where applicable).
+ *
+ * The rules of the annotations are checked directly, the {@link Validator} is only
+ * asked for the violations once a value is known to be invalid, so the exceptions
+ * are the same as the ones of the annotations.
  */
 public class MonetaryValueValidator {
 
 	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
 
+	private static final int INTEGER_DIGITS = MonetaryAmount.PRECISION - MonetaryAmount.SCALE;
+
+	static {
+		// builds the constraint metadata up front instead of on the first invalid value
+		VALIDATOR.getConstraintsForClass(NumericStringContainer.class);
+		VALIDATOR.getConstraintsForClass(BigDecimalContainer.class);
+		VALIDATOR.getConstraintsForClass(MonetaryAmount.class);
+	}
+
 	/**
 	 * This class is only a bearer of validation annotations.
 	 */
@@ -71,7 +84,7 @@ public class MonetaryValueValidator {
 	 * </pre>
 	 */
 	public static BigDecimal validNumber(String name, BigDecimal number) {
-		return validateNumber(name, number);
+		return validateNumber(name, number, null);
 	}
 
 	/**
@@ -93,7 +106,7 @@ public class MonetaryValueValidator {
 	 * </pre>
 	 */
 	public static BigDecimal validAmount(String name, BigDecimal amount) {
-		return validateAmount(name, amount);
+		return validateAmount(name, amount, null);
 	}
 
 	/**
@@ -168,27 +181,79 @@ public class MonetaryValueValidator {
 		return validateAmount(name, amount, NotNegativeAmount.class);
 	}
 
-	private static BigDecimal validateAmount(String name, BigDecimal amount, Class<?>... groups) {
-		Set<ConstraintViolation<MonetaryAmount>> violations = VALIDATOR
-				.validateValue(MonetaryAmount.class, "value", amount, groups);
-		checkViolations(name, violations);
+	/**
+	 * Returns the validator reporting the violations, pre-warmed with the
+	 * monetary constraints. It is shared with the validation auto-configuration.
+	 *
+	 * @return the shared validator.
+	 */
+	public static Validator getValidator() {
+		return VALIDATOR;
+	}
+
+	private static BigDecimal validateAmount(String name, BigDecimal amount, Class<?> group) {
+		boolean valid = group == null
+				? amount != null && isMonetaryValue(amount)
+				: isInGroup(amount, group);
+		if (!valid) {
+			checkViolations(name, group == null
+					? VALIDATOR.validateValue(MonetaryAmount.class, "value", amount)
+					: VALIDATOR.validateValue(MonetaryAmount.class, "value", amount, group));
+		}
 		return amount;
 	}
 
 	private static BigDecimal validateNumber(String name, String number) {
+		if (number != null) {
+			try {
+				// any number BigDecimal parses is a non-blank string with valid digits
+				return new BigDecimal(number);
+			} catch (NumberFormatException e) {
+				// reported by the validator below
+			}
+		}
 		Set<ConstraintViolation<NumericStringContainer>> violations = VALIDATOR
 				.validateValue(NumericStringContainer.class, "value", number);
 		checkViolations(name, violations);
 		return new BigDecimal(number);
 	}
 
-	private static BigDecimal validateNumber(String name, BigDecimal number, Class<?>... groups) {
-		Set<ConstraintViolation<BigDecimalContainer>> violations = VALIDATOR
-				.validateValue(BigDecimalContainer.class, "value", number, groups);
-		checkViolations(name, violations);
+	private static BigDecimal validateNumber(String name, BigDecimal number, Class<?> group) {
+		boolean valid = group == null ? number != null : isInGroup(number, group);
+		if (!valid) {
+			checkViolations(name, group == null
+					? VALIDATOR.validateValue(BigDecimalContainer.class, "value", number)
+					: VALIDATOR.validateValue(BigDecimalContainer.class, "value", number, group));
+		}
 		return number;
 	}
 
+	/**
+	 * {@code @Digits(integer = 11, fraction = 8)} and {@code @DecimalMax(MAX_MONETARY_VALUE)}
+	 * of {@link MonetaryValue}, trailing zeros count as digits as they do for {@link Digits}.
+	 */
+	private static boolean isMonetaryValue(BigDecimal amount) {
+		long integerDigits = (long) amount.precision() - amount.scale();
+		return amount.scale() <= MonetaryAmount.SCALE
+				&& (integerDigits < INTEGER_DIGITS
+						|| integerDigits == INTEGER_DIGITS
+								&& amount.compareTo(MonetaryAmount.MAX_MONETARY_AMOUNT) <= 0);
+	}
+
+	/**
+	 * The constraints of the {@link PositiveAmount} and {@link NotNegativeAmount} groups,
+	 * they consider {@code null} valid. Any other group is left to the validator.
+	 */
+	private static boolean isInGroup(BigDecimal number, Class<?> group) {
+		if (group == PositiveAmount.class) {
+			return number == null || number.signum() > 0;
+		}
+		if (group == NotNegativeAmount.class) {
+			return number == null || number.signum() >= 0;
+		}
+		return false;
+	}
+
 	private static void checkViolations(String name, Set<? extends ConstraintViolation<?>> violations) {
 		if (violations != null && !violations.isEmpty()) {
 			String defaultMessage = new ConstraintViolationException(violations).getMessage();
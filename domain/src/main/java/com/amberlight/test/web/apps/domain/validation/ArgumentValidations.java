@@ -244,6 +244,57 @@ public class ArgumentValidations {
         }
     }
 
+    /**
+     * Ensures that the provided argument (collection) has at most
+     * {@code maxSize} elements, and throws an exception if it has more. A null
+     * argument is not checked.
+     *
+     * @param argumentName
+     *            name of the argument
+     *
+     * @param argument
+     *            argument (collection) to validate.
+     *
+     * @param maxSize
+     *            maximum allowed number of elements
+     *
+     * @throws IllegalStateException
+     *             if the argument (collection) has more than {@code maxSize}
+     *             elements
+     */
+    public static void notLargerThan(String argumentName, Collection<?> argument, int maxSize) {
+        if (argument != null && argument.size() > maxSize) {
+            throw new IllegalStateException(String.format(
+                    "The argument (collection) %s must not be larger than %s, size was: %s",
+                    argumentName, maxSize, argument.size()));
+        }
+    }
+
+    /**
+     * Ensures that the provided argument (map) has at most {@code maxSize}
+     * entries, and throws an exception if it has more. A null argument is not
+     * checked.
+     *
+     * @param argumentName
+     *            name of the argument
+     *
+     * @param argument
+     *            argument (map) to validate.
+     *
+     * @param maxSize
+     *            maximum allowed number of entries
+     *
+     * @throws IllegalStateException
+     *             if the argument (map) has more than {@code maxSize} entries
+     */
+    public static void notLargerThan(String argumentName, Map<?, ?> argument, int maxSize) {
+        if (argument != null && argument.size() > maxSize) {
+            throw new IllegalStateException(String.format(
+                    "The argument (map) %s must not be larger than %s, size was: %s",
+                    argumentName, maxSize, argument.size()));
+        }
+    }
+
     /**
      * Ensures that the provided number argument is a valid, non-negative,
      * number and throws an exception if it is not.
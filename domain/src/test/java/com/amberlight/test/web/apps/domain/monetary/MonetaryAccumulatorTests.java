@@ -0,0 +1,197 @@
+package com.amberlight.test.web.apps.domain.monetary;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import javax.validation.ConstraintViolationException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks {@link MonetaryAccumulator} and the aggregations of
+ * {@link MonetaryAmounts} against a plain {@link BigDecimal} computation.
+ */
+class MonetaryAccumulatorTests {
+
+	private static final BigDecimal MAX_UNSCALED = MonetaryAmount.MAX_MONETARY_AMOUNT
+			.movePointRight(MonetaryAmount.SCALE);
+
+	private final Random random = new Random(20221025);
+
+	@Test
+	public void testSum_sameAsReduce() {
+		for (int run = 0; run < 50; run++) {
+			List<MonetaryAmount> amounts = amounts(random.nextInt(500));
+
+			MonetaryAmount expected = amounts.stream().reduce(MonetaryAmount.ZERO, MonetaryAmount::add);
+
+			assertSameValue(expected, MonetaryAmounts.sum(amounts));
+			assertSameValue(expected, MonetaryAmounts.sum(amounts.stream()));
+			assertSameValue(expected, MonetaryAmounts.parallelSummarize(amounts).sum());
+			assertSameValue(expected, MonetaryAmounts.summarize(amounts.parallelStream()).sum());
+		}
+	}
+
+	@Test
+	public void testAverageMinMax_sameAsBigDecimal() {
+		for (int run = 0; run < 50; run++) {
+			List<MonetaryAmount> amounts = amounts(1 + random.nextInt(500));
+			BigDecimal sum = amounts.stream().map(MonetaryAmount::getValue).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+			MonetaryAccumulator accumulator = MonetaryAmounts.summarize(amounts);
+
+			assertSameValue(new MonetaryAmount(sum.divide(BigDecimal.valueOf(amounts.size()), MonetaryAmount.SCALE,
+					MonetaryAmount.ROUNDING_MODE)), accumulator.average().get());
+			assertEquals(amounts.stream().min(MonetaryAmount::compareTo), accumulator.min());
+			assertEquals(amounts.stream().max(MonetaryAmount::compareTo), accumulator.max());
+			assertEquals(amounts.size(), accumulator.count());
+		}
+	}
+
+	@Test
+	public void testUnscaled_sameAsAmounts() {
+		for (int run = 0; run < 50; run++) {
+			long[] unscaled = new long[random.nextInt(500)];
+			for (int i = 0; i < unscaled.length; i++) {
+				unscaled[i] = random.nextLong() >> (10 + random.nextInt(54));
+			}
+			BigDecimal expected = Arrays.stream(unscaled)
+					.mapToObj(value -> BigDecimal.valueOf(value, MonetaryAmount.SCALE))
+					.reduce(BigDecimal.ZERO, BigDecimal::add);
+
+			MonetaryAccumulator sequential = MonetaryAmounts.summarize(unscaled);
+			MonetaryAccumulator parallel = MonetaryAmounts.parallelSummarize(unscaled);
+
+			assertEquals(0, expected.compareTo(sequential.sum().getValue()));
+			assertSameValue(sequential.sum(), parallel.sum());
+			assertEquals(sequential.average(), parallel.average());
+			assertEquals(sequential.min(), parallel.min());
+			assertEquals(sequential.max(), parallel.max());
+		}
+	}
+
+	@Test
+	public void testSum_intermediateOverflow() {
+		MonetaryAmount max = new MonetaryAmount(MonetaryAmount.MAX_MONETARY_AMOUNT);
+
+		// the intermediate sum exceeds both the monetary range and a long
+		List<MonetaryAmount> amounts = Arrays.asList(max, max, max.negate(), max.negate(), MonetaryAmount.ONE);
+
+		assertSameValue(MonetaryAmount.ONE, MonetaryAmounts.sum(amounts));
+		assertSameValue(MonetaryAmount.ONE, MonetaryAmounts.sum(Long.MAX_VALUE, Long.MAX_VALUE, -Long.MAX_VALUE,
+				-Long.MAX_VALUE, 100_000_000L));
+		assertSameValue(new MonetaryAmount("0.2"), MonetaryAmounts.average(amounts).get());
+	}
+
+	@Test
+	public void testSum_outOfRange() {
+		MonetaryAmount max = new MonetaryAmount(MonetaryAmount.MAX_MONETARY_AMOUNT);
+
+		assertThrows(ConstraintViolationException.class,
+				() -> MonetaryAmounts.sum(Arrays.asList(max, new MonetaryAmount("0.00000001"))));
+		assertThrows(ConstraintViolationException.class,
+				() -> MonetaryAmounts.sum(Arrays.asList(max.negate(), new MonetaryAmount("-0.00000001"))));
+		assertThrows(ConstraintViolationException.class,
+				() -> MonetaryAmounts.sum(Long.MAX_VALUE, Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testEmpty() {
+		MonetaryAccumulator accumulator = new MonetaryAccumulator();
+
+		assertSame(MonetaryAmount.ZERO, accumulator.sum());
+		assertEquals(Optional.empty(), accumulator.average());
+		assertEquals(Optional.empty(), accumulator.min());
+		assertEquals(Optional.empty(), accumulator.max());
+		assertSame(MonetaryAmount.ZERO, MonetaryAmounts.sum(new long[0]));
+		assertFalse(MonetaryAmounts.parallelSummarize(new ArrayList<>()).average().isPresent());
+	}
+
+	@Test
+	public void testAverage_longMinValue() {
+		MonetaryAccumulator accumulator = new MonetaryAccumulator().addUnscaled(Long.MIN_VALUE);
+
+		assertSameValue(new MonetaryAmount(BigDecimal.valueOf(Long.MIN_VALUE, MonetaryAmount.SCALE)),
+				accumulator.average().get());
+	}
+
+	@Test
+	public void testCombine() {
+		List<MonetaryAmount> amounts = amounts(1_000);
+		MonetaryAccumulator expected = MonetaryAmounts.summarize(amounts);
+
+		MonetaryAccumulator first = MonetaryAmounts.summarize(amounts.subList(0, 300));
+		MonetaryAccumulator second = MonetaryAmounts.summarize(amounts.subList(300, 1_000));
+
+		assertSame(first, first.combine(second));
+		assertSameValue(expected.sum(), first.sum());
+		assertEquals(expected.average(), first.average());
+		assertEquals(expected.min(), first.min());
+		assertEquals(expected.max(), first.max());
+		assertEquals(1_000, first.count());
+	}
+
+	@Test
+	public void testReset() {
+		MonetaryAccumulator accumulator = MonetaryAmounts.summarize(amounts(100));
+
+		accumulator.reset();
+		accumulator.add(MonetaryAmount.TEN).addUnscaled(100_000_000L);
+
+		assertSameValue(new MonetaryAmount("11"), accumulator.sum());
+		assertEquals(Optional.of(MonetaryAmount.ONE), accumulator.min());
+		assertEquals(Optional.of(MonetaryAmount.TEN), accumulator.max());
+		assertEquals(2, accumulator.count());
+	}
+
+	@Test
+	public void testAdd_null() {
+		assertThrows(NullPointerException.class, () -> new MonetaryAccumulator().add(null));
+		assertThrows(NullPointerException.class, () -> MonetaryAmounts.sum(Arrays.asList(MonetaryAmount.ONE, null)));
+	}
+
+	private static void assertSameValue(MonetaryAmount expected, MonetaryAmount actual) {
+		assertEquals(expected.getValue(), actual.getValue());
+		assertEquals(MonetaryAmount.SCALE, actual.getValue().scale());
+	}
+
+	/**
+	 * Creates prices and amounts over the whole monetary range, including the
+	 * ones that do not fit an unscaled {@code long}. The running total stays in
+	 * the monetary range, the partial sums of a parallel split may not.
+	 */
+	private List<MonetaryAmount> amounts(int count) {
+		List<MonetaryAmount> amounts = new ArrayList<>(count);
+		BigDecimal sum = BigDecimal.ZERO;
+		for (int i = 0; i < count; i++) {
+			BigDecimal unscaled;
+			if (random.nextBoolean()) {
+				unscaled = BigDecimal.valueOf(random.nextInt(1_000_000) * 1_000_000L);
+			} else {
+				unscaled = new BigDecimal(new BigInteger(64, random)).min(MAX_UNSCALED);
+			}
+			if (random.nextBoolean() && sum.signum() > 0) {
+				unscaled = unscaled.negate();
+			}
+			sum = sum.add(unscaled);
+			if (sum.abs().compareTo(MAX_UNSCALED) > 0) {
+				sum = sum.subtract(unscaled);
+				unscaled = unscaled.negate();
+				sum = sum.add(unscaled);
+			}
+			amounts.add(new MonetaryAmount(unscaled.movePointLeft(MonetaryAmount.SCALE)));
+		}
+		return amounts;
+	}
+
+}
@@ -0,0 +1,227 @@
+package com.amberlight.test.web.apps.domain.monetary;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+
+import com.amberlight.test.web.apps.domain.monetary.validation.MonetaryValueValidator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the fixed-point fast path of {@link MonetaryAmount} against the plain
+ * {@link BigDecimal} computation on random operands, including the amounts
+ * that do not fit a {@code long} and rounding ties.
+ */
+class MonetaryAmountFixedPointTests {
+
+	private static final int RUNS = 10_000;
+
+	private static final BigDecimal[] EDGES = {
+			BigDecimal.ZERO,
+			new BigDecimal("0.00000001"),
+			new BigDecimal("0.00000005"),
+			new BigDecimal("0.5"),
+			BigDecimal.ONE,
+			BigDecimal.valueOf(Long.MAX_VALUE, MonetaryAmount.SCALE),
+			BigDecimal.valueOf(Long.MIN_VALUE, MonetaryAmount.SCALE),
+			BigDecimal.valueOf(Long.MAX_VALUE, MonetaryAmount.SCALE).add(new BigDecimal("0.00000001")),
+			MonetaryAmount.MAX_MONETARY_AMOUNT
+	};
+
+	private final Random random = new Random(20221018);
+
+	@Test
+	public void testAdd() {
+		for (int i = 0; i < RUNS; i++) {
+			MonetaryAmount first = amount();
+			MonetaryAmount second = amount();
+
+			assertSameOutcome(() -> new MonetaryAmount(first.getValue().add(second.getValue())),
+					() -> first.add(second));
+		}
+	}
+
+	@Test
+	public void testSubtract() {
+		for (int i = 0; i < RUNS; i++) {
+			MonetaryAmount first = amount();
+			MonetaryAmount second = amount();
+
+			assertSameOutcome(() -> new MonetaryAmount(first.getValue().subtract(second.getValue())),
+					() -> first.subtract(second));
+		}
+	}
+
+	@Test
+	public void testMultiply() {
+		for (int i = 0; i < RUNS; i++) {
+			MonetaryAmount first = amount();
+			MonetaryAmount second = amount();
+
+			assertSameOutcome(() -> multiplied(first, second.getValue()), () -> first.multiply(second));
+		}
+	}
+
+	@Test
+	public void testMultiply_bigDecimal() {
+		for (int i = 0; i < RUNS; i++) {
+			MonetaryAmount amount = amount();
+			BigDecimal multiplicand = decimal();
+
+			assertSameOutcome(() -> multiplied(amount, multiplicand), () -> amount.multiply(multiplicand));
+		}
+	}
+
+	@Test
+	public void testMultiply_ties() {
+		MonetaryAmount amount = new MonetaryAmount("0.00000001");
+
+		assertEquals(new BigDecimal("0.00000000"), amount.multiply(new BigDecimal("0.5")).getValue());
+		assertEquals(new BigDecimal("-0.00000000"), amount.negate().multiply(new BigDecimal("0.5")).getValue());
+		assertEquals(new BigDecimal("0.00000001"), amount.multiply(new BigDecimal("0.500000001")).getValue());
+		assertEquals(new BigDecimal("-0.00000002"),
+				new MonetaryAmount("-0.00000005").multiply(new BigDecimal("0.5")).getValue());
+	}
+
+	@Test
+	public void testDivide() {
+		for (int i = 0; i < RUNS; i++) {
+			MonetaryAmount dividend = amount();
+			MonetaryAmount divisor = amount();
+
+			assertSameOutcome(() -> divided(dividend, divisor.getValue()), () -> dividend.divide(divisor));
+		}
+	}
+
+	@Test
+	public void testDivide_bigDecimal() {
+		for (int i = 0; i < RUNS; i++) {
+			MonetaryAmount dividend = amount();
+			BigDecimal divisor = decimal();
+
+			assertSameOutcome(() -> divided(dividend, divisor), () -> dividend.divide(divisor));
+		}
+	}
+
+	@Test
+	public void testDivide_ties() {
+		MonetaryAmount amount = new MonetaryAmount("0.00000001");
+
+		assertEquals(new BigDecimal("0.00000000"), amount.divide(new BigDecimal("2")).getValue());
+		assertEquals(new BigDecimal("0.00000002"), new MonetaryAmount("0.00000005").divide(BigDecimal.valueOf(2))
+				.getValue());
+		assertEquals(new BigDecimal("-0.00000002"), new MonetaryAmount("-0.00000005").divide(BigDecimal.valueOf(2))
+				.getValue());
+		assertEquals(new BigDecimal("0.33333333"), MonetaryAmount.ONE.divide(new BigDecimal("3")).getValue());
+		// divisors above 922.33720368 are divided digit by digit
+		assertEquals(new BigDecimal("0.50000000"), new MonetaryAmount("2500").divide(new MonetaryAmount("5000"))
+				.getValue());
+		assertEquals(new BigDecimal("0.00000001"), new MonetaryAmount("0.0003").divide(new MonetaryAmount("20000"))
+				.getValue());
+		assertEquals(new BigDecimal("0.00000000"), new MonetaryAmount("0.0001").divide(new MonetaryAmount("20000"))
+				.getValue());
+	}
+
+	@Test
+	public void testNegateAndCompare() {
+		for (int i = 0; i < RUNS; i++) {
+			MonetaryAmount first = amount();
+			MonetaryAmount second = amount();
+
+			assertSameOutcome(() -> new MonetaryAmount(first.getValue().negate()), first::negate);
+			assertEquals(Integer.signum(first.getValue().compareTo(second.getValue())),
+					Integer.signum(first.compareTo(second)));
+			assertEquals(first.getValue().compareTo(second.getValue()) == 0, first.equals(second));
+		}
+	}
+
+	@Test
+	public void testDivide_notPositive() {
+		assertThrows(ConstraintViolationException.class, () -> MonetaryAmount.ONE.divide(MonetaryAmount.ZERO));
+		assertThrows(ConstraintViolationException.class,
+				() -> MonetaryAmount.ONE.divide(MonetaryAmount.ONE.negate()));
+	}
+
+	private static MonetaryAmount multiplied(MonetaryAmount amount, BigDecimal multiplicand) {
+		return new MonetaryAmount(amount.getValue().multiply(multiplicand)
+				.setScale(MonetaryAmount.SCALE, MonetaryAmount.ROUNDING_MODE));
+	}
+
+	private static MonetaryAmount divided(MonetaryAmount amount, BigDecimal divisor) {
+		MonetaryValueValidator.positiveAmount("divisor", divisor);
+		return new MonetaryAmount(amount.getValue()
+				.divide(divisor, MonetaryAmount.SCALE, MonetaryAmount.ROUNDING_MODE));
+	}
+
+	/**
+	 * Asserts that the value and scale, or the violations, of an operation are
+	 * the same as the ones of its reference computation.
+	 */
+	private static void assertSameOutcome(Supplier<MonetaryAmount> reference, Supplier<MonetaryAmount> actual) {
+		MonetaryAmount expected;
+		try {
+			expected = reference.get();
+		} catch (ConstraintViolationException e) {
+			ConstraintViolationException thrown = assertThrows(ConstraintViolationException.class, actual::get);
+			assertEquals(messages(e), messages(thrown));
+			return;
+		}
+		BigDecimal value = actual.get().getValue();
+		assertEquals(expected.getValue(), value);
+		assertEquals(expected.getValue().unscaledValue(), value.unscaledValue());
+		assertEquals(MonetaryAmount.SCALE, value.scale());
+	}
+
+	private static Set<String> messages(ConstraintViolationException e) {
+		return e.getConstraintViolations().stream()
+				.map(ConstraintViolation::getMessage)
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Picks an amount from the edges, small prices or the whole monetary range.
+	 */
+	private MonetaryAmount amount() {
+		BigDecimal value;
+		switch (random.nextInt(4)) {
+			case 0:
+				value = EDGES[random.nextInt(EDGES.length)];
+				break;
+			case 1:
+				value = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+				break;
+			case 2:
+				value = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), MonetaryAmount.SCALE);
+				break;
+			default:
+				value = new BigDecimal(new BigInteger(64, random), MonetaryAmount.SCALE)
+						.min(MonetaryAmount.MAX_MONETARY_AMOUNT);
+				break;
+		}
+		return new MonetaryAmount(random.nextBoolean() ? value : value.negate());
+	}
+
+	/**
+	 * Picks a decimal of arbitrary sign, precision and scale.
+	 */
+	private BigDecimal decimal() {
+		int scale = random.nextInt(24) - 4;
+		BigInteger unscaled = random.nextInt(8) == 0
+				? new BigInteger(70 + random.nextInt(10), random)
+				: BigInteger.valueOf(random.nextLong() >> random.nextInt(64));
+		if (random.nextInt(8) == 0) {
+			unscaled = BigInteger.valueOf(5).multiply(BigInteger.TEN.pow(random.nextInt(4)));
+		}
+		return new BigDecimal(random.nextBoolean() ? unscaled : unscaled.negate(), scale);
+	}
+
+}
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -143,4 +144,51 @@ class MonetaryAmountTests {
 		assertNotEquals(new MonetaryAmount("1"), new MonetaryAmount("2"));
 	}
 
+	@Test
+	public void testOf_unscaled() {
+
+		assertEquals(scaledValue("-1.23456789"), MonetaryAmount.of(-123456789L).getValue());
+		assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, MonetaryAmount.SCALE),
+				MonetaryAmount.of(Long.MAX_VALUE).getValue());
+		assertSame(MonetaryAmount.ZERO, MonetaryAmount.of(0));
+		assertSame(MonetaryAmount.HUNDRED, MonetaryAmount.of(10_000_000_000L));
+		assertSame(MonetaryAmount.of(999_000_000L), MonetaryAmount.of(999_000_000L));
+	}
+
+	@Test
+	public void testOfCents() {
+
+		assertEquals(scaledValue("12.34"), MonetaryAmount.ofCents(1234).getValue());
+		assertEquals(scaledValue("-0.01"), MonetaryAmount.ofCents(-1).getValue());
+		assertSame(MonetaryAmount.ONE, MonetaryAmount.ofCents(100));
+		assertSame(MonetaryAmount.ofCents(1999), MonetaryAmount.of(new BigDecimal("19.99")));
+		assertEquals(MonetaryAmount.MAX_MONETARY_AMOUNT.setScale(2, RoundingMode.DOWN),
+				MonetaryAmount.ofCents(9_999_999_999_999L).getValue().stripTrailingZeros());
+		assertThrows(ConstraintViolationException.class, () -> MonetaryAmount.ofCents(10_000_000_000_000L));
+	}
+
+	@Test
+	public void testOf_bigDecimal() {
+
+		for (String amount : new String[] {"0", "0.1111", "-7", "1E+3", "9999999999.99999999",
+				"99999999999.99999999", "-99999999999", "0.123456785", "12.000000000"}) {
+			BigDecimal value = new BigDecimal(amount);
+
+			MonetaryAmount expected = new MonetaryAmount(value);
+			assertEquals(expected.getValue(), MonetaryAmount.of(value).getValue());
+			assertEquals(expected.getValue().scale(), MonetaryAmount.of(value).getValue().scale());
+		}
+		assertSame(MonetaryAmount.TEN, MonetaryAmount.of(new BigDecimal("10.00")));
+		assertThrows(ConstraintViolationException.class, () -> MonetaryAmount.of((BigDecimal) null));
+		assertThrows(ConstraintViolationException.class,
+				() -> MonetaryAmount.of(MonetaryAmount.MAX_MONETARY_AMOUNT.add(BigDecimal.ONE)));
+	}
+
+	@Test
+	public void testArithmetic_canonicalResult() {
+
+		assertSame(MonetaryAmount.ZERO, MonetaryAmount.TEN.subtract(MonetaryAmount.TEN));
+		assertSame(MonetaryAmount.HUNDRED, MonetaryAmount.TEN.multiply(MonetaryAmount.TEN));
+	}
+
 }
@@ -0,0 +1,108 @@
+package com.amberlight.test.web.apps.domain.monetary.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+
+import com.amberlight.test.web.apps.domain.monetary.MonetaryAmount;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the hand-coded rules of {@link MonetaryValueValidator} against the
+ * annotations of {@link MonetaryAmount} evaluated by a separate validator.
+ */
+class MonetaryValueConstraintsTests {
+
+	private static final Validator REFERENCE = Validation.buildDefaultValidatorFactory().getValidator();
+
+	@Test
+	public void testAmounts_sameAsAnnotations() {
+		for (BigDecimal amount : amounts()) {
+			assertSameOutcome(amount, MonetaryValueValidator::validAmount, REFERENCE
+					.validateValue(MonetaryAmount.class, "value", amount));
+			assertSameOutcome(amount, MonetaryValueValidator::positiveAmount, REFERENCE
+					.validateValue(MonetaryAmount.class, "value", amount, PositiveAmount.class));
+			assertSameOutcome(amount, MonetaryValueValidator::notNegativeAmount, REFERENCE
+					.validateValue(MonetaryAmount.class, "value", amount, NotNegativeAmount.class));
+		}
+	}
+
+	@Test
+	public void testStrings_sameAsAnnotations() {
+		for (String number : new String[] {null, "", " ", " 1", "1 ", "a", "1e20", "-0.000000001", "1E+2147483647"}) {
+			ConstraintViolationException thrown = assertThrows(ConstraintViolationException.class,
+					() -> MonetaryValueValidator.validAmount("name", number),
+					number);
+			BigDecimal parsed = parse(number);
+			if (parsed != null) {
+				assertEquals(messages(REFERENCE.validateValue(MonetaryAmount.class, "value", parsed)),
+						messages(thrown.getConstraintViolations()));
+			}
+		}
+	}
+
+	@Test
+	public void testValidator_shared() {
+		assertSame(MonetaryValueValidator.getValidator(), MonetaryValueValidator.getValidator());
+	}
+
+	private static void assertSameOutcome(BigDecimal amount, BiFunction<String, BigDecimal, BigDecimal> validation,
+			Set<ConstraintViolation<MonetaryAmount>> expected) {
+		if (expected.isEmpty()) {
+			assertSame(amount, validation.apply("name", amount));
+			return;
+		}
+		ConstraintViolationException thrown = assertThrows(ConstraintViolationException.class,
+				() -> validation.apply("name", amount),
+				String.valueOf(amount));
+		assertEquals(messages(expected), messages(thrown.getConstraintViolations()));
+		assertTrue(thrown.getMessage().startsWith("name is invalid; "));
+	}
+
+	private static Set<String> messages(Set<? extends ConstraintViolation<?>> violations) {
+		return violations.stream()
+				.map(ConstraintViolation::getMessage)
+				.collect(Collectors.toSet());
+	}
+
+	private static BigDecimal parse(String number) {
+		try {
+			return new BigDecimal(number);
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static List<BigDecimal> amounts() {
+		List<BigDecimal> amounts = new ArrayList<>();
+		amounts.add(null);
+		for (String amount : new String[] {"0", "0E-12", "0E+5", "-0", "1", "-1", "0.00000001", "0.000000001",
+				"1.000000000", "1E+10", "1E+11", "-1E+11", "99999999999.99999999", "99999999999.999999990",
+				"100000000000", "-99999999999.99999999", "-100000000000", "9.9999999999999999999E+10"}) {
+			amounts.add(new BigDecimal(amount));
+		}
+		Random random = new Random(23);
+		for (int i = 0; i < 5_000; i++) {
+			BigInteger unscaled = new BigInteger(1 + random.nextInt(72), random);
+			amounts.add(new BigDecimal(random.nextBoolean() ? unscaled : unscaled.negate(), random.nextInt(30) - 10));
+		}
+		return amounts;
+	}
+
+}